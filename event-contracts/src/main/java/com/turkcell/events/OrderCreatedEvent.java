@@ -0,0 +1,19 @@
+package com.turkcell.events;
+
+/**
+ * order-service'in order-topic'e yayınladığı sipariş olayı
+ * Kafka mesaj anahtarı productId'dir.
+ *
+ * Şema sürümleri (OrderCreatedEventCodec):
+ * - v1: productId
+ * - v2: quantity eklendi (v1 olaylarında null, 1 kabul edilir)
+ *
+ * @param productId Sipariş edilen ürün
+ * @param quantity  Sipariş miktarı
+ */
+public record OrderCreatedEvent(String productId, Integer quantity) {
+
+    public int quantityOrDefault() {
+        return quantity == null ? 1 : quantity;
+    }
+}
@@ -0,0 +1,83 @@
+package com.turkcell.events.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servisler arası olayların binary formatı
+ *
+ * [0xC5][tip numarası varint][şema sürümü varint][alanlar...]
+ *
+ * Başlık, alıcının olayı doğru tip ve sürümle okumasını sağlar; alanlar
+ * numaralı ve tiplidir (bkz. EventCodec evrim kuralları).
+ */
+public final class BinaryEventCodec {
+    public static final byte MAGIC = (byte) 0xC5;
+
+    private static final BinaryEventCodec STANDARD = new BinaryEventCodec(List.of(new OrderCreatedEventCodec()));
+
+    private final Map<Class<?>, EventCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, EventCodec<?>> codecsById = new HashMap<>();
+
+    public BinaryEventCodec(List<EventCodec<?>> codecs) {
+        for (EventCodec<?> codec : codecs) {
+            if (codecsById.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("Tip numarası birden fazla olayda kullanılıyor: " + codec.typeId());
+            }
+            codecsByType.put(codec.eventType(), codec);
+        }
+    }
+
+    /**
+     * Paylaşılan tüm olay sözleşmelerini içeren codec
+     */
+    public static BinaryEventCodec standard() {
+        return STANDARD;
+    }
+
+    public boolean supports(Class<?> type) {
+        return codecsByType.containsKey(type);
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == MAGIC;
+    }
+
+    public byte[] encode(Object event) {
+        EventCodec<Object> codec = codecFor(event.getClass());
+        EventWriter writer = new EventWriter(32);
+        writer.writeRawByte(MAGIC)
+                .writeRawVarint(codec.typeId())
+                .writeRawVarint(codec.schemaVersion());
+        codec.write(event, writer);
+        return writer.toByteArray();
+    }
+
+    public <T> T decode(byte[] data, Class<T> type) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Binary olay başlığı bulunamadı");
+        }
+        EventReader reader = new EventReader(data, 1);
+        long typeId = reader.readRawVarint();
+        long schemaVersion = reader.readRawVarint();
+        EventCodec<Object> codec = codecFor(type);
+        if (typeId != codec.typeId()) {
+            throw new IllegalArgumentException("Olay tipi " + typeId + " " + type.getSimpleName()
+                    + " olarak okunamaz (beklenen " + codec.typeId() + ")");
+        }
+        if (schemaVersion < 1 || schemaVersion > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Geçersiz şema sürümü: " + schemaVersion);
+        }
+        return type.cast(codec.read(reader, (int) schemaVersion));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventCodec<Object> codecFor(Class<?> type) {
+        EventCodec<?> codec = codecsByType.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("Binary şeması tanımlı olmayan olay: " + type.getName());
+        }
+        return (EventCodec<Object>) codec;
+    }
+}
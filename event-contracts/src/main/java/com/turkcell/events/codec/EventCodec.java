@@ -0,0 +1,35 @@
+package com.turkcell.events.codec;
+
+/**
+ * Tek bir olay tipinin binary şeması
+ *
+ * Şema evrimi kuralları:
+ * - Alan numaraları bir kez kullanıldıktan sonra değiştirilmez ve tekrar kullanılmaz
+ * - Yeni alan eklendiğinde schemaVersion artırılır; read() eski sürümlerde
+ *   olmayan alanlar için varsayılan değer kullanır (geriye uyumluluk)
+ * - read() tanımadığı alanları atlar; eski okuyucular yeni sürümleri okuyabilir
+ *   (ileriye uyumluluk)
+ *
+ * @param <T> Olay tipi
+ */
+public interface EventCodec<T> {
+
+    Class<T> eventType();
+
+    /**
+     * Olay tipinin başlıktaki kalıcı numarası
+     */
+    int typeId();
+
+    /**
+     * write() ile yazılan şema sürümü
+     */
+    int schemaVersion();
+
+    void write(T event, EventWriter writer);
+
+    /**
+     * @param schemaVersion Verinin yazıldığı şema sürümü (bu codec'inkinden büyük olabilir)
+     */
+    T read(EventReader reader, int schemaVersion);
+}
@@ -0,0 +1,131 @@
+package com.turkcell.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * EventWriter ile yazılmış alanları sırayla okur
+ * Tipik kullanım: nextField() ile alan numarasını al, bilinen alanları oku,
+ * bilinmeyenleri skipField() ile atla (ileri uyumluluk).
+ */
+public final class EventReader {
+    private final byte[] data;
+    private int position;
+    private int wireType = -1;
+
+    public EventReader(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    /**
+     * Sıradaki alanın numarasını döner; veri bittiyse 0
+     */
+    public int nextField() {
+        if (position >= data.length) {
+            wireType = -1;
+            return 0;
+        }
+        long key = readRawVarint();
+        wireType = (int) (key & 0x7);
+        int field = (int) (key >>> 3);
+        if (field <= 0) {
+            throw new IllegalArgumentException("Geçersiz alan numarası: " + field);
+        }
+        return field;
+    }
+
+    public long readVarint() {
+        requireWireType(WireType.VARINT);
+        return readRawVarint();
+    }
+
+    public int readInt() {
+        long value = readVarint();
+        if (value != (int) value) {
+            throw new IllegalArgumentException("int aralığı dışında değer: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readFixed64() {
+        requireWireType(WireType.FIXED64);
+        return readRawLong();
+    }
+
+    public String readString() {
+        requireWireType(WireType.LENGTH_DELIMITED);
+        int length = readLength();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        requireWireType(WireType.LENGTH_DELIMITED);
+        if (readLength() != 16) {
+            throw new IllegalArgumentException("UUID alanı 16 byte olmalıdır");
+        }
+        return new UUID(readRawLong(), readRawLong());
+    }
+
+    /**
+     * Okuyucunun tanımadığı (daha yeni şemada eklenmiş) alanı atlar
+     */
+    public void skipField() {
+        switch (wireType) {
+            case WireType.VARINT -> readRawVarint();
+            case WireType.FIXED64 -> advance(8);
+            case WireType.LENGTH_DELIMITED -> advance(readLength());
+            default -> throw new IllegalArgumentException("Bilinmeyen wire type: " + wireType);
+        }
+    }
+
+    /**
+     * Başlık gibi anahtarsız değerler için
+     */
+    public long readRawVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Varint tamamlanmadan veri bitti");
+            }
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint 10 byte'tan uzun");
+    }
+
+    private long readRawLong() {
+        advance(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value |= (data[position - 8 + i] & 0xFFL) << (8 * i);
+        }
+        return value;
+    }
+
+    private int readLength() {
+        long length = readRawVarint();
+        if (length < 0 || length > data.length - position) {
+            throw new IllegalArgumentException("Alan uzunluğu verinin dışına taşıyor: " + length);
+        }
+        return (int) length;
+    }
+
+    private void advance(int count) {
+        if (count > data.length - position) {
+            throw new IllegalArgumentException("Alan verinin dışına taşıyor");
+        }
+        position += count;
+    }
+
+    private void requireWireType(int expected) {
+        if (wireType != expected) {
+            throw new IllegalArgumentException("Beklenen wire type " + expected + ", okunan " + wireType);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.turkcell.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Olay alanlarını [anahtar][değer] dizisi olarak yazar
+ * Anahtar = (alan numarası << 3) | wire type, varint olarak kodlanır.
+ */
+public final class EventWriter {
+    private byte[] buffer;
+    private int position;
+
+    public EventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public EventWriter writeVarint(int field, long value) {
+        writeKey(field, WireType.VARINT);
+        writeRawVarint(value);
+        return this;
+    }
+
+    public EventWriter writeFixed64(int field, long value) {
+        writeKey(field, WireType.FIXED64);
+        writeRawLong(value);
+        return this;
+    }
+
+    public EventWriter writeString(int field, String value) {
+        return writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public EventWriter writeBytes(int field, byte[] value) {
+        writeKey(field, WireType.LENGTH_DELIMITED);
+        writeRawVarint(value.length);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+        return this;
+    }
+
+    /**
+     * UUID'yi 36 karakterlik metin yerine 16 byte olarak yazar
+     */
+    public EventWriter writeUuid(int field, UUID value) {
+        writeKey(field, WireType.LENGTH_DELIMITED);
+        writeRawVarint(16);
+        writeRawLong(value.getMostSignificantBits());
+        writeRawLong(value.getLeastSignificantBits());
+        return this;
+    }
+
+    /**
+     * Başlık gibi anahtarsız değerler için
+     */
+    public EventWriter writeRawVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public EventWriter writeRawByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeKey(int field, int wireType) {
+        if (field <= 0) {
+            throw new IllegalArgumentException("Alan numarası pozitif olmalıdır: " + field);
+        }
+        writeRawVarint(((long) field << 3) | wireType);
+    }
+
+    private void writeRawLong(long value) {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.turkcell.events.codec;
+
+import com.turkcell.events.OrderCreatedEvent;
+
+import java.util.UUID;
+
+/**
+ * OrderCreatedEvent şeması
+ *
+ * | Alan | Tip | Sürüm | Açıklama |
+ * | 1 | UUID (16 byte) | v1 | productId, kanonik UUID ise |
+ * | 2 | varint | v2 | quantity |
+ * | 3 | UTF-8 metin | v1 | productId, kanonik UUID değilse |
+ */
+public final class OrderCreatedEventCodec implements EventCodec<OrderCreatedEvent> {
+    public static final int TYPE_ID = 1;
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final int PRODUCT_ID_UUID = 1;
+    private static final int QUANTITY = 2;
+    private static final int PRODUCT_ID_TEXT = 3;
+
+    @Override
+    public Class<OrderCreatedEvent> eventType() {
+        return OrderCreatedEvent.class;
+    }
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void write(OrderCreatedEvent event, EventWriter writer) {
+        if (event.productId() == null) {
+            throw new IllegalArgumentException("Ürün ID'si null olamaz");
+        }
+        UUID uuid = canonicalUuidOrNull(event.productId());
+        if (uuid != null) {
+            writer.writeUuid(PRODUCT_ID_UUID, uuid);
+        } else {
+            writer.writeString(PRODUCT_ID_TEXT, event.productId());
+        }
+        if (event.quantity() != null) {
+            writer.writeVarint(QUANTITY, event.quantity());
+        }
+    }
+
+    @Override
+    public OrderCreatedEvent read(EventReader reader, int schemaVersion) {
+        String productId = null;
+        // v1 olaylarında alan yoktur; OrderCreatedEvent.quantityOrDefault() 1 kabul eder
+        Integer quantity = null;
+        for (int field = reader.nextField(); field != 0; field = reader.nextField()) {
+            switch (field) {
+                case PRODUCT_ID_UUID -> productId = reader.readUuid().toString();
+                case QUANTITY -> quantity = reader.readInt();
+                case PRODUCT_ID_TEXT -> productId = reader.readString();
+                default -> reader.skipField();
+            }
+        }
+        if (productId == null) {
+            throw new IllegalArgumentException("OrderCreatedEvent v" + schemaVersion + " productId içermiyor");
+        }
+        return new OrderCreatedEvent(productId, quantity);
+    }
+
+    /**
+     * Metin UUID'ye ve geri aynen çevrilebiliyorsa UUID döner; büyük harf veya
+     * kısa biçimler metin olarak yazılır ki okuyucu aynı değeri görsün
+     */
+    private static UUID canonicalUuidOrNull(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.events.codec;
+
+/**
+ * Alan değerinin kodlanma biçimi; anahtarın son 3 bitinde taşınır
+ * Okuyucu, tanımadığı bir alanı wire type sayesinde atlayabilir.
+ */
+public final class WireType {
+    /**
+     * İşaretsiz LEB128 varint (int, long, boolean, enum)
+     */
+    public static final int VARINT = 0;
+
+    /**
+     * 8 byte sabit uzunluk (little-endian)
+     */
+    public static final int FIXED64 = 1;
+
+    /**
+     * Varint uzunluk + byte'lar (String, UUID, iç içe yapı)
+     */
+    public static final int LENGTH_DELIMITED = 2;
+
+    private WireType() {
+    }
+}
@@ -0,0 +1,71 @@
+package com.turkcell.events.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.events.codec.BinaryEventCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Spring Cloud Stream için binary olay converter'ı
+ * Binding'de contentType: application/x-turkcell-event verildiğinde kullanılır.
+ * Binary başlığı taşımayan payload'lar (geçiş öncesi yayınlanmış JSON olaylar)
+ * verilen ObjectMapper ile okunur.
+ */
+public class BinaryEventMessageConverter extends AbstractMessageConverter {
+    public static final MimeType MIME_TYPE = new MimeType("application", "x-turkcell-event");
+
+    private final BinaryEventCodec codec;
+    @Nullable
+    private final ObjectMapper legacyJsonMapper;
+
+    public BinaryEventMessageConverter(BinaryEventCodec codec, @Nullable ObjectMapper legacyJsonMapper) {
+        super(MIME_TYPE);
+        this.codec = codec;
+        this.legacyJsonMapper = legacyJsonMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codec.supports(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, @Nullable Object conversionHint) {
+        byte[] payload = payloadBytes(message.getPayload());
+        try {
+            if (BinaryEventCodec.isBinary(payload)) {
+                return codec.decode(payload, targetClass);
+            }
+            if (legacyJsonMapper != null) {
+                return legacyJsonMapper.readValue(payload, targetClass);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            throw new MessageConversionException(message, targetClass.getSimpleName() + " okunamadı: "
+                    + e.getMessage(), e);
+        }
+        throw new MessageConversionException(message, "Binary olay başlığı bulunamadı");
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, @Nullable MessageHeaders headers,
+            @Nullable Object conversionHint) {
+        return codec.encode(payload);
+    }
+
+    private static byte[] payloadBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        throw new MessageConversionException("Desteklenmeyen payload tipi: " + payload.getClass().getName());
+    }
+}
@@ -0,0 +1,117 @@
+package com.turkcell.events.codec;
+
+import com.turkcell.events.OrderCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderCreatedEventCodecTest {
+    private static final String PRODUCT_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private final BinaryEventCodec codec = BinaryEventCodec.standard();
+
+    @Test
+    void roundTripsCurrentVersionCompactly() {
+        OrderCreatedEvent event = new OrderCreatedEvent(PRODUCT_ID, 3);
+
+        byte[] encoded = codec.encode(event);
+
+        assertEquals(event, codec.decode(encoded, OrderCreatedEvent.class));
+        // başlık 3 + UUID alanı 18 + miktar alanı 2
+        assertEquals(23, encoded.length);
+    }
+
+    @Test
+    void keepsNonCanonicalProductIdsAsText() {
+        OrderCreatedEvent event = new OrderCreatedEvent(PRODUCT_ID.toUpperCase(), 1);
+
+        assertEquals(event, codec.decode(codec.encode(event), OrderCreatedEvent.class));
+    }
+
+    @Test
+    void readsVersionOneEventsWithoutQuantity() {
+        byte[] v1 = header(1)
+                .writeUuid(1, UUID.fromString(PRODUCT_ID))
+                .toByteArray();
+
+        OrderCreatedEvent event = codec.decode(v1, OrderCreatedEvent.class);
+
+        assertEquals(PRODUCT_ID, event.productId());
+        assertNull(event.quantity());
+        assertEquals(1, event.quantityOrDefault());
+    }
+
+    @Test
+    void skipsFieldsAddedByNewerVersions() {
+        byte[] v3 = header(3)
+                .writeUuid(1, UUID.fromString(PRODUCT_ID))
+                .writeString(10, "kampanya")
+                .writeVarint(2, 5)
+                .writeFixed64(11, 42L)
+                .writeVarint(12, Long.MAX_VALUE)
+                .toByteArray();
+
+        assertEquals(new OrderCreatedEvent(PRODUCT_ID, 5), codec.decode(v3, OrderCreatedEvent.class));
+    }
+
+    @Test
+    void rejectsMalformedPayloads() {
+        byte[] encoded = codec.encode(new OrderCreatedEvent(PRODUCT_ID, 3));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(Arrays.copyOf(encoded, encoded.length - 5), OrderCreatedEvent.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode("{\"productId\":\"x\"}".getBytes(), OrderCreatedEvent.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(header(1).toByteArray(), OrderCreatedEvent.class));
+    }
+
+    @Test
+    void rejectsPayloadOfAnotherEventType() {
+        OrderCreatedEventCodec delegate = new OrderCreatedEventCodec();
+        BinaryEventCodec other = new BinaryEventCodec(List.of(new EventCodec<OrderCreatedEvent>() {
+            @Override
+            public Class<OrderCreatedEvent> eventType() {
+                return OrderCreatedEvent.class;
+            }
+
+            @Override
+            public int typeId() {
+                return 99;
+            }
+
+            @Override
+            public int schemaVersion() {
+                return delegate.schemaVersion();
+            }
+
+            @Override
+            public void write(OrderCreatedEvent event, EventWriter writer) {
+                delegate.write(event, writer);
+            }
+
+            @Override
+            public OrderCreatedEvent read(EventReader reader, int schemaVersion) {
+                return delegate.read(reader, schemaVersion);
+            }
+        }));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(other.encode(new OrderCreatedEvent(PRODUCT_ID, 1)), OrderCreatedEvent.class));
+        assertTrue(e.getMessage().contains("99"));
+    }
+
+    private static EventWriter header(int schemaVersion) {
+        return new EventWriter(32)
+                .writeRawByte(BinaryEventCodec.MAGIC)
+                .writeRawVarint(OrderCreatedEventCodec.TYPE_ID)
+                .writeRawVarint(schemaVersion);
+    }
+}
@@ -1,13 +1,22 @@
 package com.turkcell.order_service.controller;
 
+import com.turkcell.events.OrderCreatedEvent;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrdersController {
@@ -18,20 +27,31 @@ public class OrdersController {
     }
 
     @PostMapping()
-    public String createOrder(@RequestBody CreateOrderDto dto) {
+    public String createOrder(@Valid @RequestBody CreateOrderDto dto) {
         /// .........
-        OrderCreatedEvent event = new OrderCreatedEvent(dto.productId());
+        // Büyük/küçük harf farkı aynı ürünü farklı partition'a göndermesin diye kanonik yazıma çevrilir
+        String productId = UUID.fromString(dto.productId()).toString();
+        OrderCreatedEvent event = new OrderCreatedEvent(productId,
+                dto.quantity() == null ? 1 : dto.quantity());
 
-        Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event).build();
+        // Partition productId'ye göre seçilir (OrderEventPartitioningConfig); anahtar
+        // kayıtta da tutulur, böylece log compaction ve araçlar ürünü görebilir
+        Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event)
+                .setHeader(KafkaHeaders.KEY, productId.getBytes(StandardCharsets.UTF_8))
+                .build();
 
         streamBridge.send("orderCreated-out-0", message);
 
-        return dto.productId();
-    }
-
-    record CreateOrderDto(String productId) {
+        return productId;
     }
 
-    record OrderCreatedEvent(String productId) {
+    record CreateOrderDto(
+            @NotBlank(message = "Ürün ID'si boş olamaz")
+            @Pattern(regexp = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}",
+                    message = "Ürün ID'si UUID formatında olmalıdır")
+            String productId,
+            // Verilmezse 1 adet; sıfır ve eksi miktarlar product-service'te sessizce düşülmesin diye burada reddedilir
+            @Positive(message = "Sipariş miktarı pozitif olmalıdır")
+            Integer quantity) {
     }
 }
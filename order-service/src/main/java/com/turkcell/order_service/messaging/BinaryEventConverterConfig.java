@@ -0,0 +1,21 @@
+package com.turkcell.order_service.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.events.codec.BinaryEventCodec;
+import com.turkcell.events.messaging.BinaryEventMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+
+/**
+ * contentType: application/x-turkcell-event binding'leri için converter
+ * Spring Cloud Stream MessageConverter bean'lerini kendi converter zincirine ekler.
+ */
+@Configuration
+public class BinaryEventConverterConfig {
+
+    @Bean
+    public MessageConverter binaryEventMessageConverter(ObjectMapper objectMapper) {
+        return new BinaryEventMessageConverter(BinaryEventCodec.standard(), objectMapper);
+    }
+}
@@ -0,0 +1,20 @@
+package com.turkcell.order_service.messaging;
+
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.cloud.stream.binder.PartitionSelectorStrategy;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Partition anahtarını Kafka'nın varsayılan partitioner'ı ile aynı şekilde
+ * (murmur2) dağıtır; böylece anahtarı okuyan diğer araçlar ve üreticiler
+ * aynı ürünü aynı partition'a eşler
+ */
+public class MurmurHashPartitionSelector implements PartitionSelectorStrategy {
+
+    @Override
+    public int selectPartition(Object key, int partitionCount) {
+        byte[] bytes = key.toString().getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(bytes)) % partitionCount;
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.order_service.messaging;
+
+import org.springframework.cloud.stream.binder.PartitionKeyExtractorStrategy;
+import org.springframework.cloud.stream.binder.PartitionSelectorStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * orderCreated-out-0 partitioning stratejileri
+ * Binding'e partition-key-extractor-name / partition-selector-name ile bağlanır;
+ * farklı bir dağıtım için yeni bir bean tanımlayıp adını vermek yeterlidir.
+ */
+@Configuration
+public class OrderEventPartitioningConfig {
+
+    @Bean
+    public PartitionKeyExtractorStrategy productIdPartitionKeyExtractor() {
+        return new ProductIdPartitionKeyExtractor();
+    }
+
+    @Bean
+    public PartitionSelectorStrategy murmurHashPartitionSelector() {
+        return new MurmurHashPartitionSelector();
+    }
+}
@@ -0,0 +1,33 @@
+package com.turkcell.order_service.messaging;
+
+import com.turkcell.events.OrderCreatedEvent;
+import org.springframework.cloud.stream.binder.PartitionKeyExtractorStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sipariş olaylarının partition anahtarı olarak productId'yi kullanır
+ * Aynı ürünün olayları aynı partition'a düşer ve o partition'ı okuyan tek
+ * consumer tarafından yayınlanma sırasıyla işlenir. Payload binding'in
+ * contentType'ına çevrilmiş olabileceğinden önce mesaj anahtarına bakılır.
+ */
+public class ProductIdPartitionKeyExtractor implements PartitionKeyExtractorStrategy {
+
+    @Override
+    public Object extractKey(Message<?> message) {
+        Object key = message.getHeaders().get(KafkaHeaders.KEY);
+        if (key instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (key != null) {
+            return key.toString();
+        }
+        if (message.getPayload() instanceof OrderCreatedEvent event) {
+            return event.productId();
+        }
+        throw new IllegalArgumentException("Partition anahtarı çıkarılamayan mesaj: "
+                + message.getPayload().getClass().getName());
+    }
+}
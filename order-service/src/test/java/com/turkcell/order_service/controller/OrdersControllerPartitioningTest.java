@@ -0,0 +1,128 @@
+package com.turkcell.order_service.controller;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ürünler eşzamanlı sipariş verirken ve order-topic 3 consumer thread'i ile
+ * okunurken her ürünün olaylarının tek partition'dan, tek thread'e ve
+ * gönderilme sırasıyla geldiğini doğrular
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.stream.kafka.binder.brokers=${spring.embedded.kafka.brokers}",
+        "eureka.client.enabled=false" })
+@EmbeddedKafka(partitions = 3, topics = "order-topic")
+class OrdersControllerPartitioningTest {
+    private static final int PRODUCTS = 12;
+    private static final int ORDERS_PER_PRODUCT = 50;
+
+    @Autowired
+    private OrdersController ordersController;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    void ordersOfSameProductAreConsumedInOrderBySingleConsumer() throws Exception {
+        Map<String, List<Delivery>> deliveries = new ConcurrentHashMap<>();
+        CountDownLatch received = new CountDownLatch(PRODUCTS * ORDERS_PER_PRODUCT);
+
+        Map<String, Object> props = KafkaTestUtils.consumerProps("ordering-test", "false", embeddedKafka);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        ContainerProperties containerProperties = new ContainerProperties("order-topic");
+        containerProperties.setMessageListener((MessageListener<byte[], byte[]>) record -> {
+            OrderCreatedEvent event = BinaryEventCodec.standard().decode(record.value(), OrderCreatedEvent.class);
+            deliveries.computeIfAbsent(event.productId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(new Delivery(event.quantity(), record.partition(), Thread.currentThread().getName(),
+                            new String(record.key(), StandardCharsets.UTF_8)));
+            received.countDown();
+        });
+        ConcurrentMessageListenerContainer<byte[], byte[]> container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(props), containerProperties);
+        container.setConcurrency(3);
+        container.setBeanName("ordering-test");
+        container.start();
+
+        List<String> productIds = IntStream.range(0, PRODUCTS).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        try {
+            ContainerTestUtils.waitForAssignment(container, 3);
+
+            // Her ürünün siparişleri kendi thread'inden sırayla gönderilir (miktar = sıra no)
+            ExecutorService producers = Executors.newFixedThreadPool(PRODUCTS);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (String productId : productIds) {
+                    futures.add(producers.submit(() -> {
+                        for (int sequence = 1; sequence <= ORDERS_PER_PRODUCT; sequence++) {
+                            ordersController.createOrder(new OrdersController.CreateOrderDto(productId, sequence));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                producers.shutdownNow();
+            }
+
+            assertTrue(received.await(30, TimeUnit.SECONDS), "Tüm siparişler tüketilmedi");
+        } finally {
+            container.stop();
+        }
+
+        List<Integer> expectedSequence = IntStream.rangeClosed(1, ORDERS_PER_PRODUCT).boxed().toList();
+        Map<Integer, Set<String>> threadsByPartition = new HashMap<>();
+        for (String productId : productIds) {
+            List<Delivery> productDeliveries = deliveries.get(productId);
+            assertEquals(expectedSequence, productDeliveries.stream().map(Delivery::sequence).toList(),
+                    "Ürün " + productId + " için sıra bozuldu");
+            assertEquals(1, productDeliveries.stream().map(Delivery::partition).distinct().count(),
+                    "Ürün " + productId + " birden fazla partition'a dağıldı");
+            assertTrue(productDeliveries.stream().allMatch(delivery -> delivery.key().equals(productId)));
+            productDeliveries.forEach(delivery -> threadsByPartition
+                    .computeIfAbsent(delivery.partition(), partition -> new HashSet<>())
+                    .add(delivery.thread()));
+        }
+        threadsByPartition.forEach((partition, threads) -> assertEquals(1, threads.size(),
+                "Partition " + partition + " birden fazla thread tarafından işlendi"));
+        assertTrue(threadsByPartition.size() > 1, "Olaylar partition'lara dağılmadı");
+    }
+
+    private record Delivery(int sequence, int partition, String thread, String key) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.turkcell.order_service.controller;
+
+import com.turkcell.events.OrderCreatedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrdersController.class)
+class OrdersControllerTest {
+    private static final String PRODUCT_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StreamBridge streamBridge;
+
+    @Test
+    void orderIsPublishedKeyedByCanonicalProductId() throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\":\"" + PRODUCT_ID.toUpperCase() + "\",\"quantity\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(PRODUCT_ID));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<OrderCreatedEvent>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge).send(eq("orderCreated-out-0"), captor.capture());
+        Message<OrderCreatedEvent> message = captor.getValue();
+        assertEquals(new OrderCreatedEvent(PRODUCT_ID, 2), message.getPayload());
+        assertArrayEquals(PRODUCT_ID.getBytes(StandardCharsets.UTF_8),
+                (byte[]) message.getHeaders().get(KafkaHeaders.KEY));
+    }
+
+    @Test
+    void missingProductIdIsRejectedBeforePublishing() throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\":1}"))
+                .andExpect(status().isBadRequest());
+
+        verify(streamBridge, never()).send(anyString(), any());
+    }
+
+    @Test
+    void malformedProductIdIsRejectedBeforePublishing() throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\":\"not-a-uuid\",\"quantity\":1}"))
+                .andExpect(status().isBadRequest());
+
+        verify(streamBridge, never()).send(anyString(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -3 })
+    void nonPositiveQuantityIsRejectedBeforePublishing(int quantity) throws Exception {
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\":\"" + PRODUCT_ID + "\",\"quantity\":" + quantity + "}"))
+                .andExpect(status().isBadRequest());
+
+        verify(streamBridge, never()).send(anyString(), any());
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark'larda kullanılan sabit tohumlu örnek ürünler
+ */
+final class BenchmarkData {
+    private static final List<Currency> CURRENCIES = Currency.supportedCurrencies();
+
+    static List<Product> products(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2);
+            Currency currency = CURRENCIES.get(i % CURRENCIES.size());
+            products.add(Product.create(
+                    "Product " + i,
+                    "Benchmark ürünü " + i + " için örnek açıklama metni",
+                    new Price(amount, currency),
+                    new Stock(random.nextInt(0, 500))));
+        }
+        return products;
+    }
+
+    static List<ProductEntity> entities(int count) {
+        return products(count).stream().map(ProductMapper::toEntity).toList();
+    }
+
+    static List<ProductView> views(int count) {
+        return entities(count).stream()
+                .map(entity -> new ProductView(
+                        entity.getId(),
+                        entity.getName(),
+                        entity.getDescription(),
+                        entity.getPriceAmountMinor(),
+                        entity.getPriceCurrency(),
+                        entity.getStockQuantity(),
+                        entity.getContentHash()))
+                .toList();
+    }
+
+    private BenchmarkData() {
+    }
+}
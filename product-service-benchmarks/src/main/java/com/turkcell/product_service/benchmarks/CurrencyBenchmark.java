@@ -0,0 +1,45 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Currency.fromCode / isSupported maliyeti
+ * Her çağrıda toUpperCase().trim() yapıldığı için kanonik ve normalize
+ * edilmesi gereken girdiler ayrı ölçülür.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurrencyBenchmark {
+    private String canonicalCode = "TRY";
+    private String paddedLowerCaseCode = " usd ";
+
+    @Benchmark
+    public Currency fromCodeCanonical() {
+        return Currency.fromCode(canonicalCode);
+    }
+
+    @Benchmark
+    public Currency fromCodePaddedLowerCase() {
+        return Currency.fromCode(paddedLowerCaseCode);
+    }
+
+    @Benchmark
+    public boolean isSupported() {
+        return Currency.isSupported(canonicalCode);
+    }
+}
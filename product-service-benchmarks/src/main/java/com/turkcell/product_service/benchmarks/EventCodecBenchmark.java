@@ -0,0 +1,65 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderCreatedEvent için binary codec (event-contracts) ile Jackson JSON karşılaştırması
+ * Serileştirilmiş boyutlar setup'ta yazdırılır; kodlama/çözme maliyeti -prof gc
+ * ile birlikte okunmalıdır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+    private final BinaryEventCodec codec = BinaryEventCodec.standard();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OrderCreatedEvent event = new OrderCreatedEvent("123e4567-e89b-12d3-a456-426614174000", 3);
+
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        binary = codec.encode(event);
+        json = objectMapper.writeValueAsBytes(event);
+        System.out.printf("%nOrderCreatedEvent boyutu: binary %d byte, JSON %d byte%n", binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeBinary() {
+        return codec.decode(binary, OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeJson() throws IOException {
+        return objectMapper.readValue(json, OrderCreatedEvent.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.CatalogStatistics;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Veritabanı yerine bellekteki JPA entity'lerini kullanan ProductRepository
+ * Okuma ve yazmalarda ProductRepositoryImpl ile aynı dönüşümleri yapar
+ * (entity → domain, domain → entity); böylece use case benchmark'ları JDBC
+ * dışındaki maliyetin tamamını ölçer. Tüm metotlar map üzerinde basitçe
+ * uygulanır; cache, arama index'i ve hot SKU ledger'ı yoktur.
+ */
+class InMemoryProductRepository implements ProductRepository {
+    private final Map<UUID, ProductEntity> entities = new LinkedHashMap<>();
+
+    InMemoryProductRepository(List<ProductEntity> entities) {
+        entities.forEach(entity -> this.entities.put(entity.getId(), entity));
+    }
+
+    @Override
+    public Product save(Product product) {
+        ProductEntity entity = ProductMapper.toEntity(product);
+        entities.put(entity.getId(), entity);
+        return ProductMapper.toDomain(entity);
+    }
+
+    @Override
+    public Optional<Product> updateDetails(Product product) {
+        ProductEntity existing = entities.get(product.getId().getValue());
+        if (existing == null) {
+            return Optional.empty();
+        }
+        // Stok korunur; sadece ad, açıklama ve fiyat yazılır
+        ProductEntity entity = ProductMapper.toEntity(product);
+        entity.setStockQuantity(existing.getStockQuantity());
+        entities.put(entity.getId(), entity);
+        return Optional.of(ProductMapper.toDomain(entity));
+    }
+
+    @Override
+    public List<ProductSaveResult> saveAll(List<Product> products) {
+        return products.stream()
+                .map(product -> {
+                    boolean exists = existsById(product.getId());
+                    save(product);
+                    return exists ? ProductSaveResult.updated(product.getId()) : ProductSaveResult.created(product.getId());
+                })
+                .toList();
+    }
+
+    @Override
+    public int importProducts(List<Product> products) {
+        products.forEach(this::save);
+        return (int) products.stream().map(Product::getId).distinct().count();
+    }
+
+    @Override
+    public Optional<Product> findById(Product.ProductId id) {
+        return Optional.ofNullable(entities.get(id.getValue())).map(ProductMapper::toDomain);
+    }
+
+    @Override
+    public Optional<Product> findByIdForUpdate(Product.ProductId id) {
+        return findById(id);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Product.ProductId> ids) {
+        return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return entities.values().stream().map(ProductMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return find(entity -> entity.getName().contains(name));
+    }
+
+    @Override
+    public List<Product> searchByName(String query, int offset, int limit) {
+        String lowerCaseQuery = query.toLowerCase();
+        return entities.values().stream()
+                .filter(entity -> entity.getName().toLowerCase().contains(lowerCaseQuery))
+                .skip(offset)
+                .limit(limit)
+                .map(ProductMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Product> findInStockProducts() {
+        return find(entity -> entity.getStockQuantity() > 0);
+    }
+
+    @Override
+    public List<Product> findOutOfStockProducts() {
+        return find(entity -> entity.getStockQuantity() == 0);
+    }
+
+    @Override
+    public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        Objects.requireNonNull(minPrice, "Minimum fiyat null olamaz");
+        Objects.requireNonNull(maxPrice, "Maksimum fiyat null olamaz");
+        return findAll().stream()
+                .filter(product -> product.getPrice().getAmount().compareTo(minPrice) >= 0
+                        && product.getPrice().getAmount().compareTo(maxPrice) <= 0)
+                .toList();
+    }
+
+    @Override
+    public StockReservationResult reserveStock(Product.ProductId id, int quantity) {
+        Product.validateStockReduction(quantity);
+        ProductEntity entity = entities.get(id.getValue());
+        if (entity == null) {
+            return StockReservationResult.PRODUCT_NOT_FOUND;
+        }
+        if (entity.getStockQuantity() < quantity) {
+            return StockReservationResult.INSUFFICIENT_STOCK;
+        }
+        entity.setStockQuantity(entity.getStockQuantity() - quantity);
+        return StockReservationResult.RESERVED;
+    }
+
+    @Override
+    public Map<Product.ProductId, StockReservationResult> reserveStock(Map<Product.ProductId, Integer> quantities) {
+        Map<Product.ProductId, StockReservationResult> results = new LinkedHashMap<>();
+        quantities.forEach((id, quantity) -> results.put(id, reserveStock(id, quantity)));
+        return results;
+    }
+
+    @Override
+    public void deleteById(Product.ProductId id) {
+        entities.remove(id.getValue());
+    }
+
+    @Override
+    public boolean existsById(Product.ProductId id) {
+        return entities.containsKey(id.getValue());
+    }
+
+    @Override
+    public long count() {
+        return entities.size();
+    }
+
+    @Override
+    public long countInStockProducts() {
+        return entities.values().stream().filter(entity -> entity.getStockQuantity() > 0).count();
+    }
+
+    @Override
+    public long countOutOfStockProducts() {
+        return count() - countInStockProducts();
+    }
+
+    @Override
+    public CatalogStatistics getCatalogStatistics() {
+        long inStock = countInStockProducts();
+        long totalStockUnits = entities.values().stream().mapToLong(ProductEntity::getStockQuantity).sum();
+        return new CatalogStatistics(count(), inStock, count() - inStock, totalStockUnits);
+    }
+
+    private List<Product> find(Predicate<ProductEntity> filter) {
+        return entities.values().stream().filter(filter).map(ProductMapper::toDomain).toList();
+    }
+}
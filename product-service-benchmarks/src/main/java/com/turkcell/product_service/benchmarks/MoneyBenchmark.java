@@ -0,0 +1,105 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Katalog ölçeğinde fiyat işlemleri: toplu yeniden fiyatlama ve fiyat aralığı filtresi
+ * *Decimal benchmark'ları tutarın BigDecimal olarak tutulduğu eski yolu taklit eder;
+ * fark -prof gc çıktısındaki gc.alloc.rate.norm ile birlikte okunmalıdır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({ "10000" })
+    private int size;
+
+    private Price[] prices;
+    private BigDecimal[] amounts;
+    private final BigDecimal percentage = new BigDecimal("12.5");
+    private final Price min = new Price(new BigDecimal("1000.00"), Currency.TRY);
+    private final Price max = new Price(new BigDecimal("5000.00"), Currency.TRY);
+    private final BigDecimal minAmount = new BigDecimal("1000.00");
+    private final BigDecimal maxAmount = new BigDecimal("5000.00");
+
+    @Setup
+    public void setUp() {
+        // Karşılaştırmanın anlamlı olması için tüm fiyatlar aynı para biriminde
+        List<Product> products = BenchmarkData.products(size);
+        prices = new Price[size];
+        amounts = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            Price price = products.get(i).getPrice();
+            prices[i] = Price.ofMinorUnits(price.getMinorUnits(), Currency.TRY);
+            amounts[i] = price.getAmount();
+        }
+    }
+
+    @Benchmark
+    public void repriceByBasisPoints(Blackhole blackhole) {
+        for (Price price : prices) {
+            blackhole.consume(price.adjustByBasisPoints(1250));
+        }
+    }
+
+    @Benchmark
+    public void repriceByPercentage(Blackhole blackhole) {
+        for (Price price : prices) {
+            blackhole.consume(price.increaseByPercentage(percentage));
+        }
+    }
+
+    @Benchmark
+    public void repriceDecimal(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            blackhole.consume(amount.multiply(ONE_HUNDRED.add(percentage))
+                    .divide(ONE_HUNDRED, 2, RoundingMode.HALF_EVEN));
+        }
+    }
+
+    @Benchmark
+    public int filterByRange() {
+        int matches = 0;
+        for (Price price : prices) {
+            if (!price.isLessThan(min) && !price.isGreaterThan(max)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int filterByRangeDecimal() {
+        int matches = 0;
+        for (BigDecimal amount : amounts) {
+            if (amount.compareTo(minAmount) >= 0 && amount.compareTo(maxAmount) <= 0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,60 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price karşılaştırma ve yüzde değişimi maliyeti
+ * increaseByDoublePercentage, Product.increasePriceByPercentage(double)
+ * yolundaki BigDecimal.valueOf(double) dönüşümünü de içerir.
+ * adjustByBasisPoints, BigDecimal üretmeyen long yoludur.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceBenchmark {
+    private Price price = new Price(new BigDecimal("1499.90"), Currency.TRY);
+    private Price other = new Price(new BigDecimal("1250.00"), Currency.TRY);
+    private BigDecimal percentage = new BigDecimal("12.5");
+    private double doublePercentage = 12.5;
+
+    @Benchmark
+    public Price increaseByPercentage() {
+        return price.increaseByPercentage(percentage);
+    }
+
+    @Benchmark
+    public Price decreaseByPercentage() {
+        return price.decreaseByPercentage(percentage);
+    }
+
+    @Benchmark
+    public Price increaseByDoublePercentage() {
+        return price.increaseByPercentage(BigDecimal.valueOf(doublePercentage));
+    }
+
+    @Benchmark
+    public Price adjustByBasisPoints() {
+        return price.adjustByBasisPoints(1250);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return price.isGreaterThan(other);
+    }
+}
@@ -0,0 +1,104 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductId çözümleme ve UUID / String anahtarla arama maliyeti
+ * Geçersiz girdide tryParse exception'sız yolu, fromString ise exception
+ * yolunu ölçer. Anahtar karşılaştırması, id'nin UUID (16 byte, iki long)
+ * veya 36 karakterlik String olarak tutulmasının arama maliyetini gösterir;
+ * index boyutu farkı için POSTGRESQL_SETUP.md'deki pg_relation_size sorgusu kullanılır.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductIdBenchmark {
+    private static final int KEY_COUNT = 10_000;
+
+    private String validId;
+    private String invalidId;
+    private UUID[] uuidKeys;
+    private String[] stringKeys;
+    private Map<UUID, Integer> byUuid;
+    private Map<String, Integer> byString;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        validId = UUID.randomUUID().toString();
+        // Doğru uzunlukta, son karakteri geçersiz: çözümleyici sona kadar ilerler
+        invalidId = validId.substring(0, 35) + "g";
+
+        uuidKeys = new UUID[KEY_COUNT];
+        stringKeys = new String[KEY_COUNT];
+        byUuid = new HashMap<>();
+        byString = new HashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            UUID key = UUID.randomUUID();
+            uuidKeys[i] = key;
+            // Aramada aynı String örneği kullanılmasın diye kopyalanır (equals tam karşılaştırma yapar)
+            stringKeys[i] = new String(key.toString());
+            byUuid.put(key, i);
+            byString.put(key.toString(), i);
+        }
+    }
+
+    @Benchmark
+    public Product.ProductId fromStringValid() {
+        return Product.ProductId.fromString(validId);
+    }
+
+    @Benchmark
+    public UUID uuidFromStringBaseline() {
+        return UUID.fromString(validId);
+    }
+
+    @Benchmark
+    public Optional<Product.ProductId> tryParseInvalid() {
+        return Product.ProductId.tryParse(invalidId);
+    }
+
+    @Benchmark
+    public Product.ProductId fromStringInvalid() {
+        try {
+            return Product.ProductId.fromString(invalidId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer lookupByUuid() {
+        return byUuid.get(uuidKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer lookupByString() {
+        return byString.get(stringKeys[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == KEY_COUNT ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductMapper dönüşümlerinin tek ürün için maliyeti
+ * toEntity, ProductEntity constructor'ındaki content hash hesabını da içerir.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMapperBenchmark {
+    private Product product;
+    private ProductEntity entity;
+    private ProductView view;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkData.products(1).get(0);
+        entity = BenchmarkData.entities(1).get(0);
+        view = BenchmarkData.views(1).get(0);
+    }
+
+    @Benchmark
+    public ProductEntity toEntity() {
+        return ProductMapper.toEntity(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return ProductMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Product viewToDomain() {
+        return ProductMapper.toDomain(view);
+    }
+}
@@ -0,0 +1,61 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.application.mappers.ProductResponseMapper;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Okuma yolu karşılaştırması: satır başına ProductResponse üretim maliyeti
+ * domainPath: ProductEntity → ProductMapper.toDomain (Product.reconstruct ve
+ * doğrulama) → ProductResponseMapper; /stream'in önceki yolu.
+ * projectionPath: ProductView → ProductResponse (/stream ve /export'un okuma modeli).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+    @Param({ "20", "1000" })
+    private int rows;
+
+    private List<ProductEntity> entities;
+    private List<ProductView> views;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkData.entities(rows);
+        views = BenchmarkData.views(rows);
+    }
+
+    @Benchmark
+    public void domainPath(Blackhole blackhole) {
+        for (ProductEntity entity : entities) {
+            blackhole.consume(ProductResponseMapper.toResponse(ProductMapper.toDomain(entity)));
+        }
+    }
+
+    @Benchmark
+    public void projectionPath(Blackhole blackhole) {
+        for (ProductView view : views) {
+            blackhole.consume(view.toResponse());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.stock.StripedStockCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek bir ürüne eşzamanlı stok düşümü: hot SKU sayacı ve reduceStock + save yolu
+ * reduceStockAndSave, ürünü satır kilidiyle okur, domain'e çevirir, reduceStock
+ * uygular ve JPA merge'ün yaptığı gibi tüm kolonları günceller (H2, bellekte).
+ * Gerçek veritabanında her düşüm ayrıca bir ağ gidiş-dönüşü ekler.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class StockDecrementBenchmark {
+    private static final String URL = "jdbc:h2:mem:stock-benchmark;DB_CLOSE_DELAY=-1";
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    private StripedStockCounter counter;
+    private Connection schemaConnection;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException {
+        schemaConnection = DriverManager.getConnection(URL);
+        try (Statement statement = schemaConnection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE products (
+                        id UUID PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(1000) NOT NULL,
+                        price_amount_minor BIGINT NOT NULL,
+                        price_currency VARCHAR(3) NOT NULL,
+                        stock_quantity INTEGER NOT NULL,
+                        content_hash BIGINT NOT NULL)
+                    """);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStock() throws SQLException {
+        counter = new StripedStockCounter(Integer.MAX_VALUE, Runtime.getRuntime().availableProcessors());
+        try (Statement statement = schemaConnection.createStatement()) {
+            statement.execute("DELETE FROM products");
+            statement.execute("INSERT INTO products VALUES ('" + PRODUCT_ID
+                    + "', 'Flash Sale', 'Kampanya ürünü', 99990, 'TRY', " + Integer.MAX_VALUE + ", 0)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void dropSchema() throws SQLException {
+        try (Statement statement = schemaConnection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        schemaConnection.close();
+    }
+
+    /**
+     * Her benchmark thread'inin kendi bağlantısı (uygulamadaki havuz bağlantısı gibi)
+     */
+    @State(Scope.Thread)
+    public static class Session {
+        private Connection connection;
+        private PreparedStatement select;
+        private PreparedStatement update;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            connection.setAutoCommit(false);
+            select = connection.prepareStatement("SELECT name, description, price_amount_minor, price_currency, "
+                    + "stock_quantity FROM products WHERE id = ? FOR UPDATE");
+            update = connection.prepareStatement("UPDATE products SET name = ?, description = ?, price_amount_minor = ?, "
+                    + "price_currency = ?, stock_quantity = ?, content_hash = ? WHERE id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public boolean stripedCounter() {
+        return counter.tryDecrement(1);
+    }
+
+    @Benchmark
+    public int reduceStockAndSave(Session session) throws SQLException {
+        ProductEntity loaded;
+        session.select.setObject(1, PRODUCT_ID);
+        try (ResultSet resultSet = session.select.executeQuery()) {
+            resultSet.next();
+            loaded = new ProductEntity(PRODUCT_ID, resultSet.getString(1), resultSet.getString(2),
+                    resultSet.getLong(3), resultSet.getString(4), resultSet.getInt(5));
+        }
+
+        Product product = ProductMapper.toDomain(loaded);
+        product.reduceStock(1);
+        ProductEntity saved = ProductMapper.toEntity(product);
+
+        session.update.setString(1, saved.getName());
+        session.update.setString(2, saved.getDescription());
+        session.update.setLong(3, saved.getPriceAmountMinor());
+        session.update.setString(4, saved.getPriceCurrency());
+        session.update.setInt(5, saved.getStockQuantity());
+        session.update.setLong(6, saved.getContentHash());
+        session.update.setObject(7, PRODUCT_ID);
+        int updated = session.update.executeUpdate();
+        session.connection.commit();
+        return updated;
+    }
+}
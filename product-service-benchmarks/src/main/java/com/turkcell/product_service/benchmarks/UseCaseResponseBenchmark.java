@@ -0,0 +1,79 @@
+package com.turkcell.product_service.benchmarks;
+
+import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.usecases.CreateProductUseCase;
+import com.turkcell.product_service.application.usecases.SearchProductsUseCase;
+import com.turkcell.product_service.application.usecases.UpdateProductUseCase;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use case'lerin domain → ProductResponse dönüşümleri dahil JDBC dışındaki maliyeti
+ * Repository bellekteki entity'lerle çalışır, dönüşümler gerçek repository ile aynıdır.
+ * search işlem başına sayfa boyutu kadar ürün üretir. /stream okuma modelini kullandığı
+ * için ReadPathBenchmark'ta ölçülür.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UseCaseResponseBenchmark {
+    private static final int CATALOG_SIZE = 1_000;
+
+    private CreateProductUseCase createProductUseCase;
+    private UpdateProductUseCase updateProductUseCase;
+    private SearchProductsUseCase searchProductsUseCase;
+    private CreateProductRequest createRequest;
+    private UpdateProductRequest updateRequest;
+    private String updateId;
+
+    @Setup
+    public void setUp() {
+        List<ProductEntity> entities = BenchmarkData.entities(CATALOG_SIZE);
+        InMemoryProductRepository repository = new InMemoryProductRepository(entities);
+        createProductUseCase = new CreateProductUseCase(repository);
+        updateProductUseCase = new UpdateProductUseCase(repository);
+        searchProductsUseCase = new SearchProductsUseCase(repository);
+
+        createRequest = new CreateProductRequest("Laptop", "16 GB RAM, 512 GB SSD",
+                new PriceDto(new BigDecimal("15000.00"), "TRY"), new StockDto(10));
+        updateRequest = new UpdateProductRequest("Laptop Pro", "32 GB RAM, 1 TB SSD",
+                new PriceDto(new BigDecimal("21000.00"), "TRY"), new StockDto(5));
+        updateId = entities.get(0).getId().toString();
+    }
+
+    @Benchmark
+    public ProductResponse create() {
+        return createProductUseCase.execute(createRequest);
+    }
+
+    @Benchmark
+    public ProductResponse update() {
+        return updateProductUseCase.execute(updateId, updateRequest);
+    }
+
+    @Benchmark
+    public ProductSearchResponse search() {
+        return searchProductsUseCase.execute("Product", 0, SearchProductsUseCase.DEFAULT_PAGE_SIZE);
+    }
+}
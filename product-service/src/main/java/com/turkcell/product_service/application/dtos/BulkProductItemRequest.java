@@ -0,0 +1,25 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Bulk Product Item Request DTO
+ * id verilirse ürün upsert edilir, verilmezse yeni id üretilir
+ */
+public class BulkProductItemRequest extends CreateProductRequest {
+    private String id;
+
+    public BulkProductItemRequest() {
+    }
+
+    public BulkProductItemRequest(String id, String name, String description, PriceDto price, StockDto stock) {
+        super(name, description, price, stock);
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+}
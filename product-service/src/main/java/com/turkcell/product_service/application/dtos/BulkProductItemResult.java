@@ -0,0 +1,68 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Bulk Product Item Result DTO
+ * Toplu istekteki tek bir ürünün sonucunu taşır
+ */
+public class BulkProductItemResult {
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    private int index;
+    private String id;
+    private Status status;
+    private List<String> errors;
+
+    public BulkProductItemResult() {
+    }
+
+    public BulkProductItemResult(int index, String id, Status status, List<String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public static BulkProductItemResult success(int index, String id, Status status) {
+        return new BulkProductItemResult(index, id, status, List.of());
+    }
+
+    public static BulkProductItemResult failure(int index, String id, List<String> errors) {
+        return new BulkProductItemResult(index, id, Status.FAILED, errors);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Bulk Product Request DTO
+ */
+public class BulkProductRequest {
+    private List<BulkProductItemRequest> products;
+
+    public BulkProductRequest() {
+    }
+
+    public BulkProductRequest(List<BulkProductItemRequest> products) {
+        this.products = products;
+    }
+
+    public List<BulkProductItemRequest> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<BulkProductItemRequest> products) {
+        this.products = products;
+    }
+}
@@ -0,0 +1,57 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Bulk Product Response DTO
+ */
+public class BulkProductResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkProductItemResult> results;
+
+    public BulkProductResponse() {
+    }
+
+    public BulkProductResponse(List<BulkProductItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.failed = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkProductItemResult.Status.FAILED)
+                .count();
+        this.succeeded = total - failed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkProductItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkProductItemResult> results) {
+        this.results = results;
+    }
+}
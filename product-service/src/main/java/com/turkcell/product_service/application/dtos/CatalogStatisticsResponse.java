@@ -0,0 +1,54 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Catalog Statistics Response DTO
+ */
+public class CatalogStatisticsResponse {
+    private long totalProducts;
+    private long inStockProducts;
+    private long outOfStockProducts;
+    private long totalStockUnits;
+
+    public CatalogStatisticsResponse() {
+    }
+
+    public CatalogStatisticsResponse(long totalProducts, long inStockProducts, long outOfStockProducts,
+            long totalStockUnits) {
+        this.totalProducts = totalProducts;
+        this.inStockProducts = inStockProducts;
+        this.outOfStockProducts = outOfStockProducts;
+        this.totalStockUnits = totalStockUnits;
+    }
+
+    public long getTotalProducts() {
+        return totalProducts;
+    }
+
+    public void setTotalProducts(long totalProducts) {
+        this.totalProducts = totalProducts;
+    }
+
+    public long getInStockProducts() {
+        return inStockProducts;
+    }
+
+    public void setInStockProducts(long inStockProducts) {
+        this.inStockProducts = inStockProducts;
+    }
+
+    public long getOutOfStockProducts() {
+        return outOfStockProducts;
+    }
+
+    public void setOutOfStockProducts(long outOfStockProducts) {
+        this.outOfStockProducts = outOfStockProducts;
+    }
+
+    public long getTotalStockUnits() {
+        return totalStockUnits;
+    }
+
+    public void setTotalStockUnits(long totalStockUnits) {
+        this.totalStockUnits = totalStockUnits;
+    }
+}
@@ -0,0 +1,34 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Order Dead Letter Response DTO
+ * DLT'de bekleyen ve yeniden yayınlanan sipariş olaylarının özeti
+ */
+public class OrderDeadLetterResponse {
+    private long replayedCount;
+    private long pendingCount;
+
+    public OrderDeadLetterResponse() {
+    }
+
+    public OrderDeadLetterResponse(long replayedCount, long pendingCount) {
+        this.replayedCount = replayedCount;
+        this.pendingCount = pendingCount;
+    }
+
+    public long getReplayedCount() {
+        return replayedCount;
+    }
+
+    public void setReplayedCount(long replayedCount) {
+        this.replayedCount = replayedCount;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(long pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+}
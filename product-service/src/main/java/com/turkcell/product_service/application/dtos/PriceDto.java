@@ -1,5 +1,6 @@
 package com.turkcell.product_service.application.dtos;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
 public class PriceDto {
     @NotNull(message = "Fiyat miktarı boş olamaz")
     @Positive(message = "Fiyat pozitif olmalıdır")
+    @Digits(integer = 16, fraction = 2, message = "Fiyat en fazla 16 tam ve 2 ondalık basamak içerebilir")
     private BigDecimal amount;
 
     @NotNull(message = "Para birimi boş olamaz")
@@ -0,0 +1,30 @@
+package com.turkcell.product_service.application.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Product Batch Request DTO
+ */
+public class ProductBatchRequest {
+    @NotEmpty(message = "Ürün ID listesi boş olamaz")
+    @Size(max = 500, message = "Tek istekte en fazla 500 ürün istenebilir")
+    private List<String> ids;
+
+    public ProductBatchRequest() {
+    }
+
+    public ProductBatchRequest(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+}
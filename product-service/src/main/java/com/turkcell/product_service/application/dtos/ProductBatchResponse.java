@@ -0,0 +1,35 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Product Batch Response DTO
+ */
+public class ProductBatchResponse {
+    private List<ProductResponse> products;
+    private List<String> missingIds;
+
+    public ProductBatchResponse() {
+    }
+
+    public ProductBatchResponse(List<ProductResponse> products, List<String> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<String> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
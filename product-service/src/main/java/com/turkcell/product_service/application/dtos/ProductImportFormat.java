@@ -0,0 +1,40 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.Locale;
+
+/**
+ * Toplu import dosya formatları
+ */
+public enum ProductImportFormat {
+    /**
+     * Başlık satırlı CSV: id,name,description,price_amount,price_currency,stock_quantity
+     */
+    CSV("text/csv"),
+
+    /**
+     * Satır başına bir ürün JSON'u (export çıktısı ile aynı biçim)
+     */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ProductImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static ProductImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String normalized = contentType.toLowerCase(Locale.ROOT);
+            for (ProductImportFormat format : values()) {
+                if (normalized.startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Desteklenmeyen import formatı: " + contentType);
+    }
+}
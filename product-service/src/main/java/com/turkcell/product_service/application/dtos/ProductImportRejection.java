@@ -0,0 +1,46 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Product Import Rejection DTO
+ * Import sırasında reddedilen tek bir satırı ve nedenlerini taşır
+ */
+public class ProductImportRejection {
+    private long row;
+    private String id;
+    private List<String> errors;
+
+    public ProductImportRejection() {
+    }
+
+    public ProductImportRejection(long row, String id, List<String> errors) {
+        this.row = row;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
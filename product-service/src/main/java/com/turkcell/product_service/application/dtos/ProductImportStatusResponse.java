@@ -0,0 +1,132 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.time.Instant;
+
+/**
+ * Product Import Status Response DTO
+ * Toplu import işinin durumunu ve ilerlemesini taşır
+ */
+public class ProductImportStatusResponse {
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private ProductImportFormat format;
+    private Status status;
+    private long totalBytes;
+    private long processedBytes;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private String error;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public ProductImportStatusResponse() {
+    }
+
+    public ProductImportStatusResponse(String jobId, ProductImportFormat format, Status status, long totalBytes,
+            long processedBytes, long rowsRead, long imported, long rejected, String error, Instant startedAt,
+            Instant finishedAt) {
+        this.jobId = jobId;
+        this.format = format;
+        this.status = status;
+        this.totalBytes = totalBytes;
+        this.processedBytes = processedBytes;
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.error = error;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public ProductImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ProductImportFormat format) {
+        this.format = format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void setTotalBytes(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    public long getProcessedBytes() {
+        return processedBytes;
+    }
+
+    public void setProcessedBytes(long processedBytes) {
+        this.processedBytes = processedBytes;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Product JSON Response
+ * Önceden serileştirilmiş ürün JSON'u ve aynı satırdan üretilen ETag
+ */
+public class ProductJsonResponse {
+    private byte[] json;
+    private String etag;
+
+    public ProductJsonResponse() {
+    }
+
+    public ProductJsonResponse(byte[] json, String etag) {
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public void setJson(byte[] json) {
+        this.json = json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+}
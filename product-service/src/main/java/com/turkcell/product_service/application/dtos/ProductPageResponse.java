@@ -0,0 +1,69 @@
+package com.turkcell.product_service.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * Product Page Response DTO
+ * Cursor (keyset) tabanlı sayfalama yanıtı. ETag gövdeye yazılmaz, header olarak döner
+ */
+public class ProductPageResponse {
+    private List<ProductResponse> products;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+    @JsonIgnore
+    private String etag;
+
+    public ProductPageResponse() {
+    }
+
+    public ProductPageResponse(List<ProductResponse> products, String nextCursor, boolean hasMore, String etag) {
+        this.products = products;
+        this.size = products.size();
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.etag = etag;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+}
@@ -0,0 +1,36 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Product Page Slice
+ * Keyset sorgusunun döndürdüğü ürünler ve aynı satırlardan üretilen ETag
+ */
+public class ProductPageSlice {
+    private List<ProductResponse> products;
+    private String etag;
+
+    public ProductPageSlice() {
+    }
+
+    public ProductPageSlice(List<ProductResponse> products, String etag) {
+        this.products = products;
+        this.etag = etag;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+}
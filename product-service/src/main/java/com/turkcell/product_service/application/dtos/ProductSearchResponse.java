@@ -0,0 +1,55 @@
+package com.turkcell.product_service.application.dtos;
+
+import java.util.List;
+
+/**
+ * Product Search Response DTO
+ */
+public class ProductSearchResponse {
+    private List<ProductResponse> products;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    public ProductSearchResponse() {
+    }
+
+    public ProductSearchResponse(List<ProductResponse> products, int page, int size, boolean hasMore) {
+        this.products = products;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,28 @@
+package com.turkcell.product_service.application.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Reserve Stock Request DTO
+ */
+public class ReserveStockRequest {
+    @NotNull(message = "Miktar boş olamaz")
+    @Positive(message = "Çıkarılacak miktar pozitif olmalıdır")
+    private Integer quantity;
+
+    public ReserveStockRequest() {
+    }
+
+    public ReserveStockRequest(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
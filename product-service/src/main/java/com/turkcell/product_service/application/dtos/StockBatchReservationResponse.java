@@ -0,0 +1,44 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Stock Batch Reservation Response DTO
+ * Toplu stok düşümünün özeti
+ */
+public class StockBatchReservationResponse {
+    private int productCount;
+    private int reservedLineCount;
+    private int rejectedLineCount;
+
+    public StockBatchReservationResponse() {
+    }
+
+    public StockBatchReservationResponse(int productCount, int reservedLineCount, int rejectedLineCount) {
+        this.productCount = productCount;
+        this.reservedLineCount = reservedLineCount;
+        this.rejectedLineCount = rejectedLineCount;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(int productCount) {
+        this.productCount = productCount;
+    }
+
+    public int getReservedLineCount() {
+        return reservedLineCount;
+    }
+
+    public void setReservedLineCount(int reservedLineCount) {
+        this.reservedLineCount = reservedLineCount;
+    }
+
+    public int getRejectedLineCount() {
+        return rejectedLineCount;
+    }
+
+    public void setRejectedLineCount(int rejectedLineCount) {
+        this.rejectedLineCount = rejectedLineCount;
+    }
+}
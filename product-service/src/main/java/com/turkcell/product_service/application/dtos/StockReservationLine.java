@@ -0,0 +1,34 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Stock Reservation Line DTO
+ * Toplu stok düşümündeki tek bir sipariş satırı
+ */
+public class StockReservationLine {
+    private String productId;
+    private int quantity;
+
+    public StockReservationLine() {
+    }
+
+    public StockReservationLine(String productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.turkcell.product_service.application.dtos;
+
+/**
+ * Stock Reservation Response DTO
+ */
+public class StockReservationResponse {
+    private String productId;
+    private int reservedQuantity;
+
+    public StockReservationResponse() {
+    }
+
+    public StockReservationResponse(String productId, int reservedQuantity) {
+        this.productId = productId;
+        this.reservedQuantity = reservedQuantity;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public int getReservedQuantity() {
+        return reservedQuantity;
+    }
+
+    public void setReservedQuantity(int reservedQuantity) {
+        this.reservedQuantity = reservedQuantity;
+    }
+}
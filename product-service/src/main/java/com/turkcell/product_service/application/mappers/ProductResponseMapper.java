@@ -0,0 +1,30 @@
+package com.turkcell.product_service.application.mappers;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.domain.entities.Product;
+
+/**
+ * Product Response Mapper
+ * Domain entity'den API yanıt modeline dönüşüm sağlar. Okuma modeli
+ * (ProductView) kendi dönüşümünü yapar; bu sınıf domain'den dönen yazma ve
+ * arama sonuçları içindir.
+ */
+public class ProductResponseMapper {
+
+    public static ProductResponse toResponse(Product product) {
+        PriceDto priceDto = new PriceDto(
+                product.getPrice().getAmount(),
+                product.getPrice().getCurrency().getCode());
+
+        StockDto stockDto = new StockDto(product.getStock().getQuantity());
+
+        return new ProductResponse(
+                product.getId().toString(),
+                product.getName(),
+                product.getDescription(),
+                priceDto,
+                stockDto);
+    }
+}
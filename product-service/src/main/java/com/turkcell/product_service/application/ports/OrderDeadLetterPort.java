@@ -0,0 +1,20 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.OrderDeadLetterResponse;
+
+/**
+ * Order Dead Letter Port Interface
+ * İşlenemeyip DLT'ye yazılan sipariş olaylarının yönetimi
+ */
+public interface OrderDeadLetterPort {
+    /**
+     * Henüz yeniden yayınlanmamış DLT kayıtlarının sayısını döner
+     */
+    OrderDeadLetterResponse getStatus();
+
+    /**
+     * En fazla maxRecords DLT kaydını ana topic'e yeniden yayınlar; kayıtlar
+     * normal sipariş akışından ve retry kademelerinden yeniden geçer
+     */
+    OrderDeadLetterResponse replay(int maxRecords);
+}
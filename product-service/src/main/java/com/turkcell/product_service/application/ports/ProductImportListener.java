@@ -0,0 +1,16 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductImportRejection;
+
+/**
+ * Product Import Listener
+ * Toplu import sırasında reddedilen satırları ve ilerlemeyi dışarıya bildirir
+ */
+public interface ProductImportListener {
+    void onRejected(ProductImportRejection rejection);
+
+    /**
+     * Her parça veritabanına yazıldıktan sonra çağrılır
+     */
+    void onProgress(long rowsRead, long imported, long rejected);
+}
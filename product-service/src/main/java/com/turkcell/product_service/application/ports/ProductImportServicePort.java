@@ -0,0 +1,26 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportStatusResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Product Import Service Port Interface
+ * Toplu import işlerinin dış dünyaya açılan interface'i
+ */
+public interface ProductImportServicePort {
+    /**
+     * Yüklenen dosyayı diske alır ve import işini arka planda başlatır
+     */
+    ProductImportStatusResponse startImport(ProductImportFormat format, InputStream input) throws IOException;
+
+    ProductImportStatusResponse getImportStatus(String jobId);
+
+    /**
+     * Reddedilen satırları NDJSON olarak yazar
+     */
+    void writeRejections(String jobId, OutputStream output) throws IOException;
+}
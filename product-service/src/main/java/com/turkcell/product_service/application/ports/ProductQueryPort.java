@@ -0,0 +1,49 @@
+package com.turkcell.product_service.application.ports;
+
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
+import com.turkcell.product_service.application.dtos.ProductPageSlice;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Product Query Port Interface
+ * Salt okunur sorguların application layer'dan dışarıya açılan interface'i.
+ * Domain aggregate'i yeniden oluşturmadan doğrudan yanıt modelini döner.
+ */
+public interface ProductQueryPort {
+    Optional<ProductResponse> findById(Product.ProductId id);
+
+    /**
+     * Ürünün önceden serileştirilmiş ProductResponse JSON'unu, aynı satırdan üretilen ETag ile döner
+     */
+    Optional<ProductJsonResponse> findJsonById(Product.ProductId id);
+
+    /**
+     * Bulunan ürünleri istenen sırada döner; bulunamayanlar sonuçta yer almaz
+     */
+    List<ProductResponse> findAllByIds(Collection<Product.ProductId> ids);
+
+    List<ProductResponse> findAll();
+
+    /**
+     * Tüm ürünleri ProductListResponse JSON'u olarak, ürün JSON parçalarını
+     * birleştirerek döner
+     */
+    byte[] findAllAsJson();
+
+    /**
+     * Keyset pagination: afterId'den büyük id'lere sahip ürünleri id sırasına göre,
+     * okunan satırların tamamından üretilen ETag ile döner
+     */
+    ProductPageSlice findPage(Product.ProductId afterId, int limit);
+
+    /**
+     * afterId'den büyük id'lere sahip tüm ürünleri id sırasıyla, listeye toplamadan iletir
+     */
+    void forEachAfter(Product.ProductId afterId, Consumer<ProductResponse> action);
+}
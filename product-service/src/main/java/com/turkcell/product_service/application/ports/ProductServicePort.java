@@ -1,10 +1,21 @@
 package com.turkcell.product_service.application.ports;
 
+import com.turkcell.product_service.application.dtos.BulkProductRequest;
+import com.turkcell.product_service.application.dtos.BulkProductResponse;
+import com.turkcell.product_service.application.dtos.CatalogStatisticsResponse;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.ProductBatchResponse;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchResponse;
+import com.turkcell.product_service.application.dtos.StockReservationResponse;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Product Service Port Interface
  * Application layer'ın dış dünyaya açılan interface'i
@@ -12,11 +23,31 @@ import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 public interface ProductServicePort {
     ProductResponse createProduct(CreateProductRequest request);
 
+    BulkProductResponse bulkUpsertProducts(BulkProductRequest request);
+
     ProductResponse getProductById(String id);
 
+    ProductJsonResponse getProductJsonById(String id);
+
+    ProductBatchResponse getProductsByIds(List<String> ids);
+
     ProductListResponse getAllProducts();
 
+    byte[] getAllProductsJson();
+
+    ProductPageResponse getProductsPage(String cursor, Integer size);
+
+    void streamAllProducts(Consumer<ProductResponse> sink);
+
+    void exportProducts(String cursor, Consumer<ProductResponse> sink);
+
+    CatalogStatisticsResponse getCatalogStatistics();
+
+    ProductSearchResponse searchProducts(String query, Integer page, Integer size);
+
     ProductResponse updateProduct(String id, UpdateProductRequest request);
 
     void deleteProduct(String id);
+
+    StockReservationResponse reserveStock(String id, int quantity);
 }
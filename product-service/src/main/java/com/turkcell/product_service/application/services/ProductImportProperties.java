@@ -0,0 +1,17 @@
+package com.turkcell.product_service.application.services;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Ürün import ayarları
+ *
+ * @param maxUploadSize Geçici dosyaya alınacak import dosyasının en büyük boyutu
+ */
+@ConfigurationProperties(prefix = "product.import")
+public record ProductImportProperties(DataSize maxUploadSize) {
+
+    public ProductImportProperties {
+        maxUploadSize = maxUploadSize == null ? DataSize.ofMegabytes(512) : maxUploadSize;
+    }
+}
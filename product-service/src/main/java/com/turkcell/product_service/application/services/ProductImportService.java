@@ -0,0 +1,247 @@
+package com.turkcell.product_service.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportRejection;
+import com.turkcell.product_service.application.dtos.ProductImportStatusResponse;
+import com.turkcell.product_service.application.ports.ProductImportListener;
+import com.turkcell.product_service.application.ports.ProductImportServicePort;
+import com.turkcell.product_service.application.usecases.ImportProductsUseCase;
+import com.turkcell.product_service.web.exceptions.ImportJobNotFoundException;
+import com.turkcell.product_service.web.exceptions.ImportTooLargeException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Product Import Service Implementation
+ * Yüklenen dosyaları geçici dosyaya alır ve import işlerini sırayla, tek bir
+ * arka plan thread'inde çalıştırır. İlerleme ve reddedilen satırlar iş bazında
+ * tutulur; reddedilen satırlar bellekte değil geçici dosyada biriktirilir.
+ * Yüklenen dosya product.import.max-upload-size ile sınırlıdır; sınırı aşan
+ * yükleme diske yazılırken kesilir.
+ */
+@Service
+@EnableConfigurationProperties(ProductImportProperties.class)
+public class ProductImportService implements ProductImportServicePort {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    // Bellekte tutulacak en fazla iş sayısı; fazlası en eski bitenlerden silinir
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ObjectMapper objectMapper;
+    private final long maxUploadBytes;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductImportService(ImportProductsUseCase importProductsUseCase, ObjectMapper objectMapper,
+            ProductImportProperties properties) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.objectMapper = objectMapper;
+        this.maxUploadBytes = properties.maxUploadSize().toBytes();
+    }
+
+    @Override
+    public ProductImportStatusResponse startImport(ProductImportFormat format, InputStream input) throws IOException {
+        Path upload = Files.createTempFile("product-import-", "." + format.name().toLowerCase());
+        Path rejections = Files.createTempFile("product-import-rejections-", ".ndjson");
+        try {
+            copyWithLimit(input, upload);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(upload);
+            Files.deleteIfExists(rejections);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, Files.size(upload), rejections);
+        evictFinishedJobs();
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job, upload));
+        return job.toResponse();
+    }
+
+    @Override
+    public ProductImportStatusResponse getImportStatus(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    @Override
+    public void writeRejections(String jobId, OutputStream output) throws IOException {
+        Files.copy(findJob(jobId).rejections, output);
+    }
+
+    private void copyWithLimit(InputStream input, Path target) throws IOException {
+        try (OutputStream output = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[64 * 1024];
+            long copied = 0;
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                copied += read;
+                if (copied > maxUploadBytes) {
+                    throw new ImportTooLargeException("Import dosyası en fazla " + maxUploadBytes + " byte olabilir");
+                }
+                output.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import işi bulunamadı: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.status = ProductImportStatusResponse.Status.RUNNING;
+        job.startedAt = Instant.now();
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(upload));
+                BufferedWriter rejectionWriter = Files.newBufferedWriter(job.rejections, StandardCharsets.UTF_8)) {
+            importProductsUseCase.execute(job.format, input, new ProductImportListener() {
+                @Override
+                public void onRejected(ProductImportRejection rejection) {
+                    try {
+                        rejectionWriter.write(objectMapper.writeValueAsString(rejection));
+                        rejectionWriter.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void onProgress(long rowsRead, long imported, long rejected) {
+                    job.processedBytes = input.count;
+                    job.rowsRead = rowsRead;
+                    job.imported = imported;
+                    job.rejected = rejected;
+                    try {
+                        rejectionWriter.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            job.status = ProductImportStatusResponse.Status.COMPLETED;
+        } catch (Exception e) {
+            // Hata öncesinde yazılan parçalar commit edilmiş olarak kalır
+            log.error("Product import {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.status = ProductImportStatusResponse.Status.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                log.warn("Could not delete import upload {}", upload, e);
+            }
+        }
+    }
+
+    private void evictFinishedJobs() {
+        int excess = jobs.size() + 1 - MAX_RETAINED_JOBS;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing((ImportJob job) -> job.finishedAt))
+                .limit(excess)
+                .forEach(job -> {
+                    jobs.remove(job.id);
+                    try {
+                        Files.deleteIfExists(job.rejections);
+                    } catch (IOException e) {
+                        log.warn("Could not delete import rejections {}", job.rejections, e);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tek bir import işinin durumu; sadece import thread'i yazar
+     */
+    private static final class ImportJob {
+        private final String id;
+        private final ProductImportFormat format;
+        private final long totalBytes;
+        private final Path rejections;
+        private volatile ProductImportStatusResponse.Status status = ProductImportStatusResponse.Status.QUEUED;
+        private volatile long processedBytes;
+        private volatile long rowsRead;
+        private volatile long imported;
+        private volatile long rejected;
+        private volatile String error;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        private ImportJob(String id, ProductImportFormat format, long totalBytes, Path rejections) {
+            this.id = id;
+            this.format = format;
+            this.totalBytes = totalBytes;
+            this.rejections = rejections;
+        }
+
+        private ProductImportStatusResponse toResponse() {
+            return new ProductImportStatusResponse(id, format, status, totalBytes, processedBytes, rowsRead,
+                    imported, rejected, error, startedAt, finishedAt);
+        }
+    }
+
+    /**
+     * Okunan byte sayısını ilerleme için sayar
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private volatile long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package com.turkcell.product_service.application.services;
 
+import com.turkcell.product_service.application.dtos.BulkProductRequest;
+import com.turkcell.product_service.application.dtos.BulkProductResponse;
+import com.turkcell.product_service.application.dtos.CatalogStatisticsResponse;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
+import com.turkcell.product_service.application.dtos.ProductBatchResponse;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchResponse;
+import com.turkcell.product_service.application.dtos.StockReservationResponse;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 import com.turkcell.product_service.application.ports.ProductServicePort;
 import com.turkcell.product_service.application.usecases.*;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Product Service Implementation
  * ProductServicePort interface'ini implement eder
@@ -17,19 +28,43 @@ import org.springframework.stereotype.Service;
 public class ProductService implements ProductServicePort {
     private final CreateProductUseCase createProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
+    private final GetProductsByIdsUseCase getProductsByIdsUseCase;
     private final GetAllProductsUseCase getAllProductsUseCase;
+    private final GetProductsPageUseCase getProductsPageUseCase;
+    private final StreamAllProductsUseCase streamAllProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final GetCatalogStatisticsUseCase getCatalogStatisticsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final BulkUpsertProductsUseCase bulkUpsertProductsUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
 
     public ProductService(
             CreateProductUseCase createProductUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
+            GetProductsByIdsUseCase getProductsByIdsUseCase,
             GetAllProductsUseCase getAllProductsUseCase,
+            GetProductsPageUseCase getProductsPageUseCase,
+            StreamAllProductsUseCase streamAllProductsUseCase,
+            ExportProductsUseCase exportProductsUseCase,
+            GetCatalogStatisticsUseCase getCatalogStatisticsUseCase,
+            SearchProductsUseCase searchProductsUseCase,
+            BulkUpsertProductsUseCase bulkUpsertProductsUseCase,
+            ReserveStockUseCase reserveStockUseCase,
             UpdateProductUseCase updateProductUseCase,
             DeleteProductUseCase deleteProductUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
+        this.getProductsByIdsUseCase = getProductsByIdsUseCase;
         this.getAllProductsUseCase = getAllProductsUseCase;
+        this.getProductsPageUseCase = getProductsPageUseCase;
+        this.streamAllProductsUseCase = streamAllProductsUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
+        this.getCatalogStatisticsUseCase = getCatalogStatisticsUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.bulkUpsertProductsUseCase = bulkUpsertProductsUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
     }
@@ -39,16 +74,61 @@ public class ProductService implements ProductServicePort {
         return createProductUseCase.execute(request);
     }
 
+    @Override
+    public BulkProductResponse bulkUpsertProducts(BulkProductRequest request) {
+        return bulkUpsertProductsUseCase.execute(request);
+    }
+
     @Override
     public ProductResponse getProductById(String id) {
         return getProductByIdUseCase.execute(id);
     }
 
+    @Override
+    public ProductJsonResponse getProductJsonById(String id) {
+        return getProductByIdUseCase.executeAsJson(id);
+    }
+
+    @Override
+    public ProductBatchResponse getProductsByIds(List<String> ids) {
+        return getProductsByIdsUseCase.execute(ids);
+    }
+
     @Override
     public ProductListResponse getAllProducts() {
         return getAllProductsUseCase.execute();
     }
 
+    @Override
+    public byte[] getAllProductsJson() {
+        return getAllProductsUseCase.executeAsJson();
+    }
+
+    @Override
+    public ProductPageResponse getProductsPage(String cursor, Integer size) {
+        return getProductsPageUseCase.execute(cursor, size);
+    }
+
+    @Override
+    public void streamAllProducts(Consumer<ProductResponse> sink) {
+        streamAllProductsUseCase.execute(sink);
+    }
+
+    @Override
+    public void exportProducts(String cursor, Consumer<ProductResponse> sink) {
+        exportProductsUseCase.execute(cursor, sink);
+    }
+
+    @Override
+    public CatalogStatisticsResponse getCatalogStatistics() {
+        return getCatalogStatisticsUseCase.execute();
+    }
+
+    @Override
+    public ProductSearchResponse searchProducts(String query, Integer page, Integer size) {
+        return searchProductsUseCase.execute(query, page, size);
+    }
+
     @Override
     public ProductResponse updateProduct(String id, UpdateProductRequest request) {
         return updateProductUseCase.execute(id, request);
@@ -58,4 +138,9 @@ public class ProductService implements ProductServicePort {
     public void deleteProduct(String id) {
         deleteProductUseCase.execute(id);
     }
+
+    @Override
+    public StockReservationResponse reserveStock(String id, int quantity) {
+        return reserveStockUseCase.execute(id, quantity);
+    }
 }
@@ -0,0 +1,120 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.BulkProductItemRequest;
+import com.turkcell.product_service.application.dtos.BulkProductItemResult;
+import com.turkcell.product_service.application.dtos.BulkProductRequest;
+import com.turkcell.product_service.application.dtos.BulkProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk Upsert Products Use Case
+ * Ürünleri tek istekte toplu olarak oluşturur/günceller. Geçersiz kalemler
+ * tüm isteği düşürmez; her kalem için ayrı sonuç döner.
+ */
+@Service
+public class BulkUpsertProductsUseCase {
+    public static final int MAX_ITEMS = 10_000;
+
+    private final ProductRepository productRepository;
+    private final Validator validator;
+
+    public BulkUpsertProductsUseCase(ProductRepository productRepository, Validator validator) {
+        this.productRepository = productRepository;
+        this.validator = validator;
+    }
+
+    public BulkProductResponse execute(BulkProductRequest request) {
+        List<BulkProductItemRequest> items = request == null ? null : request.getProducts();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Toplu istek en az bir ürün içermelidir");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("Toplu istek en fazla " + MAX_ITEMS + " ürün içerebilir");
+        }
+
+        BulkProductItemResult[] results = new BulkProductItemResult[items.size()];
+        List<Product> validProducts = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        Set<Product.ProductId> requestedIds = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkProductItemRequest item = items.get(i);
+            List<String> errors = validate(item);
+            if (!errors.isEmpty()) {
+                results[i] = BulkProductItemResult.failure(i, item == null ? null : item.getId(), errors);
+                continue;
+            }
+            try {
+                Product product = toProduct(item);
+                if (item.getId() != null && !requestedIds.add(product.getId())) {
+                    throw new IllegalArgumentException("Aynı ürün ID'si istekte birden fazla kez var: " + item.getId());
+                }
+                validProducts.add(product);
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkProductItemResult.failure(i, item.getId(), List.of(e.getMessage()));
+            }
+        }
+
+        if (!validProducts.isEmpty()) {
+            // Oluşturuldu/güncellendi ayrımı repository'nin yazım sırasında yaptığı kontrolden gelir
+            List<ProductSaveResult> saveResults = productRepository.saveAll(validProducts);
+            for (int j = 0; j < saveResults.size(); j++) {
+                results[validIndexes.get(j)] = toItemResult(validIndexes.get(j), saveResults.get(j));
+            }
+        }
+
+        return new BulkProductResponse(Arrays.asList(results));
+    }
+
+    private static BulkProductItemResult toItemResult(int index, ProductSaveResult saveResult) {
+        String id = saveResult.getProductId().toString();
+        return switch (saveResult.getStatus()) {
+            case CREATED -> BulkProductItemResult.success(index, id, BulkProductItemResult.Status.CREATED);
+            case UPDATED -> BulkProductItemResult.success(index, id, BulkProductItemResult.Status.UPDATED);
+            case FAILED -> BulkProductItemResult.failure(index, id, List.of(saveResult.getError()));
+        };
+    }
+
+    private List<String> validate(BulkProductItemRequest item) {
+        if (item == null) {
+            return List.of("Ürün bilgisi boş olamaz");
+        }
+        Set<ConstraintViolation<BulkProductItemRequest>> violations = validator.validate(item);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private Product toProduct(BulkProductItemRequest item) {
+        // DTO'dan domain objelerine dönüşüm
+        Currency currency = Currency.fromCode(item.getPrice().getCurrency());
+        Price price = new Price(item.getPrice().getAmount(), currency);
+        Stock stock = new Stock(item.getStock().getQuantity());
+
+        if (item.getId() == null) {
+            return Product.create(item.getName(), item.getDescription(), price, stock);
+        }
+        return Product.reconstruct(
+                Product.ProductId.fromString(item.getId()),
+                item.getName(),
+                item.getDescription(),
+                price,
+                stock);
+    }
+}
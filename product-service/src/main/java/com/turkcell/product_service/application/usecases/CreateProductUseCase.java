@@ -1,9 +1,8 @@
 package com.turkcell.product_service.application.usecases;
 
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
-import com.turkcell.product_service.application.dtos.PriceDto;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.mappers.ProductResponseMapper;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.Currency;
@@ -39,21 +38,6 @@ public class CreateProductUseCase {
         Product savedProduct = productRepository.save(product);
 
         // Domain entity'den DTO'ya dönüşüm
-        return toProductResponse(savedProduct);
-    }
-
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        return ProductResponseMapper.toResponse(savedProduct);
     }
 }
@@ -0,0 +1,30 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Export Products Use Case
+ * Kataloğu id sırasıyla, bellekte toplamadan dışa aktarır.
+ * Yarıda kalan aktarım, son alınan ürünün id'si cursor verilerek devam ettirilebilir.
+ */
+@Service
+public class ExportProductsUseCase {
+    private final ProductQueryPort productQueryPort;
+
+    public ExportProductsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    public void execute(String cursor, Consumer<ProductResponse> sink) {
+        Product.ProductId afterId = cursor == null || cursor.isBlank()
+                ? null
+                : Product.ProductId.fromString(cursor);
+
+        productQueryPort.forEachAfter(afterId, sink);
+    }
+}
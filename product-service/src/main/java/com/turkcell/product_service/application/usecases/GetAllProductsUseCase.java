@@ -1,49 +1,36 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
 import com.turkcell.product_service.application.dtos.ProductListResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
-import com.turkcell.product_service.domain.entities.Product;
-import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Get All Products Use Case
  */
 @Service
 public class GetAllProductsUseCase {
-    private final ProductRepository productRepository;
+    private final ProductQueryPort productQueryPort;
 
-    public GetAllProductsUseCase(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public GetAllProductsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
     }
 
+    @Transactional(readOnly = true)
     public ProductListResponse execute() {
-        List<Product> products = productRepository.findAll();
-
-        List<ProductResponse> productResponses = products.stream()
-                .map(this::toProductResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> productResponses = productQueryPort.findAll();
 
         return new ProductListResponse(productResponses, productResponses.size());
     }
 
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+    /**
+     * Ürün listesini önceden serileştirilmiş ürün JSON'larından oluşturur
+     */
+    @Transactional(readOnly = true)
+    public byte[] executeAsJson() {
+        return productQueryPort.findAllAsJson();
     }
 }
@@ -0,0 +1,30 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.CatalogStatisticsResponse;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.CatalogStatistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Get Catalog Statistics Use Case
+ */
+@Service
+public class GetCatalogStatisticsUseCase {
+    private final ProductRepository productRepository;
+
+    public GetCatalogStatisticsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogStatisticsResponse execute() {
+        CatalogStatistics statistics = productRepository.getCatalogStatistics();
+
+        return new CatalogStatisticsResponse(
+                statistics.getTotalProducts(),
+                statistics.getInStockProducts(),
+                statistics.getOutOfStockProducts(),
+                statistics.getTotalStockUnits());
+    }
+}
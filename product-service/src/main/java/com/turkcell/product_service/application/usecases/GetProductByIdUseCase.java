@@ -1,45 +1,43 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
 import com.turkcell.product_service.domain.entities.Product;
-import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Get Product By ID Use Case
+ * Okumalar ürün cache'ini doldurduğu için readOnly transaction açılmaz; cache
+ * kaçırıldığında ürün replica yerine primary'den okunur ve replica gecikmesi
+ * cache'e taşınmaz.
  */
 @Service
 public class GetProductByIdUseCase {
-    private final ProductRepository productRepository;
+    private final ProductQueryPort productQueryPort;
 
-    public GetProductByIdUseCase(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public GetProductByIdUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
     }
 
+    @Transactional
     public ProductResponse execute(String id) {
         Product.ProductId productId = Product.ProductId.fromString(id);
 
-        Product product = productRepository.findById(productId)
+        return productQueryPort.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
-
-        return toProductResponse(product);
     }
 
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
+    /**
+     * Ürünü önceden serileştirilmiş JSON olarak, gövdeyle aynı okumadan üretilen ETag ile döner
+     */
+    @Transactional
+    public ProductJsonResponse executeAsJson(String id) {
+        Product.ProductId productId = Product.ProductId.fromString(id);
 
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        return productQueryPort.findJsonById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
     }
 }
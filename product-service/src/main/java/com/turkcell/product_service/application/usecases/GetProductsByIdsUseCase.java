@@ -0,0 +1,60 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductBatchResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Get Products By Ids Use Case
+ * Birden fazla ürünü tek sorguda getirir; bulunamayan (veya geçersiz) ID'leri ayrıca döner
+ */
+@Service
+public class GetProductsByIdsUseCase {
+    private final ProductQueryPort productQueryPort;
+
+    public GetProductsByIdsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    // Cache'e yüklenen ürünler replica'dan değil primary'den okunur
+    @Transactional
+    public ProductBatchResponse execute(List<String> ids) {
+        Set<String> requestedIds = new LinkedHashSet<>(ids);
+        List<Product.ProductId> productIds = new ArrayList<>(requestedIds.size());
+        for (String id : requestedIds) {
+            Product.ProductId.tryParse(id).ifPresent(productIds::add);
+        }
+
+        // Yanıtlardaki id'ler kanonik biçimdedir
+        Map<String, ProductResponse> found = productQueryPort.findAllByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        // Yanıt, istek sırasını korur
+        for (String id : requestedIds) {
+            Optional<ProductResponse> product = Product.ProductId.tryParse(id)
+                    .map(Product.ProductId::toString)
+                    .map(found::get);
+            if (product.isPresent()) {
+                products.add(product.get());
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return new ProductBatchResponse(products, missingIds);
+    }
+}
@@ -0,0 +1,61 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductPageSlice;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Get Products Page Use Case
+ * Ürünleri id üzerinden keyset (cursor) sayfalama ile listeler.
+ * Sayfanın ETag'i gövdeyi oluşturan satırlardan hesaplanır; ayrı sorgu yapılmaz.
+ */
+@Service
+public class GetProductsPageUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final ProductQueryPort productQueryPort;
+
+    public GetProductsPageUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    @Transactional(readOnly = true)
+    public ProductPageResponse execute(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Product.ProductId afterId = resolveCursor(cursor);
+
+        // Sonraki sayfanın olup olmadığını anlamak için bir fazlası okunur
+        ProductPageSlice slice = productQueryPort.findPage(afterId, pageSize + 1);
+        List<ProductResponse> productResponses = slice.getProducts();
+        boolean hasMore = productResponses.size() > pageSize;
+        if (hasMore) {
+            productResponses = productResponses.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? productResponses.get(productResponses.size() - 1).getId() : null;
+        return new ProductPageResponse(productResponses, nextCursor, hasMore, slice.getEtag());
+    }
+
+    private Product.ProductId resolveCursor(String cursor) {
+        return cursor == null || cursor.isBlank()
+                ? null
+                : Product.ProductId.fromString(cursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Sayfa boyutu pozitif olmalıdır");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,206 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.turkcell.product_service.application.dtos.BulkProductItemRequest;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportRejection;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductImportListener;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Import Products Use Case
+ * CSV veya NDJSON dosyasını satır satır okur, her satırı Price/Currency/Stock
+ * kurallarına göre doğrular ve geçerli ürünleri parçalar halinde toplu yükler.
+ * Bellekte en fazla bir parça tutulur; geçersiz satırlar işi durdurmaz.
+ */
+@Service
+public class ImportProductsUseCase {
+    public static final int CHUNK_SIZE = 5_000;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final ProductRepository productRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public ImportProductsUseCase(ProductRepository productRepository, Validator validator, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    public void execute(ProductImportFormat format, InputStream input, ProductImportListener listener)
+            throws IOException {
+        ChunkWriter writer = new ChunkWriter(listener);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (format == ProductImportFormat.CSV) {
+            readCsv(reader, writer);
+        } else {
+            readNdjson(reader, writer);
+        }
+        writer.flush();
+    }
+
+    private void readCsv(BufferedReader reader, ChunkWriter writer) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows = CSV_MAPPER.readerForMapOf(String.class)
+                .with(schema)
+                .readValues(reader)) {
+            long row = 0;
+            while (rows.hasNextValue()) {
+                Map<String, String> values = rows.nextValue();
+                row++;
+                try {
+                    writer.accept(row, toItem(values));
+                } catch (IllegalArgumentException e) {
+                    writer.reject(row, blankToNull(values.get("id")), List.of(e.getMessage()));
+                }
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ChunkWriter writer) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            BulkProductItemRequest item;
+            try {
+                item = objectMapper.readValue(line, BulkProductItemRequest.class);
+            } catch (JsonProcessingException e) {
+                writer.reject(row, null, List.of("Geçersiz JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            writer.accept(row, item);
+        }
+    }
+
+    private static BulkProductItemRequest toItem(Map<String, String> values) {
+        String amount = blankToNull(values.get("price_amount"));
+        String quantity = blankToNull(values.get("stock_quantity"));
+        PriceDto price = new PriceDto(
+                amount == null ? null : new BigDecimal(amount.trim()),
+                blankToNull(values.get("price_currency")));
+        StockDto stock = new StockDto(quantity == null ? null : Integer.valueOf(quantity.trim()));
+        return new BulkProductItemRequest(
+                blankToNull(values.get("id")),
+                values.get("name"),
+                values.get("description"),
+                price,
+                stock);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private List<String> validate(BulkProductItemRequest item) {
+        if (item == null) {
+            return List.of("Ürün bilgisi boş olamaz");
+        }
+        Set<ConstraintViolation<BulkProductItemRequest>> violations = validator.validate(item);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private Product toProduct(BulkProductItemRequest item) {
+        // DTO'dan domain objelerine dönüşüm
+        Currency currency = Currency.fromCode(item.getPrice().getCurrency());
+        Price price = new Price(item.getPrice().getAmount(), currency);
+        Stock stock = new Stock(item.getStock().getQuantity());
+
+        if (item.getId() == null) {
+            return Product.create(item.getName(), item.getDescription(), price, stock);
+        }
+        return Product.reconstruct(
+                Product.ProductId.fromString(item.getId()),
+                item.getName(),
+                item.getDescription(),
+                price,
+                stock);
+    }
+
+    /**
+     * Geçerli ürünleri parça dolduğunda veritabanına yazar, sayaçları tutar
+     */
+    private final class ChunkWriter {
+        private final ProductImportListener listener;
+        private final List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        private ChunkWriter(ProductImportListener listener) {
+            this.listener = listener;
+        }
+
+        void accept(long row, BulkProductItemRequest item) {
+            rowsRead++;
+            List<String> errors = validate(item);
+            if (!errors.isEmpty()) {
+                addRejection(row, item == null ? null : item.getId(), errors);
+                return;
+            }
+            try {
+                chunk.add(toProduct(item));
+            } catch (IllegalArgumentException e) {
+                addRejection(row, item.getId(), List.of(e.getMessage()));
+                return;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Ayrıştırılamayan satırı reddeder
+         */
+        void reject(long row, String id, List<String> errors) {
+            rowsRead++;
+            addRejection(row, id, errors);
+        }
+
+        private void addRejection(long row, String id, List<String> errors) {
+            rejected++;
+            listener.onRejected(new ProductImportRejection(row, id, errors));
+        }
+
+        void flush() {
+            if (!chunk.isEmpty()) {
+                productRepository.importProducts(chunk);
+                imported += chunk.size();
+                chunk.clear();
+            }
+            listener.onProgress(rowsRead, imported, rejected);
+        }
+    }
+}
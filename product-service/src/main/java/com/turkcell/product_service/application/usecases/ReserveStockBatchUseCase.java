@@ -0,0 +1,87 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.StockBatchReservationResponse;
+import com.turkcell.product_service.application.dtos.StockReservationLine;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reserve Stock Batch Use Case
+ * Sipariş satırlarını ürün bazında toplar ve ürün başına tek koşullu UPDATE
+ * ile, hepsi tek transaction'da stoktan düşer. Veritabanı işi satır sayısıyla
+ * değil, batch'teki farklı ürün sayısıyla büyür.
+ */
+@Service
+public class ReserveStockBatchUseCase {
+    private static final Logger log = LoggerFactory.getLogger(ReserveStockBatchUseCase.class);
+
+    private final ProductRepository productRepository;
+
+    public ReserveStockBatchUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Transactional
+    public StockBatchReservationResponse execute(List<StockReservationLine> lines) {
+        int rejected = 0;
+
+        // Satırlar ürün bazında, geliş sırası korunarak gruplanır
+        Map<Product.ProductId, List<Integer>> quantitiesByProduct = new LinkedHashMap<>();
+        for (StockReservationLine line : lines) {
+            Optional<Product.ProductId> productId = Product.ProductId.tryParse(line.getProductId());
+            if (productId.isEmpty() || line.getQuantity() <= 0) {
+                log.warn("Geçersiz sipariş satırı atlandı. Ürün: {}, Miktar: {}", line.getProductId(),
+                        line.getQuantity());
+                rejected++;
+                continue;
+            }
+            quantitiesByProduct.computeIfAbsent(productId.get(), id -> new ArrayList<>()).add(line.getQuantity());
+        }
+
+        Map<Product.ProductId, Integer> totals = new LinkedHashMap<>();
+        quantitiesByProduct.forEach((productId, quantities) -> {
+            long total = quantities.stream().mapToLong(Integer::longValue).sum();
+            // int'e sığmayan toplam zaten karşılanamaz; satırlar aşağıda tek tek denenir
+            if (total <= Integer.MAX_VALUE) {
+                totals.put(productId, (int) total);
+            }
+        });
+        Map<Product.ProductId, StockReservationResult> results = productRepository.reserveStock(totals);
+
+        int reserved = 0;
+        for (Map.Entry<Product.ProductId, List<Integer>> entry : quantitiesByProduct.entrySet()) {
+            List<Integer> quantities = entry.getValue();
+            StockReservationResult result = results.get(entry.getKey());
+            if (result == StockReservationResult.RESERVED) {
+                reserved += quantities.size();
+                continue;
+            }
+            if (result == StockReservationResult.PRODUCT_NOT_FOUND) {
+                log.warn("Sipariş edilen ürün bulunamadı: {} ({} satır)", entry.getKey(), quantities.size());
+                rejected += quantities.size();
+                continue;
+            }
+            // Toplam karşılanamıyorsa satırlar geliş sırasıyla tek tek denenir;
+            // sonuç kayıt bazlı işlemle aynıdır
+            for (int quantity : quantities) {
+                if (productRepository.reserveStock(entry.getKey(), quantity) == StockReservationResult.RESERVED) {
+                    reserved++;
+                } else {
+                    rejected++;
+                }
+            }
+        }
+        return new StockBatchReservationResponse(quantitiesByProduct.size(), reserved, rejected);
+    }
+}
@@ -0,0 +1,36 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.StockReservationResponse;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import com.turkcell.product_service.web.exceptions.InsufficientStockException;
+import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reserve Stock Use Case
+ * Ürünü yüklemeden, koşullu UPDATE ile stoktan atomik olarak düşer
+ */
+@Service
+public class ReserveStockUseCase {
+    private final ProductRepository productRepository;
+
+    public ReserveStockUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public StockReservationResponse execute(String id, int quantity) {
+        Product.ProductId productId = Product.ProductId.fromString(id);
+
+        StockReservationResult result = productRepository.reserveStock(productId, quantity);
+        switch (result) {
+            case RESERVED:
+                return new StockReservationResponse(productId.toString(), quantity);
+            case INSUFFICIENT_STOCK:
+                throw new InsufficientStockException("Yetersiz stok. Ürün: " + id + ", İstenen: " + quantity);
+            default:
+                throw new ProductNotFoundException("Ürün bulunamadı: " + id);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchResponse;
+import com.turkcell.product_service.application.mappers.ProductResponseMapper;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search Products Use Case
+ * Ürün adında alt metin araması yapar, sonuçları sıralı ve sayfalı döner
+ */
+@Service
+public class SearchProductsUseCase {
+    public static final int MIN_QUERY_LENGTH = 3;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+
+    public SearchProductsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSearchResponse execute(String query, Integer page, Integer size) {
+        if (query == null || query.trim().length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Arama metni en az " + MIN_QUERY_LENGTH + " karakter olmalıdır");
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Sayfa numarası negatif olamaz");
+        }
+        int pageSize = resolvePageSize(size);
+        int offset;
+        try {
+            offset = Math.multiplyExact(pageNumber, pageSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Sayfa numarası çok büyük: " + pageNumber);
+        }
+
+        // Sonraki sayfanın olup olmadığını anlamak için bir fazlası okunur
+        List<Product> products = productRepository.searchByName(query.trim(), offset, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+        if (hasMore) {
+            products = products.subList(0, pageSize);
+        }
+
+        List<ProductResponse> productResponses = products.stream()
+                .map(ProductResponseMapper::toResponse)
+                .collect(Collectors.toList());
+
+        return new ProductSearchResponse(productResponses, pageNumber, productResponses.size(), hasMore);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Sayfa boyutu pozitif olmalıdır");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
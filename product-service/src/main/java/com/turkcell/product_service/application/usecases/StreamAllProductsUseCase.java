@@ -0,0 +1,25 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Stream All Products Use Case
+ * Tüm ürünleri listeye toplamadan, okundukça tek tek iletir.
+ * Export ile aynı okuma modeli akışını kullanır; domain nesnesi oluşturulmaz.
+ */
+@Service
+public class StreamAllProductsUseCase {
+    private final ProductQueryPort productQueryPort;
+
+    public StreamAllProductsUseCase(ProductQueryPort productQueryPort) {
+        this.productQueryPort = productQueryPort;
+    }
+
+    public void execute(Consumer<ProductResponse> sink) {
+        productQueryPort.forEachAfter(null, sink);
+    }
+}
@@ -1,9 +1,8 @@
 package com.turkcell.product_service.application.usecases;
 
-import com.turkcell.product_service.application.dtos.PriceDto;
 import com.turkcell.product_service.application.dtos.ProductResponse;
-import com.turkcell.product_service.application.dtos.StockDto;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
+import com.turkcell.product_service.application.mappers.ProductResponseMapper;
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
 import com.turkcell.product_service.domain.valueobjects.Currency;
@@ -11,6 +10,7 @@ import com.turkcell.product_service.domain.valueobjects.Price;
 import com.turkcell.product_service.domain.valueobjects.Stock;
 import com.turkcell.product_service.web.exceptions.ProductNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Update Product Use Case
@@ -23,10 +23,12 @@ public class UpdateProductUseCase {
         this.productRepository = productRepository;
     }
 
+    @Transactional
     public ProductResponse execute(String id, UpdateProductRequest request) {
         Product.ProductId productId = Product.ProductId.fromString(id);
 
-        Product product = productRepository.findById(productId)
+        // Cache'teki kopya eski olabileceği için güncellenecek ürün veritabanından okunur
+        Product product = productRepository.findByIdForUpdate(productId)
                 .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
 
         // Ürün bilgilerini güncelle
@@ -39,30 +41,20 @@ public class UpdateProductUseCase {
             product.updatePrice(newPrice);
         }
 
-        // Stok güncellemesi (eğer varsa)
-        if (request.getStock() != null) {
-            Stock newStock = new Stock(request.getStock().getQuantity());
-            product.updateStock(newStock);
+        // Stok istenmediyse stok kolonu yazılmaz; araya giren stok düşümleri ezilmez
+        if (request.getStock() == null) {
+            Product updatedProduct = productRepository.updateDetails(product)
+                    .orElseThrow(() -> new ProductNotFoundException("Ürün bulunamadı: " + id));
+            return ProductResponseMapper.toResponse(updatedProduct);
         }
 
+        // Stok güncellemesi
+        Stock newStock = new Stock(request.getStock().getQuantity());
+        product.updateStock(newStock);
+
         // Repository'ye kaydet
         Product updatedProduct = productRepository.save(product);
 
-        return toProductResponse(updatedProduct);
-    }
-
-    private ProductResponse toProductResponse(Product product) {
-        PriceDto priceDto = new PriceDto(
-                product.getPrice().getAmount(),
-                product.getPrice().getCurrency().getCode());
-
-        StockDto stockDto = new StockDto(product.getStock().getQuantity());
-
-        return new ProductResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getDescription(),
-                priceDto,
-                stockDto);
+        return ProductResponseMapper.toResponse(updatedProduct);
     }
 }
@@ -3,6 +3,7 @@ package com.turkcell.product_service.domain.entities;
 import com.turkcell.product_service.domain.valueobjects.Price;
 import com.turkcell.product_service.domain.valueobjects.Stock;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -120,10 +121,18 @@ public class Product {
      * Stoktan belirli miktar çıkarır (satış işlemi)
      */
     public void reduceStock(int quantity) {
+        validateStockReduction(quantity);
+        this.stock = this.stock.reduce(quantity);
+    }
+
+    /**
+     * Stoktan çıkarılacak miktarın kuralını doğrular. Ürün yüklenmeden yapılan
+     * atomik stok düşümlerinde de aynı kural uygulanır.
+     */
+    public static void validateStockReduction(int quantity) {
         if (quantity <= 0) {
             throw new IllegalArgumentException("Çıkarılacak miktar pozitif olmalıdır");
         }
-        this.stock = this.stock.reduce(quantity);
     }
 
     /**
@@ -157,7 +166,7 @@ public class Product {
         if (percentage < 0) {
             throw new IllegalArgumentException("Yüzde negatif olamaz");
         }
-        this.price = this.price.increaseByPercentage(new java.math.BigDecimal(percentage));
+        this.price = this.price.increaseByPercentage(java.math.BigDecimal.valueOf(percentage));
     }
 
     /**
@@ -167,7 +176,7 @@ public class Product {
         if (percentage < 0) {
             throw new IllegalArgumentException("Yüzde negatif olamaz");
         }
-        this.price = this.price.decreaseByPercentage(new java.math.BigDecimal(percentage));
+        this.price = this.price.decreaseByPercentage(java.math.BigDecimal.valueOf(percentage));
     }
 
     @Override
@@ -210,15 +219,100 @@ public class Product {
             return new ProductId(UUID.randomUUID());
         }
 
+        public static ProductId of(UUID value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Ürün ID'si null veya boş olamaz");
+            }
+            return new ProductId(value);
+        }
+
         public static ProductId fromString(String id) {
             if (id == null || id.trim().isEmpty()) {
                 throw new IllegalArgumentException("Ürün ID'si null veya boş olamaz");
             }
+            ProductId productId = parseOrNull(id);
+            if (productId == null) {
+                throw new IllegalArgumentException("Geçersiz ürün ID formatı: " + id);
+            }
+            return productId;
+        }
+
+        /**
+         * ID'yi exception fırlatmadan çözümler; geçersizse boş döner
+         */
+        public static Optional<ProductId> tryParse(String id) {
+            return Optional.ofNullable(parseOrNull(id));
+        }
+
+        /**
+         * ID'nin UUID.fromString ile çözümlenebilir olup olmadığını kontrol eder
+         */
+        public static boolean isValid(String id) {
+            return parseOrNull(id) != null;
+        }
+
+        /**
+         * Kanonik UUID metnini (8-4-4-4-12 hex) ara String/array üretmeden iki long'a
+         * çevirir. UUID.fromString'in kabul ettiği kısa gruplu yazımlar (örn. 1-2-3-4-5)
+         * nadir olduğu için ona bırakılır; dört tireli olmayan girdi exception
+         * üretilmeden reddedilir. Geçersiz girdide null döner.
+         */
+        private static ProductId parseOrNull(String id) {
+            if (id == null || id.length() > 36) {
+                return null;
+            }
+            if (id.length() != 36
+                    || id.charAt(8) != '-' || id.charAt(13) != '-'
+                    || id.charAt(18) != '-' || id.charAt(23) != '-') {
+                return parseNonCanonicalOrNull(id);
+            }
+            long mostSigBits = 0;
+            long leastSigBits = 0;
+            for (int i = 0; i < 36; i++) {
+                if (i == 8 || i == 13 || i == 18 || i == 23) {
+                    continue;
+                }
+                int digit = hexValue(id.charAt(i));
+                if (digit < 0) {
+                    return null;
+                }
+                if (i < 19) {
+                    mostSigBits = (mostSigBits << 4) | digit;
+                } else {
+                    leastSigBits = (leastSigBits << 4) | digit;
+                }
+            }
+            return new ProductId(new UUID(mostSigBits, leastSigBits));
+        }
+
+        private static ProductId parseNonCanonicalOrNull(String id) {
+            int dashes = 0;
+            for (int i = 0; i < id.length(); i++) {
+                if (id.charAt(i) == '-') {
+                    dashes++;
+                }
+            }
+            if (dashes != 4) {
+                return null;
+            }
             try {
                 return new ProductId(UUID.fromString(id));
             } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Geçersiz ürün ID formatı: " + id);
+                return null;
+            }
+        }
+
+        private static int hexValue(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            }
+            if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
             }
+            return -1;
         }
 
         public UUID getValue() {
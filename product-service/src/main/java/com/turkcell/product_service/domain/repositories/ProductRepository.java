@@ -1,7 +1,13 @@
 package com.turkcell.product_service.domain.repositories;
 
 import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.CatalogStatistics;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,6 +25,36 @@ public interface ProductRepository {
      */
     Product save(Product product);
 
+    /**
+     * Ürünün ad, açıklama ve fiyatını günceller; stoğa yazmaz. Eşzamanlı stok
+     * düşümleri bu güncellemeyle ezilmez
+     * 
+     * @param product Güncellenecek ürün
+     * @return Güncellenen ürün (ürün yoksa boş)
+     */
+    Optional<Product> updateDetails(Product product);
+
+    /**
+     * Ürünleri toplu olarak kaydeder veya günceller (JDBC batch).
+     * Ürünler parçalar halinde ayrı transaction'larda yazılır; kısıt ihlali yalnızca
+     * ilgili ürünü başarısız kılar. Altyapı hatası fırlatılır, o ana kadar yazılan
+     * parçalar commit edilmiş kalır (istek aynı ID'lerle tekrarlanabilir).
+     * 
+     * @param products Kaydedilecek ürünler
+     * @return Ürün başına sonuç (oluşturuldu, güncellendi, başarısız), girdi sırasıyla
+     */
+    List<ProductSaveResult> saveAll(List<Product> products);
+
+    /**
+     * Çok sayıda ürünü, kayıtları tek tek yüklemeden hızlı toplu yükleme yolu ile
+     * ekler veya günceller. Aynı id birden fazla kez verilirse sonuncusu geçerlidir.
+     * Var olan ürünlerin stoğu korunur; stok sadece yeni ürünlere yazılır.
+     * 
+     * @param products Yüklenecek ürünler
+     * @return Yüklenen (tekilleştirilmiş) ürün sayısı
+     */
+    int importProducts(List<Product> products);
+
     /**
      * ID'ye göre ürün bulur
      * 
@@ -27,6 +63,24 @@ public interface ProductRepository {
      */
     Optional<Product> findById(Product.ProductId id);
 
+    /**
+     * ID'ye göre ürünü cache'i atlayarak primary veritabanından okur; okunan
+     * ürünün değiştirilip geri yazılacağı akışlarda kullanılır
+     * 
+     * @param id Ürün ID'si
+     * @return Bulunan ürün (varsa)
+     */
+    Optional<Product> findByIdForUpdate(Product.ProductId id);
+
+    /**
+     * ID listesine göre ürünleri tek seferde (WHERE id IN (...)) getirir;
+     * bulunamayan ID'ler sonuçta yer almaz
+     * 
+     * @param ids Ürün ID'leri
+     * @return Bulunan ürünler
+     */
+    List<Product> findAllByIds(Collection<Product.ProductId> ids);
+
     /**
      * Tüm ürünleri getirir
      * 
@@ -42,6 +96,17 @@ public interface ProductRepository {
      */
     List<Product> findByNameContaining(String name);
 
+    /**
+     * Ürün adında index destekli alt metin araması yapar; sonuçlar alaka
+     * düzeyine göre sıralıdır
+     * 
+     * @param query  Aranacak metin
+     * @param offset Atlanacak sonuç sayısı
+     * @param limit  Maksimum sonuç sayısı
+     * @return Sıralı ürün listesi
+     */
+    List<Product> searchByName(String query, int offset, int limit);
+
     /**
      * Stokta olan ürünleri getirir
      * 
@@ -57,13 +122,33 @@ public interface ProductRepository {
     List<Product> findOutOfStockProducts();
 
     /**
-     * Belirli fiyat aralığındaki ürünleri getirir
+     * Belirli fiyat aralığındaki ürünleri getirir (sınırlar dahil).
+     * Sınırlar para biriminin küçük birimine aralığı daraltacak yönde yuvarlanır
      * 
      * @param minPrice Minimum fiyat
      * @param maxPrice Maksimum fiyat
      * @return Fiyat aralığındaki ürünler
      */
-    List<Product> findByPriceRange(double minPrice, double maxPrice);
+    List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
+
+    /**
+     * Ürünü okumadan, tek bir koşullu UPDATE ile stoktan düşer
+     * (stock_quantity >= quantity koşulu stoğun negatife düşmesini engeller)
+     * 
+     * @param id       Ürün ID'si
+     * @param quantity Düşülecek miktar (pozitif)
+     * @return Düşüm sonucu
+     */
+    StockReservationResult reserveStock(Product.ProductId id, int quantity);
+
+    /**
+     * Birden fazla ürünün stoğunu tek transaction'da düşer; her ürün için tek
+     * koşullu UPDATE çalışır. Bir ürünün yetersiz stoğu diğerlerini etkilemez.
+     * 
+     * @param quantities Ürün başına düşülecek toplam miktar (pozitif)
+     * @return Ürün başına düşüm sonucu (girdi sırasıyla)
+     */
+    Map<Product.ProductId, StockReservationResult> reserveStock(Map<Product.ProductId, Integer> quantities);
 
     /**
      * Ürünü siler
@@ -93,4 +178,19 @@ public interface ProductRepository {
      * @return Stokta olan ürün sayısı
      */
     long countInStockProducts();
+
+    /**
+     * Stokta olmayan ürün sayısını döner
+     * 
+     * @return Stokta olmayan ürün sayısı
+     */
+    long countOutOfStockProducts();
+
+    /**
+     * Toplam, stokta olan ve stokta olmayan ürün sayıları ile toplam stok
+     * adedini tek seferde döner
+     * 
+     * @return Katalog istatistikleri
+     */
+    CatalogStatistics getCatalogStatistics();
 }
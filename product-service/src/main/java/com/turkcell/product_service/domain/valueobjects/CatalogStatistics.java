@@ -0,0 +1,69 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import java.util.Objects;
+
+/**
+ * CatalogStatistics Value Object
+ * Katalogdaki ürün ve stok sayılarının anlık özetini temsil eder
+ */
+public final class CatalogStatistics {
+    private final long totalProducts;
+    private final long inStockProducts;
+    private final long outOfStockProducts;
+    private final long totalStockUnits;
+
+    public CatalogStatistics(long totalProducts, long inStockProducts, long outOfStockProducts,
+            long totalStockUnits) {
+        if (totalProducts < 0 || inStockProducts < 0 || outOfStockProducts < 0 || totalStockUnits < 0) {
+            throw new IllegalArgumentException("Katalog istatistikleri negatif olamaz");
+        }
+        this.totalProducts = totalProducts;
+        this.inStockProducts = inStockProducts;
+        this.outOfStockProducts = outOfStockProducts;
+        this.totalStockUnits = totalStockUnits;
+    }
+
+    public long getTotalProducts() {
+        return totalProducts;
+    }
+
+    public long getInStockProducts() {
+        return inStockProducts;
+    }
+
+    public long getOutOfStockProducts() {
+        return outOfStockProducts;
+    }
+
+    public long getTotalStockUnits() {
+        return totalStockUnits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CatalogStatistics that = (CatalogStatistics) o;
+        return totalProducts == that.totalProducts
+                && inStockProducts == that.inStockProducts
+                && outOfStockProducts == that.outOfStockProducts
+                && totalStockUnits == that.totalStockUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalProducts, inStockProducts, outOfStockProducts, totalStockUnits);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogStatistics{" +
+                "totalProducts=" + totalProducts +
+                ", inStockProducts=" + inStockProducts +
+                ", outOfStockProducts=" + outOfStockProducts +
+                ", totalStockUnits=" + totalStockUnits +
+                '}';
+    }
+}
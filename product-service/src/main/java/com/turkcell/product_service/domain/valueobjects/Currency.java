@@ -1,5 +1,6 @@
 package com.turkcell.product_service.domain.valueobjects;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -10,6 +11,7 @@ public final class Currency {
     private final String code;
     private final String name;
     private final String symbol;
+    private final int fractionDigits;
 
     // Desteklenen para birimleri
     public static final Currency TRY = new Currency("TRY", "Türk Lirası", "₺");
@@ -18,6 +20,10 @@ public final class Currency {
     public static final Currency GBP = new Currency("GBP", "İngiliz Sterlini", "£");
 
     public Currency(String code, String name, String symbol) {
+        this(code, name, symbol, 2);
+    }
+
+    public Currency(String code, String name, String symbol, int fractionDigits) {
         if (code == null || code.trim().isEmpty()) {
             throw new IllegalArgumentException("Para birimi kodu null veya boş olamaz");
         }
@@ -27,10 +33,14 @@ public final class Currency {
         if (symbol == null || symbol.trim().isEmpty()) {
             throw new IllegalArgumentException("Para birimi sembolü null veya boş olamaz");
         }
+        if (fractionDigits < 0) {
+            throw new IllegalArgumentException("Ondalık basamak sayısı negatif olamaz");
+        }
 
         this.code = code.toUpperCase().trim();
         this.name = name.trim();
         this.symbol = symbol.trim();
+        this.fractionDigits = fractionDigits;
     }
 
     public String getCode() {
@@ -45,6 +55,13 @@ public final class Currency {
         return symbol;
     }
 
+    /**
+     * Küçük birimin ondalık basamak sayısı (TRY için kuruş: 2)
+     */
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
     /**
      * Para birimi koduna göre Currency nesnesi oluşturur
      */
@@ -68,6 +85,13 @@ public final class Currency {
         }
     }
 
+    /**
+     * Desteklenen tüm para birimlerini döner
+     */
+    public static List<Currency> supportedCurrencies() {
+        return List.of(TRY, USD, EUR, GBP);
+    }
+
     /**
      * Para biriminin desteklenip desteklenmediğini kontrol eder
      */
@@ -1,33 +1,103 @@
 package com.turkcell.product_service.domain.valueobjects;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 /**
  * Price Value Object - DDD'de değer nesnesi
  * Fiyat bilgisini temsil eder ve değişmez (immutable) bir nesnedir
+ *
+ * Tutar, para biriminin küçük birimi (kuruş, cent) cinsinden long olarak
+ * tutulur; karşılaştırma ve yüzde işlemleri BigDecimal üretmeden yapılır.
+ * BigDecimal'e dönüşüm sadece API sınırında yapılır:
+ * - Girdi tutarı para biriminin ondalık basamak sayısından fazla basamak
+ *   içeremez (yuvarlanmaz, reddedilir)
+ * - Yüzde işlemlerinin sonucu küçük birime HALF_EVEN ile yuvarlanır
  */
 public final class Price {
-    private final BigDecimal amount;
+    private static final long BASIS_POINTS = 10_000L;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final long minorUnits;
     private final Currency currency;
 
+    /**
+     * API sınırındaki ondalık tutardan fiyat oluşturur
+     */
     public Price(BigDecimal amount, Currency currency) {
+        this(toMinorUnits(amount, currency), currency);
+    }
+
+    private Price(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Para birimi null olamaz");
+        }
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Fiyat negatif olamaz");
+        }
+
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    /**
+     * Küçük birim cinsinden tutardan fiyat oluşturur (örn. 1499.90 TRY için 149990)
+     */
+    public static Price ofMinorUnits(long minorUnits, Currency currency) {
+        return new Price(minorUnits, currency);
+    }
+
+    private static long toMinorUnits(BigDecimal amount, Currency currency) {
         if (amount == null) {
             throw new IllegalArgumentException("Fiyat miktarı null olamaz");
         }
         if (currency == null) {
             throw new IllegalArgumentException("Para birimi null olamaz");
         }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (amount.signum() < 0) {
             throw new IllegalArgumentException("Fiyat negatif olamaz");
         }
+        try {
+            return amount.setScale(currency.getFractionDigits(), RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Fiyat " + currency.getCode() + " için en fazla "
+                    + currency.getFractionDigits() + " ondalık basamak içerebilir: " + amount.toPlainString());
+        }
+    }
 
-        this.amount = amount;
-        this.currency = currency;
+    /**
+     * Sorgu sınırını (örn. fiyat aralığı) küçük birime çevirir
+     * Fiyatlardan farklı olarak reddetmez: fazla basamaklar verilen yönde yuvarlanır,
+     * negatif sınır 0'a, long aralığını aşan sınır Long.MAX_VALUE'ya çekilir.
+     *
+     * @param roundingMode Alt sınır için CEILING, üst sınır için FLOOR (aralık genişlemez)
+     */
+    public static long minorUnitBound(BigDecimal bound, int fractionDigits, RoundingMode roundingMode) {
+        if (bound.signum() <= 0) {
+            return 0;
+        }
+        // Büyük/küçük üslü girdiler setScale'e gitmeden ele alınır (1E+999999 gibi)
+        if (bound.compareTo(BigDecimal.valueOf(Long.MAX_VALUE, fractionDigits)) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (bound.compareTo(BigDecimal.ONE.movePointLeft(fractionDigits)) < 0) {
+            return roundingMode == RoundingMode.CEILING || roundingMode == RoundingMode.UP ? 1 : 0;
+        }
+        return bound.setScale(fractionDigits, roundingMode).unscaledValue().longValueExact();
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
+    /**
+     * Tutarı para biriminin ondalık basamak sayısıyla BigDecimal olarak döner (API sınırı için)
+     */
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, currency.getFractionDigits());
     }
 
     public Currency getCurrency() {
@@ -38,20 +108,16 @@ public final class Price {
      * İki fiyatı karşılaştırır (aynı para biriminde olmalı)
      */
     public boolean isGreaterThan(Price other) {
-        if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
-        }
-        return this.amount.compareTo(other.amount) > 0;
+        requireSameCurrency(other);
+        return this.minorUnits > other.minorUnits;
     }
 
     /**
      * İki fiyatı karşılaştırır (aynı para biriminde olmalı)
      */
     public boolean isLessThan(Price other) {
-        if (!this.currency.equals(other.currency)) {
-            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
-        }
-        return this.amount.compareTo(other.amount) < 0;
+        requireSameCurrency(other);
+        return this.minorUnits < other.minorUnits;
     }
 
     /**
@@ -61,10 +127,7 @@ public final class Price {
         if (percentage == null || percentage.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
         }
-
-        BigDecimal multiplier = BigDecimal.ONE.add(percentage.divide(new BigDecimal("100")));
-        BigDecimal newAmount = this.amount.multiply(multiplier);
-        return new Price(newAmount, this.currency);
+        return scaleByPercentage(percentage);
     }
 
     /**
@@ -74,10 +137,70 @@ public final class Price {
         if (percentage == null || percentage.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Yüzde pozitif olmalıdır");
         }
+        return scaleByPercentage(percentage.negate());
+    }
+
+    /**
+     * Fiyatı baz puan (yüzde 0.01) cinsinden değiştirir; 1250 = %12.5 artış, -500 = %5 indirim
+     * Toplu fiyat güncellemelerinde BigDecimal üretmeyen yol budur.
+     */
+    public Price adjustByBasisPoints(long basisPoints) {
+        long factor = BASIS_POINTS + basisPoints;
+        if (factor < 0) {
+            throw new IllegalArgumentException("Fiyat negatif olamaz");
+        }
+        try {
+            long scaled = Math.multiplyExact(minorUnits, factor);
+            return withMinorUnits(divideHalfEven(scaled, BASIS_POINTS));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Fiyat desteklenen aralığın dışına çıkıyor");
+        }
+    }
+
+    private Price scaleByPercentage(BigDecimal percentage) {
+        // Yüzde, baz puana tam çevrilebiliyorsa (örn. 12.5) long yolu kullanılır
+        BigDecimal basisPoints = percentage.movePointRight(2);
+        if (basisPoints.signum() == 0 || basisPoints.stripTrailingZeros().scale() <= 0) {
+            try {
+                return adjustByBasisPoints(basisPoints.longValueExact());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Yüzde desteklenen aralığın dışında");
+            }
+        }
+        BigDecimal scaled = BigDecimal.valueOf(minorUnits)
+                .multiply(ONE_HUNDRED.add(percentage))
+                .divide(ONE_HUNDRED, 0, RoundingMode.HALF_EVEN);
+        if (scaled.signum() < 0) {
+            throw new IllegalArgumentException("Fiyat negatif olamaz");
+        }
+        try {
+            return withMinorUnits(scaled.longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Fiyat desteklenen aralığın dışına çıkıyor");
+        }
+    }
+
+    private Price withMinorUnits(long newMinorUnits) {
+        return newMinorUnits == minorUnits ? this : new Price(newMinorUnits, currency);
+    }
 
-        BigDecimal multiplier = BigDecimal.ONE.subtract(percentage.divide(new BigDecimal("100")));
-        BigDecimal newAmount = this.amount.multiply(multiplier);
-        return new Price(newAmount, this.currency);
+    /**
+     * Pozitif bölen için HALF_EVEN yuvarlamalı tam sayı bölmesi
+     */
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long remainder = Math.floorMod(dividend, divisor);
+        long twice = remainder * 2;
+        if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    private void requireSameCurrency(Price other) {
+        if (!this.currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Farklı para birimlerindeki fiyatlar karşılaştırılamaz");
+        }
     }
 
     @Override
@@ -87,16 +210,16 @@ public final class Price {
         if (o == null || getClass() != o.getClass())
             return false;
         Price price = (Price) o;
-        return Objects.equals(amount, price.amount) && Objects.equals(currency, price.currency);
+        return minorUnits == price.minorUnits && Objects.equals(currency, price.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        return Objects.hash(minorUnits, currency);
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency.getCode();
+        return getAmount().toPlainString() + " " + currency.getCode();
     }
 }
@@ -0,0 +1,88 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import com.turkcell.product_service.domain.entities.Product;
+
+import java.util.Objects;
+
+/**
+ * ProductSaveResult Value Object
+ * Toplu kayıtta tek bir ürünün yazım sonucunu temsil eder
+ */
+public final class ProductSaveResult {
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    private final Product.ProductId productId;
+    private final Status status;
+    private final String error;
+
+    private ProductSaveResult(Product.ProductId productId, Status status, String error) {
+        if (productId == null || status == null) {
+            throw new IllegalArgumentException("Kayıt sonucu ürün ID'si ve durum içermelidir");
+        }
+        this.productId = productId;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static ProductSaveResult created(Product.ProductId productId) {
+        return new ProductSaveResult(productId, Status.CREATED, null);
+    }
+
+    public static ProductSaveResult updated(Product.ProductId productId) {
+        return new ProductSaveResult(productId, Status.UPDATED, null);
+    }
+
+    public static ProductSaveResult failed(Product.ProductId productId, String error) {
+        if (error == null || error.isBlank()) {
+            throw new IllegalArgumentException("Başarısız kayıt sonucu hata mesajı içermelidir");
+        }
+        return new ProductSaveResult(productId, Status.FAILED, error);
+    }
+
+    public Product.ProductId getProductId() {
+        return productId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Başarısız kaydın nedeni; başarılı kayıtlarda null
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return status != Status.FAILED;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ProductSaveResult that = (ProductSaveResult) o;
+        return productId.equals(that.productId)
+                && status == that.status
+                && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, status, error);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSaveResult{" +
+                "productId=" + productId +
+                ", status=" + status +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,21 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+/**
+ * StockReservationResult - Atomik stok düşümünün sonucu
+ */
+public enum StockReservationResult {
+    /**
+     * Stok düşüldü
+     */
+    RESERVED,
+
+    /**
+     * Ürün var ama stok istenen miktar için yetersiz; stok değişmedi
+     */
+    INSUFFICIENT_STOCK,
+
+    /**
+     * Ürün bulunamadı
+     */
+    PRODUCT_NOT_FOUND
+}
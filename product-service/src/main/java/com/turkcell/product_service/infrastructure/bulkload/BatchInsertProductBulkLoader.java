@@ -0,0 +1,53 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+/**
+ * Batch Insert Product Bulk Loader
+ * COPY desteklemeyen veritabanları (H2) için JDBC batch ile MERGE yapar.
+ * COPY yükleyicisi gibi var olan ürünün stoğuna dokunmaz
+ */
+public class BatchInsertProductBulkLoader implements ProductBulkLoader {
+    // hibernate.jdbc.batch_size ile aynı tutulur
+    private static final int BATCH_SIZE = 500;
+
+    private static final String MERGE_SQL = """
+            MERGE INTO products p
+            USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT),
+                    CAST(? AS VARCHAR), CAST(? AS INTEGER), CAST(? AS BIGINT)))
+                AS s (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+            ON p.id = s.id
+            WHEN MATCHED THEN UPDATE SET
+                name = s.name,
+                description = s.description,
+                price_amount_minor = s.price_amount_minor,
+                price_currency = s.price_currency,
+                content_hash = s.content_hash
+            WHEN NOT MATCHED THEN INSERT
+                (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+                VALUES (s.id, s.name, s.description, s.price_amount_minor, s.price_currency, s.stock_quantity,
+                        s.content_hash)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchInsertProductBulkLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void load(Collection<ProductEntity> products) {
+        jdbcTemplate.batchUpdate(MERGE_SQL, products, BATCH_SIZE, (statement, product) -> {
+            statement.setObject(1, product.getId());
+            statement.setString(2, product.getName());
+            statement.setString(3, product.getDescription());
+            statement.setLong(4, product.getPriceAmountMinor());
+            statement.setString(5, product.getPriceCurrency());
+            statement.setInt(6, product.getStockQuantity());
+            statement.setLong(7, product.getContentHash());
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * COPY Product Bulk Loader
+ * PostgreSQL'de satırları COPY ... FROM STDIN ile geçici bir tabloya akıtır,
+ * ardından tek bir INSERT ... ON CONFLICT ile products tablosuna aktarır.
+ * Satır başına statement çalıştırılmadığı için batch insert'ten çok daha hızlıdır.
+ * Geçici tablo her yüklemede products'tan yeniden oluşturulur ve commit'te silinir;
+ * havuzdaki bağlantıda eski şemayla kalmış bir tablo kullanılmaz.
+ */
+public class CopyProductBulkLoader implements ProductBulkLoader {
+    // Aynı transaction'da ikinci yükleme yapılırsa önceki parçanın tablosu bırakılır
+    private static final String DROP_STAGING_SQL = "DROP TABLE IF EXISTS pg_temp.products_import";
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE products_import
+            (LIKE products INCLUDING DEFAULTS) ON COMMIT DROP
+            """;
+
+    private static final String COPY_SQL = """
+            COPY products_import (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // Var olan ürünün stoğu ezilmez; dosyadaki stok sadece yeni ürünlere yazılır
+    private static final String UPSERT_SQL = """
+            INSERT INTO products (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+            SELECT id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash
+            FROM products_import
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                price_amount_minor = EXCLUDED.price_amount_minor,
+                price_currency = EXCLUDED.price_currency,
+                content_hash = EXCLUDED.content_hash
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CopyProductBulkLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void load(Collection<ProductEntity> products) {
+        jdbcTemplate.execute(DROP_STAGING_SQL);
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_SQL), StandardCharsets.UTF_8), 64 * 1024)) {
+                for (ProductEntity product : products) {
+                    writeRow(writer, product);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+        jdbcTemplate.update(UPSERT_SQL);
+    }
+
+    private static void writeRow(Writer writer, ProductEntity product) throws IOException {
+        writer.write(product.getId().toString());
+        writer.write(',');
+        writeQuoted(writer, product.getName());
+        writer.write(',');
+        writeQuoted(writer, product.getDescription());
+        writer.write(',');
+        writer.write(Long.toString(product.getPriceAmountMinor()));
+        writer.write(',');
+        writeQuoted(writer, product.getPriceCurrency());
+        writer.write(',');
+        writer.write(Integer.toString(product.getStockQuantity()));
+        writer.write(',');
+        writer.write(Long.toString(product.getContentHash()));
+        writer.write('\n');
+    }
+
+    private static void writeQuoted(Writer writer, String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
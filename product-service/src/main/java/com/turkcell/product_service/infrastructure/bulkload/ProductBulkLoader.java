@@ -0,0 +1,15 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+
+import java.util.Collection;
+
+/**
+ * Product Bulk Loader
+ * Çok sayıda ürünü JPA'yı atlayarak, veritabanının en hızlı yükleme yolu ile
+ * ekler veya günceller (upsert). Var olan ürünlerin stoğu değiştirilmez;
+ * stok sadece yeni eklenen ürünlere yazılır. Açık bir transaction içinde çağrılmalıdır.
+ */
+public interface ProductBulkLoader {
+    void load(Collection<ProductEntity> products);
+}
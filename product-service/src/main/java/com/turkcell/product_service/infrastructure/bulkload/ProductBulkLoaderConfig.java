@@ -0,0 +1,24 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Product Bulk Loader Configuration
+ * PostgreSQL'de COPY, diğer veritabanlarında JDBC batch kullanır
+ */
+@Configuration
+public class ProductBulkLoaderConfig {
+
+    @Bean
+    public ProductBulkLoader productBulkLoader(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate) {
+        DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(dataSourceProperties.determineUrl());
+        if (driver == DatabaseDriver.POSTGRESQL) {
+            return new CopyProductBulkLoader(jdbcTemplate);
+        }
+        return new BatchInsertProductBulkLoader(jdbcTemplate);
+    }
+}
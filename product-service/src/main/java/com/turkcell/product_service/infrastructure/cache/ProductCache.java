@@ -0,0 +1,72 @@
+package com.turkcell.product_service.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Product Cache
+ * Ürünler için boyut ve TTL ile sınırlı, bellek içi read-through cache.
+ * Değişmez ProductView tutulur; domain okuması her seferinde yeni bir
+ * Product üretir, sorgu tarafı ise doğrudan yanıta çevirir.
+ * Serileştirilmiş JSON'lar bu kayıtlardan türediği için ProductJsonCache
+ * her zaman birlikte düşürülür.
+ * Hit/miss/eviction metrikleri "cache.*{cache=products}" altında yayınlanır.
+ */
+public class ProductCache {
+    private final Cache<UUID, ProductView> cache;
+    private final ProductJsonCache jsonCache;
+
+    public ProductCache(ProductCacheProperties properties, MeterRegistry meterRegistry, ProductJsonCache jsonCache) {
+        this.jsonCache = jsonCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    /**
+     * Ürünü cache'ten döner; yoksa loader ile yükleyip cache'e koyar.
+     * Bulunamayan ürünler cache'lenmez.
+     */
+    public Optional<ProductView> get(UUID id, Function<UUID, Optional<ProductView>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Ürünü sadece cache'te varsa döner; veritabanına gitmez
+     */
+    public Optional<ProductView> getIfPresent(UUID id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Birden fazla ürünü cache'ten döner; cache'te olmayanlar tek seferde
+     * loader ile yüklenir. Bulunamayanlar sonuçta yer almaz.
+     */
+    public Map<UUID, ProductView> getAll(Collection<UUID> ids,
+            Function<Set<UUID>, Map<UUID, ProductView>> loader) {
+        return cache.getAll(ids, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+        jsonCache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        jsonCache.invalidateAll();
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.product_service.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ürün cache yapılandırması
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+
+    @Bean
+    public ProductJsonCache productJsonCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        return new ProductJsonCache(properties, meterRegistry);
+    }
+
+    @Bean
+    public ProductCache productCache(ProductCacheProperties properties, MeterRegistry meterRegistry,
+            ProductJsonCache productJsonCache) {
+        return new ProductCache(properties, meterRegistry, productJsonCache);
+    }
+}
@@ -0,0 +1,26 @@
+package com.turkcell.product_service.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Ürün cache ayarları
+ *
+ * @param maximumSize     Cache'te tutulacak en fazla ürün sayısı
+ * @param ttl             Bir kaydın yazıldıktan sonra cache'te kalma süresi
+ * @param jsonMaximumSize Önceden serileştirilmiş ürün JSON'ları için toplam bellek sınırı
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(
+        Long maximumSize,
+        Duration ttl,
+        DataSize jsonMaximumSize) {
+
+    public ProductCacheProperties {
+        maximumSize = maximumSize == null ? 10_000L : maximumSize;
+        ttl = ttl == null ? Duration.ofMinutes(5) : ttl;
+        jsonMaximumSize = jsonMaximumSize == null ? DataSize.ofMegabytes(32) : jsonMaximumSize;
+    }
+}
@@ -0,0 +1,61 @@
+package com.turkcell.product_service.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Product JSON Cache
+ * Ürünlerin serileştirilmiş ProductResponse JSON'larını byte dizisi olarak tutar.
+ * Okuma yanıtları bu byte'lardan doğrudan yazılır; Jackson sadece ürün
+ * oluşturulduğunda veya değiştiğinde (yani kayıt düşürüldükten sonraki ilk
+ * okumada) çalışır. Toplam boyut byte cinsinden sınırlıdır.
+ * Her JSON üretildiği satırın sürümüyle (ETag) saklanır ve sadece aynı sürümdeki
+ * okuma modeli için döner; düşürme ile yarışan eski bir JSON güncel ürün yerine
+ * hiçbir zaman yazılmaz.
+ * Metrikler "cache.*{cache=product-json}" altında yayınlanır.
+ */
+public class ProductJsonCache {
+    private final Cache<UUID, Entry> cache;
+
+    public ProductJsonCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.jsonMaximumSize().toBytes())
+                .weigher((UUID id, Entry entry) -> entry.json().length)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-json");
+    }
+
+    /**
+     * Okuma modelinin JSON'unu cache'ten döner; yoksa veya cache'teki JSON başka
+     * bir sürüme aitse serializer ile üretip cache'e koyar
+     */
+    public byte[] get(ProductView view, Function<ProductView, byte[]> serializer) {
+        String version = view.etag();
+        Entry cached = cache.getIfPresent(view.id());
+        if (cached != null && cached.version().equals(version)) {
+            return cached.json();
+        }
+        byte[] json = serializer.apply(view);
+        cache.put(view.id(), new Entry(version, json));
+        return json;
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record Entry(String version, byte[] json) {
+    }
+}
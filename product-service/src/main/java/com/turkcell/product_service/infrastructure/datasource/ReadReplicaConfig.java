@@ -0,0 +1,88 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read Replica Configuration
+ * product.datasource.read-replica.enabled=true iken spring.datasource primary
+ * olarak kalır, readOnly transaction'lar replica'lara yönlendirilir.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "product.datasource.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthMonitor replicaHealthMonitor(ReadReplicaProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Replica> configured = properties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createReplica(name, configured.get(i), properties.connectionTimeout()));
+        }
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicas, properties.maxLag(), properties.lagQuery());
+        monitor.start(properties.healthCheckInterval());
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaHealthMonitor replicaHealthMonitor) {
+        return routingDataSource(primaryDataSource, replicaHealthMonitor, replicaHealthMonitor.replicas());
+    }
+
+    /**
+     * Primary ve replica'ları yönlendiren, bağlantıyı ilk SQL'e kadar geciktiren DataSource oluşturur
+     */
+    public static DataSource routingDataSource(DataSource primary, ReplicaHealthMonitor healthMonitor,
+            Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(healthMonitor);
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Replica havuzu açılışta bağlantı kurmaya çalışmaz (initializationFailTimeout=-1);
+     * kapalı bir replica uygulamayı başlatmayı engellemez, sağlık kontrolünde elenir
+     */
+    static HikariDataSource createReplica(String name, ReadReplicaProperties.Replica replica,
+            Duration connectionTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setInitializationFailTimeout(-1);
+        if (replica.maximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        }
+        return dataSource;
+    }
+}
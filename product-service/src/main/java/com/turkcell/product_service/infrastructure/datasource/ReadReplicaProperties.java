@@ -0,0 +1,45 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica yönlendirme ayarları
+ *
+ * @param enabled             Yönlendirme açık mı
+ * @param replicas            Replica bağlantıları
+ * @param maxLag              Bu süreden fazla geride kalan replica kullanılmaz
+ * @param healthCheckInterval Replica sağlık/gecikme kontrol aralığı
+ * @param connectionTimeout   Replica havuzundan bağlantı bekleme süresi; kapalı replica
+ *                            açılışı ve sağlık kontrolünü en fazla bu kadar bekletir
+ * @param lagQuery            Replica gecikmesini saniye cinsinden dönen sorgu
+ */
+@ConfigurationProperties(prefix = "product.datasource.read-replica")
+public record ReadReplicaProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        Duration maxLag,
+        Duration healthCheckInterval,
+        Duration connectionTimeout,
+        String lagQuery) {
+
+    public ReadReplicaProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+        healthCheckInterval = healthCheckInterval == null ? Duration.ofSeconds(5) : healthCheckInterval;
+        connectionTimeout = connectionTimeout == null ? Duration.ofSeconds(2) : connectionTimeout;
+        // Alınan WAL'ın tamamı uygulandıysa replica güncel sayılır; aksi halde son uygulanan
+        // transaction'ın yaşı ölçülür. Primary'de yazım olmayan sessiz dönemlerde zaman farkı
+        // büyüse de replica geride sayılmaz.
+        lagQuery = lagQuery == null
+                ? "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+                        + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                        + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END"
+                : lagQuery;
+    }
+
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+}
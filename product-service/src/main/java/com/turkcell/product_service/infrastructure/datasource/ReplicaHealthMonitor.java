@@ -0,0 +1,106 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica Health Monitor
+ * Replica'ları periyodik olarak sorgular; erişilemeyen veya maxLag'den fazla
+ * geride kalan replica'lar yönlendirmeden çıkarılır, düzelince geri alınır.
+ */
+public class ReplicaHealthMonitor implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private volatile List<String> healthy = List.of();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, Duration maxLag, String lagQuery) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    public List<String> healthyReplicas() {
+        return healthy;
+    }
+
+    public void start(Duration interval) {
+        checkNow();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-health")
+                .daemon(true)
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::checkNow, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tüm replica'ları kontrol eder ve sağlıklı listesini günceller
+     */
+    public void checkNow() {
+        List<String> current = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            if (isHealthy(name, dataSource)) {
+                current.add(name);
+            }
+        });
+        if (!current.equals(healthy)) {
+            log.info("Sağlıklı read replica'lar: {}", current);
+        }
+        healthy = List.copyOf(current);
+    }
+
+    private boolean isHealthy(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    log.warn("Replica {} {} sn geride, primary kullanılacak", name, lagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Replica {} erişilemez: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Replica bağlantı havuzu kapatılamadı: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
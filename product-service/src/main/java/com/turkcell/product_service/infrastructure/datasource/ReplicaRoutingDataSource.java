@@ -0,0 +1,40 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica Routing DataSource
+ * readOnly transaction'ları sağlıklı replica'lara (round-robin), diğer her
+ * şeyi (yazmalar, transaction dışı erişim, read-your-writes akışları)
+ * primary'ye yönlendirir. Sağlıklı replica yoksa primary kullanılır.
+ * Ürün cache'ini dolduran okumalar ve yazma öncesi varlık kontrolleri
+ * readOnly transaction açmaz; gecikmeli replica satırı cache'e girmez.
+ * Yönlendirme kararı ilk SQL'de verilsin diye LazyConnectionDataSourceProxy
+ * ile sarılarak kullanılmalıdır.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaHealthMonitor healthMonitor) {
+        this.healthMonitor = healthMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+}
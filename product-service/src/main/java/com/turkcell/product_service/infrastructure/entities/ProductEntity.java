@@ -1,7 +1,16 @@
 package com.turkcell.product_service.infrastructure.entities;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
 
 /**
  * Product JPA Entity
@@ -9,10 +18,12 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "products")
-public class ProductEntity {
+public class ProductEntity implements Persistable<UUID> {
+    // PostgreSQL ve H2'de native uuid (16 byte) kolon olarak saklanır
     @Id
+    @JdbcTypeCode(SqlTypes.UUID)
     @Column(name = "id", nullable = false, updatable = false)
-    private String id;
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -20,8 +31,9 @@ public class ProductEntity {
     @Column(name = "description", nullable = false, length = 1000)
     private String description;
 
-    @Column(name = "price_amount", nullable = false, precision = 19, scale = 2)
-    private BigDecimal priceAmount;
+    // Para biriminin küçük birimi (kuruş, cent) cinsinden
+    @Column(name = "price_amount_minor", nullable = false)
+    private long priceAmountMinor;
 
     @Column(name = "price_currency", nullable = false, length = 3)
     private String priceCurrency;
@@ -29,24 +41,73 @@ public class ProductEntity {
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    // Ad, açıklama ve fiyatın özetidir; stok ile birlikte ürünün ETag'ini oluşturur.
+    // Stok SQL ile doğrudan da düşürüldüğü için özete katılmaz, ETag'e ayrıca eklenir
+    @ColumnDefault("0")
+    @Column(name = "content_hash", nullable = false)
+    private long contentHash;
+
+    // id istemci tarafında üretildiği için yeni kayıtlar açıkça işaretlenir;
+    // böylece save() merge yerine persist yapar ve insert'ler batch'lenebilir
+    @Transient
+    private boolean isNew;
+
     public ProductEntity() {
     }
 
-    public ProductEntity(String id, String name, String description, BigDecimal priceAmount, String priceCurrency,
+    public ProductEntity(UUID id, String name, String description, long priceAmountMinor, String priceCurrency,
             Integer stockQuantity) {
         this.id = id;
         this.name = name;
         this.description = description;
-        this.priceAmount = priceAmount;
+        this.priceAmountMinor = priceAmountMinor;
         this.priceCurrency = priceCurrency;
         this.stockQuantity = stockQuantity;
+        this.contentHash = computeContentHash();
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Entity'yi veritabanında olmayan yeni kayıt olarak işaretler
+     */
+    public void markNew() {
+        this.isNew = true;
     }
 
-    public String getId() {
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateContentHash() {
+        this.contentHash = computeContentHash();
+    }
+
+    private long computeContentHash() {
+        String content = name + '\0' + description + '\0'
+                + priceAmountMinor + '\0'
+                + priceCurrency;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -66,12 +127,12 @@ public class ProductEntity {
         this.description = description;
     }
 
-    public BigDecimal getPriceAmount() {
-        return priceAmount;
+    public long getPriceAmountMinor() {
+        return priceAmountMinor;
     }
 
-    public void setPriceAmount(BigDecimal priceAmount) {
-        this.priceAmount = priceAmount;
+    public void setPriceAmountMinor(long priceAmountMinor) {
+        this.priceAmountMinor = priceAmountMinor;
     }
 
     public String getPriceCurrency() {
@@ -89,4 +150,8 @@ public class ProductEntity {
     public void setStockQuantity(Integer stockQuantity) {
         this.stockQuantity = stockQuantity;
     }
+
+    public long getContentHash() {
+        return contentHash;
+    }
 }
@@ -5,6 +5,7 @@ import com.turkcell.product_service.domain.valueobjects.Currency;
 import com.turkcell.product_service.domain.valueobjects.Price;
 import com.turkcell.product_service.domain.valueobjects.Stock;
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
 
 /**
  * Product Mapper
@@ -17,10 +18,10 @@ public class ProductMapper {
      */
     public static ProductEntity toEntity(Product product) {
         return new ProductEntity(
-                product.getId().toString(),
+                product.getId().getValue(),
                 product.getName(),
                 product.getDescription(),
-                product.getPrice().getAmount(),
+                product.getPrice().getMinorUnits(),
                 product.getPrice().getCurrency().getCode(),
                 product.getStock().getQuantity());
     }
@@ -29,9 +30,9 @@ public class ProductMapper {
      * JPA entity'den domain entity'ye dönüşüm
      */
     public static Product toDomain(ProductEntity entity) {
-        Product.ProductId productId = Product.ProductId.fromString(entity.getId());
+        Product.ProductId productId = Product.ProductId.of(entity.getId());
         Currency currency = Currency.fromCode(entity.getPriceCurrency());
-        Price price = new Price(entity.getPriceAmount(), currency);
+        Price price = Price.ofMinorUnits(entity.getPriceAmountMinor(), currency);
         Stock stock = new Stock(entity.getStockQuantity());
 
         return Product.reconstruct(
@@ -42,6 +43,23 @@ public class ProductMapper {
                 stock);
     }
 
+    /**
+     * Okuma modelinden domain entity'ye dönüşüm
+     */
+    public static Product toDomain(ProductView view) {
+        Product.ProductId productId = Product.ProductId.of(view.id());
+        Currency currency = Currency.fromCode(view.priceCurrency());
+        Price price = Price.ofMinorUnits(view.priceAmountMinor(), currency);
+        Stock stock = new Stock(view.stockQuantity());
+
+        return Product.reconstruct(
+                productId,
+                view.name(),
+                view.description(),
+                price,
+                stock);
+    }
+
     private ProductMapper() {
         // Utility class - private constructor
     }
@@ -0,0 +1,165 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL sürelerini ve okunan satırları QueryMetrics'e bildiren DataSource
+ * Connection ve Statement JDK proxy'leri ile sarılır; unwrap çağrıları asıl nesneye
+ * gider (örn. COPY için PGConnection). Satır başına çağrılan ResultSet metotları
+ * reflection'dan geçmesin diye ResultSet proxy yerine CountingResultSet ile sarılır.
+ */
+public class MonitoredDataSource extends DelegatingDataSource {
+    private final QueryMetrics queryMetrics;
+
+    public MonitoredDataSource(DataSource targetDataSource, QueryMetrics queryMetrics) {
+        super(targetDataSource);
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class,
+                new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(MonitoredDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, handler));
+    }
+
+    /**
+     * Proxy'nin kimliğini koruyup diğer çağrıları hedefe ileten temel handler
+     */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+        protected final Object target;
+
+        protected DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        protected Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler {
+        private ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" ->
+                    proxy(method.getReturnType(), new StatementHandler(result, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler extends DelegatingHandler {
+        private String sql;
+        private final List<String> bindTypes = new ArrayList<>();
+        private int batchSize;
+
+        private StatementHandler(Object target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            }
+            switch (name) {
+                case "addBatch" -> {
+                    if (args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                    batchSize++;
+                }
+                case "clearBatch" -> batchSize = 0;
+                case "clearParameters" -> bindTypes.clear();
+                default -> {
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        recordBind(index, name.equals("setNull") ? null : args[1]);
+                    }
+                }
+            }
+            return wrapResultSet(proxy, delegate(method, args));
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                sql = statementSql;
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = delegate(method, args);
+            } finally {
+                queryMetrics.recordStatement(sql, bindTypes, batchSize, System.nanoTime() - start);
+                if (method.getName().contains("Batch")) {
+                    batchSize = 0;
+                }
+            }
+            return wrapResultSet(proxy, result);
+        }
+
+        /**
+         * getStatement() hedef Statement yerine bu proxy'yi dönsün diye proxy verilir
+         */
+        private Object wrapResultSet(Object proxy, Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return new CountingResultSet(resultSet, (Statement) proxy, queryMetrics);
+            }
+            return result;
+        }
+
+        /**
+         * Değer tutulmaz; slow-query logunda sadece tipi yazılır
+         */
+        private void recordBind(int index, Object value) {
+            while (bindTypes.size() < index) {
+                bindTypes.add("?");
+            }
+            bindTypes.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+    }
+}
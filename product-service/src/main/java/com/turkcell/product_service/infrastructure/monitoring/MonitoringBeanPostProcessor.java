@@ -0,0 +1,49 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * "dataSource" bean'ini MonitoredDataSource ile sarar ve ürün repository'lerine
+ * RepositoryMetricsInterceptor ekler
+ * Ordered değildir; transaction proxy'leri oluşturulduktan sonra çalışır ve
+ * interceptor'ı zincirin en başına ekler.
+ */
+public class MonitoringBeanPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<QueryMetrics> queryMetrics;
+
+    public MonitoringBeanPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                && !(bean instanceof MonitoredDataSource)) {
+            return new MonitoredDataSource(dataSource, queryMetrics.getObject());
+        }
+        if (bean instanceof ProductRepository) {
+            return advise(bean, new RepositoryMetricsInterceptor("ProductRepository", queryMetrics.getObject()));
+        }
+        if (bean instanceof ProductQueryPort) {
+            return advise(bean, new RepositoryMetricsInterceptor("ProductQueryPort", queryMetrics.getObject()));
+        }
+        return bean;
+    }
+
+    private static Object advise(Object bean, RepositoryMetricsInterceptor interceptor) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,47 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Kalıcılık katmanı izleme yapılandırması
+ * Metrikler /actuator/metrics altında product.jdbc.*, product.repository.*
+ * ve product.request.* olarak yayınlanır. show-sql yerine kullanılır.
+ */
+@Configuration
+@EnableConfigurationProperties(PersistenceMonitoringProperties.class)
+@ConditionalOnProperty(prefix = "product.persistence.monitoring", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class PersistenceMonitoringConfig {
+
+    @Bean
+    public QueryMetrics queryMetrics(PersistenceMonitoringProperties properties, MeterRegistry meterRegistry) {
+        return new QueryMetrics(properties, meterRegistry);
+    }
+
+    @Bean
+    public static MonitoringBeanPostProcessor monitoringBeanPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        return new MonitoringBeanPostProcessor(queryMetrics);
+    }
+
+    @Bean
+    public QueryMetricsFilter queryMetricsFilter(QueryMetrics queryMetrics) {
+        return new QueryMetricsFilter(queryMetrics);
+    }
+
+    @Bean
+    public WebMvcConfigurer queryScopeAsyncConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new QueryScopeCallableInterceptor());
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Kalıcılık katmanı izleme ayarları
+ *
+ * @param enabled            Repository/JDBC metrikleri ve yavaş sorgu logu açık mı
+ * @param slowQueryThreshold Bu süreyi aşan SQL'ler yavaş sorgu loguna yazılır
+ * @param nPlusOneThreshold  Aynı SELECT tek bir repository çağrısı veya HTTP isteği
+ *                           içinde bu kadar çalışırsa N+1 olarak raporlanır
+ */
+@ConfigurationProperties(prefix = "product.persistence.monitoring")
+public record PersistenceMonitoringProperties(
+        boolean enabled,
+        Duration slowQueryThreshold,
+        Integer nPlusOneThreshold) {
+
+    public PersistenceMonitoringProperties {
+        slowQueryThreshold = slowQueryThreshold == null ? Duration.ofMillis(200) : slowQueryThreshold;
+        nPlusOneThreshold = nPlusOneThreshold == null ? 10 : nPlusOneThreshold;
+    }
+}
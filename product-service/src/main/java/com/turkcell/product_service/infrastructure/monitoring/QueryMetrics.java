@@ -0,0 +1,196 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Repository, JDBC ve HTTP isteği seviyesindeki sorgu metriklerini kaydeder
+ *
+ * product.jdbc.statements      SQL süresi (operation etiketiyle)
+ * product.jdbc.slow-queries    Eşiği aşan SQL sayısı
+ * product.repository.calls     Repository metodu süresi (repository, method, outcome)
+ * product.repository.statements / rows   Repository çağrısı başına SQL ve satır sayısı
+ * product.request.statements / rows      HTTP isteği başına SQL ve satır sayısı
+ * product.jdbc.n-plus-one      Tespit edilen N+1 sayısı
+ *
+ * Yavaş sorgular "product.persistence.slow-query" logger'ına yazılır; seviyesi
+ * /actuator/loggers üzerinden değiştirilebilir. Bind parametrelerinin değerleri
+ * yazılmaz, sadece tipleri yazılır; SQL içindeki sabitler de maskelenir.
+ */
+public class QueryMetrics {
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("product.persistence.slow-query");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    enum Operation {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Operation of(String sql) {
+            if (sql == null) {
+                return OTHER;
+            }
+            String keyword = sql.stripLeading();
+            int end = 0;
+            while (end < keyword.length() && Character.isLetter(keyword.charAt(end))) {
+                end++;
+            }
+            return switch (keyword.substring(0, end).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert", "merge" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final Map<Operation, Timer> statementTimers = new EnumMap<>(Operation.class);
+    private final Counter slowQueries;
+    private final Map<String, ScopeMeters> scopeMeters = new ConcurrentHashMap<>();
+
+    public QueryMetrics(PersistenceMonitoringProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = properties.slowQueryThreshold().toNanos();
+        this.nPlusOneThreshold = properties.nPlusOneThreshold();
+        for (Operation operation : Operation.values()) {
+            statementTimers.put(operation, Timer.builder("product.jdbc.statements")
+                    .description("JDBC statement çalışma süresi")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry));
+        }
+        this.slowQueries = Counter.builder("product.jdbc.slow-queries")
+                .description("Yavaş sorgu eşiğini aşan JDBC statement sayısı")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Çalışan bir JDBC statement'ını kaydeder
+     *
+     * @param sql          Çalışan SQL (parametreler '?' olarak)
+     * @param bindTypes    Bind parametrelerinin tipleri
+     * @param batchSize    Batch çalıştırmalarında satır sayısı, diğerlerinde 0
+     * @param elapsedNanos Süre
+     */
+    void recordStatement(String sql, List<String> bindTypes, int batchSize, long elapsedNanos) {
+        Operation operation = Operation.of(sql);
+        statementTimers.get(operation).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        QueryScope.recordStatement(sql, operation == Operation.SELECT);
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            slowQueries.increment();
+            if (slowQueryLog.isWarnEnabled()) {
+                slowQueryLog.warn("Yavaş sorgu ({} ms{}): {} binds={}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        batchSize > 0 ? ", batch=" + batchSize : "",
+                        redact(sql), bindTypes);
+            }
+        }
+    }
+
+    void recordRow() {
+        QueryScope.recordRow();
+    }
+
+    /**
+     * Repository çağrısının süresini ve içinde çalışan SQL/satır sayılarını kaydeder
+     */
+    void recordRepositoryCall(String repository, String method, long elapsedNanos, boolean failed,
+            QueryScope scope) {
+        ScopeMeters meters = scopeMeters.computeIfAbsent(repository + '#' + method,
+                key -> new ScopeMeters("product.repository", true, "repository", repository, "method", method));
+        (failed ? meters.failure : meters.success).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.record(scope);
+        detectNPlusOne(repository + "." + method, scope);
+    }
+
+    /**
+     * HTTP isteği içinde çalışan SQL/satır sayılarını kaydeder
+     */
+    void recordRequest(String httpMethod, String uri, QueryScope scope) {
+        ScopeMeters meters = scopeMeters.computeIfAbsent(httpMethod + ' ' + uri,
+                key -> new ScopeMeters("product.request", false, "method", httpMethod, "uri", uri));
+        meters.record(scope);
+        detectNPlusOne(httpMethod + " " + uri, scope);
+    }
+
+    private void detectNPlusOne(String location, QueryScope scope) {
+        Map.Entry<String, Integer> repeated = scope.mostRepeatedSelect();
+        if (repeated == null || repeated.getValue() < nPlusOneThreshold) {
+            return;
+        }
+        Counter.builder("product.jdbc.n-plus-one")
+                .description("Aynı SELECT'in tek kapsamda tekrarlandığı durum sayısı")
+                .tag("location", location)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Olası N+1: {} içinde aynı sorgu {} kez çalıştı: {}",
+                location, repeated.getValue(), redact(repeated.getKey()));
+    }
+
+    static String redact(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("'?'");
+        return NUMERIC_LITERAL.matcher(redacted).replaceAll("?");
+    }
+
+    /**
+     * Bir kapsam (repository metodu veya HTTP endpoint'i) için metrikler
+     * HTTP kapsamında süre Spring'in http.server.requests metriğinden izlenir.
+     */
+    private final class ScopeMeters {
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+
+        private ScopeMeters(String prefix, boolean timed, String... tags) {
+            this.success = timed ? timer(prefix, "success", tags) : null;
+            this.failure = timed ? timer(prefix, "error", tags) : null;
+            this.statements = DistributionSummary.builder(prefix + ".statements")
+                    .description("Kapsam başına çalışan SQL sayısı")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder(prefix + ".rows")
+                    .description("Kapsam başına okunan satır sayısı")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String prefix, String outcome, String... tags) {
+            return Timer.builder(prefix + ".calls")
+                    .description("Repository metodu çalışma süresi")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry);
+        }
+
+        private void record(QueryScope scope) {
+            statements.record(scope.statements());
+            rows.record(scope.rows());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP isteği başına çalışan SQL ve okunan satır sayısını kaydeder
+ * Etiket olarak istek yolu yerine eşleşen endpoint şablonu kullanılır
+ * (örn. /api/v1/products/{id}). Actuator istekleri ölçülmez.
+ *
+ * Async başlayan isteklerde (StreamingResponseBody) kapsam istek attribute'u
+ * olarak taşınır, async thread'e QueryScopeCallableInterceptor bağlar ve
+ * metrik istek tamamlandığında kaydedilir.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    static final String SCOPE_ATTRIBUTE = QueryMetricsFilter.class.getName() + ".scope";
+
+    private final QueryMetrics queryMetrics;
+
+    public QueryMetricsFilter(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryScope scope = QueryScope.open();
+        request.setAttribute(SCOPE_ATTRIBUTE, scope);
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            scope.close();
+            if (async) {
+                request.getAsyncContext().addListener(new RecordOnComplete(scope));
+            } else {
+                record(request, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryScope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        queryMetrics.recordRequest(request.getMethod(), pattern == null ? "UNKNOWN" : pattern.toString(), scope);
+    }
+
+    /**
+     * Hata ve zaman aşımında da onComplete çağrıldığı için tek yerde kaydedilir
+     */
+    private final class RecordOnComplete implements AsyncListener {
+        private final QueryScope scope;
+
+        private RecordOnComplete(QueryScope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record((HttpServletRequest) event.getSuppliedRequest(), scope);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
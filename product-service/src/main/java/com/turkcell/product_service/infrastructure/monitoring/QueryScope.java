@@ -0,0 +1,90 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bir repository çağrısı veya HTTP isteği boyunca çalışan SQL'leri sayan kapsam
+ * Kapsamlar iç içe açılabilir; her SQL açık olan tüm kapsamlara yazılır.
+ *
+ * Kapsam açıldığı thread'e bağlanır ve orada kapatılmalıdır. Repository
+ * kapsamları çağrı başına açıldığı için virtual thread'lerde de çalışır. İsteğin
+ * bir kısmı başka thread'de yürüyorsa (StreamingResponseBody, Callable) istek
+ * kapsamı o thread'e attach ile bağlanır; sayaçlar bu yüzden thread-safe'tir.
+ */
+final class QueryScope {
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private final QueryScope parent;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final Map<String, Integer> selectExecutions = new ConcurrentHashMap<>();
+
+    private QueryScope(QueryScope parent) {
+        this.parent = parent;
+    }
+
+    static QueryScope open() {
+        QueryScope scope = new QueryScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    /**
+     * Açık kapsamı olmayan başka bir thread'i bu kapsama bağlar; iş bitince
+     * aynı thread'de detach çağrılmalıdır
+     */
+    void attach() {
+        CURRENT.set(this);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(String sql, boolean select) {
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.incrementAndGet();
+            if (select && sql != null) {
+                scope.selectExecutions.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void recordRow() {
+        for (QueryScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows.incrementAndGet();
+        }
+    }
+
+    int statements() {
+        return statements.get();
+    }
+
+    long rows() {
+        return rows.get();
+    }
+
+    /**
+     * En çok tekrarlanan SELECT'i döner; hiç SELECT çalışmadıysa null
+     */
+    Map.Entry<String, Integer> mostRepeatedSelect() {
+        Map.Entry<String, Integer> max = null;
+        for (Map.Entry<String, Integer> entry : selectExecutions.entrySet()) {
+            if (max == null || entry.getValue() > max.getValue()) {
+                max = Map.entry(entry.getKey(), entry.getValue());
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,28 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * İsteğin async thread'de çalışan kısmını (StreamingResponseBody, Callable)
+ * QueryMetricsFilter'ın açtığı istek kapsamına bağlar
+ * preProcess ve postProcess aynı async thread'de çağrılır.
+ */
+public class QueryScopeCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(QueryMetricsFilter.SCOPE_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST) instanceof QueryScope scope) {
+            scope.attach();
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        QueryScope.detach();
+    }
+}
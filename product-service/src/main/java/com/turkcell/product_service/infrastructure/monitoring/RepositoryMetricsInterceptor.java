@@ -0,0 +1,40 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+
+/**
+ * Repository metodlarının süresini ve çalıştırdıkları SQL/satır sayısını ölçer
+ * Transaction interceptor'ının dışında çalışır; süreye commit de dahildir.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+    private final String repository;
+    private final QueryMetrics queryMetrics;
+
+    public RepositoryMetricsInterceptor(String repository, QueryMetrics queryMetrics) {
+        this.repository = repository;
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        QueryScope scope = QueryScope.open();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            scope.close();
+            queryMetrics.recordRepositoryCall(repository, method.getName(), System.nanoTime() - start, failed, scope);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+/**
+ * Catalog Statistics Projection
+ * Tek bir aggregate sorgusunun sonucunu taşır
+ */
+public interface CatalogStatisticsProjection {
+    Long getTotalProducts();
+
+    Long getInStockProducts();
+
+    Long getOutOfStockProducts();
+
+    Long getTotalStockUnits();
+}
@@ -1,23 +1,161 @@
 package com.turkcell.product_service.infrastructure.repositories;
 
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Product Repository
  * Spring Data JPA interface'i
  */
 @Repository
-public interface JpaProductRepository extends JpaRepository<ProductEntity, String> {
+public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
+    // IN listeleri bu boyutta parçalanır; hibernate.jdbc.batch_size ile aynı tutulur
+    int IN_LIST_CHUNK_SIZE = 500;
+
     List<ProductEntity> findByNameContaining(String name);
 
-    List<ProductEntity> findByStockQuantityGreaterThan(Integer quantity);
+    // Stok koşulları sabit yazılır; parametreli olursa planner partial index'leri kullanamaz
+    @Query("select p from ProductEntity p where p.stockQuantity > 0")
+    List<ProductEntity> findInStock();
+
+    @Query("select p from ProductEntity p where p.stockQuantity = 0")
+    List<ProductEntity> findOutOfStock();
+
+    /**
+     * Para birimi listesi, (price_currency, price_amount_minor) index'inin
+     * her para birimi için ayrı aralık taraması yapabilmesini sağlar.
+     * Sınırlar küçük birim (kuruş, cent) cinsindendir
+     */
+    List<ProductEntity> findByPriceCurrencyInAndPriceAmountMinorBetween(Collection<String> currencies,
+            long minPriceMinor, long maxPriceMinor);
+
+    /**
+     * Stok yeterliyse atomik olarak düşer; etkilenen satır sayısını döner (0 veya 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ProductEntity p
+            set p.stockQuantity = p.stockQuantity - :quantity
+            where p.id = :id and p.stockQuantity >= :quantity
+            """)
+    int decrementStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    /**
+     * Ad, açıklama ve fiyatı günceller; stok kolonuna yazmaz. Etkilenen satır sayısını döner
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ProductEntity p
+            set p.name = :name, p.description = :description, p.priceAmountMinor = :priceAmountMinor,
+                p.priceCurrency = :priceCurrency, p.contentHash = :contentHash
+            where p.id = :id
+            """)
+    int updateDetails(@Param("id") UUID id, @Param("name") String name, @Param("description") String description,
+            @Param("priceAmountMinor") long priceAmountMinor, @Param("priceCurrency") String priceCurrency,
+            @Param("contentHash") long contentHash);
+
+    @Query("select count(p) from ProductEntity p where p.stockQuantity > 0")
+    long countInStock();
+
+    @Query("select count(p) from ProductEntity p where p.stockQuantity = 0")
+    long countOutOfStock();
+
+    /**
+     * Toplam, stokta olan, stokta olmayan ürün sayılarını ve toplam stok
+     * adedini tek sorguda hesaplar
+     */
+    @Query("""
+            select count(p) as totalProducts,
+                   coalesce(sum(case when p.stockQuantity > 0 then 1 else 0 end), 0) as inStockProducts,
+                   coalesce(sum(case when p.stockQuantity = 0 then 1 else 0 end), 0) as outOfStockProducts,
+                   coalesce(sum(p.stockQuantity), 0) as totalStockUnits
+            from ProductEntity p
+            """)
+    CatalogStatisticsProjection getCatalogStatistics();
+
+    /**
+     * pg_trgm GIN index'i ile ad araması; word_similarity'ye göre sıralı id'ler
+     */
+    @Query(value = """
+            select p.id from products p
+            where p.name ilike :pattern
+            order by word_similarity(:query, p.name) desc, p.id
+            limit :limit offset :offset
+            """, nativeQuery = true)
+    List<UUID> searchIdsByNameTrigram(@Param("query") String query, @Param("pattern") String pattern,
+            @Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * Bellek içi arama index'ini doldurmak için sadece id ve ad kolonlarını akış olarak okur
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id as id, p.name as name from ProductEntity p")
+    Stream<ProductNameProjection> streamAllNames();
+
+    @Query(ProductView.SELECT + "where p.id = :id")
+    Optional<ProductView> findViewById(@Param("id") UUID id);
+
+    @Query(ProductView.SELECT + "where p.id in :ids")
+    List<ProductView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Ürünleri IN sorgusuyla okuma modeli olarak yükler; çok uzun listeler
+     * IN_LIST_CHUNK_SIZE'lık sorgulara bölünür. Bulunamayan id'ler sonuçta yer almaz.
+     */
+    default Map<UUID, ProductView> findViewsByIds(Collection<UUID> ids) {
+        List<UUID> values = List.copyOf(ids);
+        Map<UUID, ProductView> views = new HashMap<>();
+        for (int from = 0; from < values.size(); from += IN_LIST_CHUNK_SIZE) {
+            findViewsByIdIn(values.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, values.size())))
+                    .forEach(view -> views.put(view.id(), view));
+        }
+        return views;
+    }
+
+    @Query(ProductView.SELECT)
+    List<ProductView> findAllViews();
+
+    @Query(ProductView.SELECT + "order by p.id")
+    List<ProductView> findViewsOrderById(Limit limit);
+
+    @Query(ProductView.SELECT + "where p.id > :id order by p.id")
+    List<ProductView> findViewsAfterOrderById(@Param("id") UUID id, Limit limit);
 
-    List<ProductEntity> findByStockQuantityEquals(Integer quantity);
+    /**
+     * Ürünleri okuma modeli olarak, forward-only JDBC cursor üzerinden id sırasıyla okur.
+     * Entity oluşmadığı için persistence context büyümez.
+     * Açık bir transaction içinde tüketilmeli ve kapatılmalıdır.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ProductView.SELECT + "order by p.id")
+    Stream<ProductView> streamViewsOrderById();
 
-    List<ProductEntity> findByPriceAmountBetween(BigDecimal minPrice, BigDecimal maxPrice);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(ProductView.SELECT + "where p.id > :id order by p.id")
+    Stream<ProductView> streamViewsAfterOrderById(@Param("id") UUID id);
 }
@@ -0,0 +1,13 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import java.util.UUID;
+
+/**
+ * Product Name Projection
+ * Sadece id ve ad kolonlarını taşır
+ */
+public interface ProductNameProjection {
+    UUID getId();
+
+    String getName();
+}
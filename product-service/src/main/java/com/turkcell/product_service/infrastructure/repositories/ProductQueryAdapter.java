@@ -0,0 +1,156 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
+import com.turkcell.product_service.application.dtos.ProductPageSlice;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.ports.ProductQueryPort;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.cache.ProductJsonCache;
+import com.turkcell.product_service.infrastructure.stock.HotStockLedger;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Product Query Adapter
+ * ProductQueryPort'un infrastructure implementasyonu. Sadece gerekli kolonlar
+ * ProductView olarak okunur ve doğrudan ProductResponse'a çevrilir; entity
+ * hydration, dirty checking ve domain doğrulaması okuma yolunda yapılmaz.
+ * Tekil ve çoklu okumalar ProductRepositoryImpl ile aynı cache'i paylaşır.
+ * JSON okumaları ise ProductJsonCache'teki hazır byte'ları kullanır.
+ * Cache'i dolduran okumalar readOnly değildir ve primary'ye gider; liste,
+ * sayfa ve akış okumaları replica'dan yapılabilir.
+ * Tekil ve çoklu okumalarda hot SKU stoğu, ProductRepositoryImpl'de olduğu gibi
+ * bellekteki sayaçtan alınır; cache'teki satır flush'a kadar eski stoğu taşır.
+ */
+@Component
+public class ProductQueryAdapter implements ProductQueryPort {
+    // ProductListResponse alan adlarıyla aynı olmalıdır
+    private static final byte[] LIST_PREFIX = "{\"products\":[".getBytes(StandardCharsets.UTF_8);
+    private static final String LIST_SUFFIX = "],\"totalCount\":%d}";
+
+    private final JpaProductRepository jpaProductRepository;
+    private final ProductCache productCache;
+    private final ProductJsonCache productJsonCache;
+    private final ObjectMapper objectMapper;
+    private final HotStockLedger hotStockLedger;
+
+    public ProductQueryAdapter(JpaProductRepository jpaProductRepository, ProductCache productCache,
+            ProductJsonCache productJsonCache, ObjectMapper objectMapper, HotStockLedger hotStockLedger) {
+        this.jpaProductRepository = jpaProductRepository;
+        this.productCache = productCache;
+        this.productJsonCache = productJsonCache;
+        this.objectMapper = objectMapper;
+        this.hotStockLedger = hotStockLedger;
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductResponse> findById(Product.ProductId id) {
+        return productCache.get(id.getValue(), jpaProductRepository::findViewById)
+                .map(this::withHotStock)
+                .map(ProductView::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductJsonResponse> findJsonById(Product.ProductId id) {
+        // ETag stoğu da içerdiği için hot SKU'nun JSON'u ve ETag'i sayaçtaki stokla üretilir
+        return productCache.get(id.getValue(), jpaProductRepository::findViewById)
+                .map(this::withHotStock)
+                .map(view -> new ProductJsonResponse(productJsonCache.get(view, this::toJson), view.etag()));
+    }
+
+    @Override
+    @Transactional
+    public List<ProductResponse> findAllByIds(Collection<Product.ProductId> ids) {
+        List<UUID> values = ids.stream().map(Product.ProductId::getValue).distinct().toList();
+        Map<UUID, ProductView> views = productCache.getAll(values, jpaProductRepository::findViewsByIds);
+        return values.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(this::withHotStock)
+                .map(ProductView::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> findAll() {
+        return jpaProductRepository.findAllViews().stream()
+                .map(ProductView::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] findAllAsJson() {
+        List<ProductView> views = jpaProductRepository.findAllViews();
+        ByteArrayOutputStream json = new ByteArrayOutputStream(256 * (views.size() + 1));
+        json.writeBytes(LIST_PREFIX);
+        for (int i = 0; i < views.size(); i++) {
+            ProductView view = views.get(i);
+            if (i > 0) {
+                json.write(',');
+            }
+            json.writeBytes(productJsonCache.get(view, this::toJson));
+        }
+        json.writeBytes(LIST_SUFFIX.formatted(views.size()).getBytes(StandardCharsets.UTF_8));
+        return json.toByteArray();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageSlice findPage(Product.ProductId afterId, int limit) {
+        List<ProductView> views = afterId == null
+                ? jpaProductRepository.findViewsOrderById(Limit.of(limit))
+                : jpaProductRepository.findViewsAfterOrderById(afterId.getValue(), Limit.of(limit));
+        List<ProductResponse> products = views.stream()
+                .map(ProductView::toResponse)
+                .collect(Collectors.toList());
+        return new ProductPageSlice(products, ProductView.etagOf(views));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachAfter(Product.ProductId afterId, Consumer<ProductResponse> action) {
+        try (Stream<ProductView> views = afterId == null
+                ? jpaProductRepository.streamViewsOrderById()
+                : jpaProductRepository.streamViewsAfterOrderById(afterId.getValue())) {
+            views.forEach(view -> action.accept(view.toResponse()));
+        }
+    }
+
+    private ProductView withHotStock(ProductView view) {
+        OptionalInt available = hotStockLedger.availableStock(view.id());
+        if (available.isEmpty() || available.getAsInt() == view.stockQuantity()) {
+            return view;
+        }
+        return view.withStockQuantity(available.getAsInt());
+    }
+
+    private byte[] toJson(ProductView view) {
+        try {
+            return objectMapper.writeValueAsBytes(view.toResponse());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,12 +2,44 @@ package com.turkcell.product_service.infrastructure.repositories;
 
 import com.turkcell.product_service.domain.entities.Product;
 import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.CatalogStatistics;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import com.turkcell.product_service.infrastructure.bulkload.ProductBulkLoader;
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
 import com.turkcell.product_service.infrastructure.entities.ProductEntity;
 import com.turkcell.product_service.infrastructure.mappers.ProductMapper;
+import com.turkcell.product_service.infrastructure.search.ProductNameSearch;
+import com.turkcell.product_service.infrastructure.stock.HotStockLedger;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -16,26 +48,220 @@ import java.util.stream.Collectors;
  */
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final Logger log = LoggerFactory.getLogger(ProductRepositoryImpl.class);
+
+    // hibernate.jdbc.batch_size ile aynı tutulur
+    private static final int BATCH_SIZE = 500;
+
+    // Aynı küçük birim ölçeğini paylaşan para birimleri tek sorguda taranır
+    private static final Map<Integer, List<String>> CURRENCY_CODES_BY_FRACTION_DIGITS = Currency
+            .supportedCurrencies().stream()
+            .collect(Collectors.groupingBy(Currency::getFractionDigits,
+                    Collectors.mapping(Currency::getCode, Collectors.toList())));
+
     private final JpaProductRepository jpaProductRepository;
+    private final EntityManager entityManager;
+    private final ProductNameSearch productNameSearch;
+    private final HotStockLedger hotStockLedger;
+    private final ProductCache productCache;
+    private final ProductInvalidationPublisher invalidationPublisher;
+    private final ProductBulkLoader productBulkLoader;
+    private final TransactionTemplate chunkTransaction;
 
-    public ProductRepositoryImpl(JpaProductRepository jpaProductRepository) {
+    public ProductRepositoryImpl(JpaProductRepository jpaProductRepository, EntityManager entityManager,
+            ProductNameSearch productNameSearch, HotStockLedger hotStockLedger, ProductCache productCache,
+            ProductInvalidationPublisher invalidationPublisher, ProductBulkLoader productBulkLoader,
+            PlatformTransactionManager transactionManager) {
         this.jpaProductRepository = jpaProductRepository;
+        this.entityManager = entityManager;
+        this.productNameSearch = productNameSearch;
+        this.hotStockLedger = hotStockLedger;
+        this.productCache = productCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.productBulkLoader = productBulkLoader;
+        // Toplu kayıt parçaları çağıranın transaction'ından bağımsız commit edilir
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
+    @Transactional
     public Product save(Product product) {
         ProductEntity entity = ProductMapper.toEntity(product);
+        // Hot SKU sayacı commit sonrası yazılan stoğa göre düzeltilir
+        hotStockLedger.beforeStockWrite(Map.of(entity.getId(), entity.getStockQuantity()));
         ProductEntity savedEntity = jpaProductRepository.save(entity);
+        indexName(savedEntity.getId(), savedEntity.getName());
+        evict(savedEntity.getId());
         return ProductMapper.toDomain(savedEntity);
     }
 
     @Override
+    @Transactional
+    public Optional<Product> updateDetails(Product product) {
+        ProductEntity entity = ProductMapper.toEntity(product);
+        int updated = jpaProductRepository.updateDetails(entity.getId(), entity.getName(), entity.getDescription(),
+                entity.getPriceAmountMinor(), entity.getPriceCurrency(), entity.getContentHash());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        indexName(entity.getId(), entity.getName());
+        evict(entity.getId());
+        // Yanıttaki stok güncel değerdir, istekteki ürünün stoğu değil
+        return jpaProductRepository.findViewById(entity.getId())
+                .map(ProductMapper::toDomain)
+                .map(this::withHotStock);
+    }
+
+    /**
+     * Her parça kendi transaction'ında yazılır. Parça kısıt ihlaliyle geri alınırsa
+     * kalemleri tek tek yeniden denenir; böylece sadece hatalı ürün başarısız
+     * raporlanır. Diğer hatalar fırlatılır; önceki parçalar commit edilmiş kalır.
+     */
+    @Override
+    public List<ProductSaveResult> saveAll(List<Product> products) {
+        List<ProductSaveResult> results = new ArrayList<>(products.size());
+        try {
+            for (int from = 0; from < products.size(); from += BATCH_SIZE) {
+                results.addAll(saveChunkIsolated(products.subList(from, Math.min(from + BATCH_SIZE, products.size()))));
+            }
+        } finally {
+            // Toplu yazımda ürün başına olay yerine tek "tümünü temizle" olayı yayınlanır
+            if (results.stream().anyMatch(ProductSaveResult::isSuccess)) {
+                invalidationPublisher.publishAll();
+            }
+        }
+        return results;
+    }
+
+    private List<ProductSaveResult> saveChunkIsolated(List<Product> chunk) {
+        try {
+            return chunkTransaction.execute(status -> saveChunk(chunk));
+        } catch (DataIntegrityViolationException e) {
+            if (chunk.size() == 1) {
+                Product product = chunk.get(0);
+                log.warn("Ürün {} toplu kayıtta yazılamadı: {}", product.getId(), e.getMostSpecificCause().getMessage());
+                return List.of(ProductSaveResult.failed(product.getId(), "Ürün veri kısıtı ihlali nedeniyle kaydedilemedi"));
+            }
+            List<ProductSaveResult> results = new ArrayList<>(chunk.size());
+            for (Product product : chunk) {
+                results.addAll(saveChunkIsolated(List.of(product)));
+            }
+            return results;
+        }
+    }
+
+    private List<ProductSaveResult> saveChunk(List<Product> chunk) {
+        hotStockLedger.beforeStockWrite(stockQuantities(chunk));
+        List<UUID> ids = chunk.stream().map(product -> product.getId().getValue()).toList();
+        // Var olanlar tek IN sorgusuyla persistence context'e yüklenir; merge tekrar SELECT yapmaz.
+        // Oluşturuldu/güncellendi ayrımı da bu sorgudan çıkar.
+        Set<UUID> existingIds = jpaProductRepository.findAllById(ids).stream()
+                .map(ProductEntity::getId)
+                .collect(Collectors.toSet());
+
+        List<ProductEntity> entities = new ArrayList<>(chunk.size());
+        List<ProductSaveResult> results = new ArrayList<>(chunk.size());
+        for (Product product : chunk) {
+            ProductEntity entity = ProductMapper.toEntity(product);
+            if (existingIds.contains(entity.getId())) {
+                results.add(ProductSaveResult.updated(product.getId()));
+            } else {
+                entity.markNew();
+                results.add(ProductSaveResult.created(product.getId()));
+            }
+            entities.add(entity);
+        }
+        jpaProductRepository.saveAll(entities);
+
+        // Batch'i veritabanına gönderip persistence context'i boşalt; kısıt ihlali
+        // repository proxy'si üzerinden DataIntegrityViolationException'a çevrilir
+        jpaProductRepository.flush();
+        entityManager.clear();
+
+        entities.forEach(entity -> productCache.invalidate(entity.getId()));
+        afterCommit(() -> entities.forEach(entity -> {
+            productNameSearch.index(entity.getId(), entity.getName());
+            productCache.invalidate(entity.getId());
+        }));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public int importProducts(List<Product> products) {
+        Map<UUID, ProductEntity> entities = new LinkedHashMap<>();
+        for (Product product : products) {
+            ProductEntity entity = ProductMapper.toEntity(product);
+            entities.put(entity.getId(), entity);
+        }
+        // Persistence context'te bu ürünlerin eski hali kalmaması için önce boşaltılır
+        entityManager.flush();
+        entityManager.clear();
+        // Yükleyici var olan ürünlerin stoğuna yazmadığı için hot SKU sayacı etkilenmez
+        productBulkLoader.load(entities.values());
+
+        // Rollback olursa index'te olmayan ürünler kalmasın diye isimler commit sonrası eklenir
+        afterCommit(() -> {
+            entities.values().forEach(entity -> productNameSearch.index(entity.getId(), entity.getName()));
+            productCache.invalidateAll();
+            invalidationPublisher.publishAll();
+        });
+        return entities.size();
+    }
+
+    /**
+     * Cache'e yüklenen ürün primary'den okunur; replica gecikmesi cache'te kalıcı olmaz
+     */
+    @Override
+    @Transactional
     public Optional<Product> findById(Product.ProductId id) {
-        return jpaProductRepository.findById(id.toString())
-                .map(ProductMapper::toDomain);
+        return productCache.get(id.getValue(), jpaProductRepository::findViewById)
+                .map(ProductMapper::toDomain)
+                .map(this::withHotStock);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Product> findByIdForUpdate(Product.ProductId id) {
+        return jpaProductRepository.findViewById(id.getValue())
+                .map(ProductMapper::toDomain)
+                .map(this::withHotStock);
     }
 
     @Override
+    @Transactional
+    public List<Product> findAllByIds(Collection<Product.ProductId> ids) {
+        List<UUID> values = ids.stream().map(Product.ProductId::getValue).distinct().toList();
+        Map<UUID, ProductView> views = productCache.getAll(values, jpaProductRepository::findViewsByIds);
+        return values.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(ProductMapper::toDomain)
+                .map(this::withHotStock)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Hot SKU'larda veritabanı flush'a kadar geride kaldığı için stok ledger'dan okunur
+     */
+    private Product withHotStock(Product product) {
+        hotStockLedger.availableStock(product.getId().getValue())
+                .ifPresent(quantity -> product.updateStock(new Stock(quantity)));
+        return product;
+    }
+
+    /**
+     * Aynı ürün birden fazla kez verilirse sonuncusu yazılır
+     */
+    private static Map<UUID, Integer> stockQuantities(List<Product> products) {
+        Map<UUID, Integer> quantities = new HashMap<>();
+        products.forEach(product -> quantities.put(product.getId().getValue(), product.getStock().getQuantity()));
+        return quantities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
         return jpaProductRepository.findAll().stream()
                 .map(ProductMapper::toDomain)
@@ -43,6 +269,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findByNameContaining(String name) {
         return jpaProductRepository.findByNameContaining(name).stream()
                 .map(ProductMapper::toDomain)
@@ -50,47 +277,186 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public List<Product> findInStockProducts() {
-        return jpaProductRepository.findByStockQuantityGreaterThan(0).stream()
+    @Transactional(readOnly = true)
+    public List<Product> searchByName(String query, int offset, int limit) {
+        List<UUID> rankedIds = productNameSearch.search(query, offset, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProductEntity> entitiesById = jpaProductRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        // IN sorgusu sıralamayı korumadığı için index'in sıralaması geri uygulanır
+        return rankedIds.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
                 .map(ProductMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Product> findOutOfStockProducts() {
-        return jpaProductRepository.findByStockQuantityEquals(0).stream()
+    @Transactional(readOnly = true)
+    public List<Product> findInStockProducts() {
+        return jpaProductRepository.findInStock().stream()
                 .map(ProductMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Product> findByPriceRange(double minPrice, double maxPrice) {
-        return jpaProductRepository
-                .findByPriceAmountBetween(
-                        java.math.BigDecimal.valueOf(minPrice),
-                        java.math.BigDecimal.valueOf(maxPrice))
-                .stream()
+    @Transactional(readOnly = true)
+    public List<Product> findOutOfStockProducts() {
+        return jpaProductRepository.findOutOfStock().stream()
                 .map(ProductMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        Objects.requireNonNull(minPrice, "Minimum fiyat null olamaz");
+        Objects.requireNonNull(maxPrice, "Maksimum fiyat null olamaz");
+        List<Product> products = new ArrayList<>();
+        CURRENCY_CODES_BY_FRACTION_DIGITS.forEach((fractionDigits, codes) -> {
+            // Sınırlar küçük birime içeriye doğru yuvarlanır: aralık hiçbir zaman genişlemez
+            long min = Price.minorUnitBound(minPrice, fractionDigits, RoundingMode.CEILING);
+            long max = Price.minorUnitBound(maxPrice, fractionDigits, RoundingMode.FLOOR);
+            if (min > max) {
+                return;
+            }
+            jpaProductRepository.findByPriceCurrencyInAndPriceAmountMinorBetween(codes, min, max).stream()
+                    .map(ProductMapper::toDomain)
+                    .forEach(products::add);
+        });
+        return products;
+    }
+
+    @Override
+    @Transactional
+    public StockReservationResult reserveStock(Product.ProductId id, int quantity) {
+        return reserve(id, quantity);
+    }
+
+    @Override
+    @Transactional
+    public Map<Product.ProductId, StockReservationResult> reserveStock(Map<Product.ProductId, Integer> quantities) {
+        quantities.values().forEach(Product::validateStockReduction);
+        Map<Product.ProductId, StockReservationResult> results = new LinkedHashMap<>();
+        quantities.forEach((id, quantity) -> results.put(id, reserve(id, quantity)));
+        return results;
+    }
+
+    private StockReservationResult reserve(Product.ProductId id, int quantity) {
+        Product.validateStockReduction(quantity);
+        if (hotStockLedger.isTracked(id.getValue())) {
+            // Veritabanı flush'a kadar değişmez; cache'teki ürün flush sonrası ledger tarafından düşürülür
+            if (!hotStockLedger.tryDecrement(id.getValue(), quantity)) {
+                return StockReservationResult.INSUFFICIENT_STOCK;
+            }
+            // Bellekteki düşüm transaction'a bağlı değildir; rollback'te elle geri verilir
+            afterRollback(() -> hotStockLedger.release(id.getValue(), quantity));
+            return StockReservationResult.RESERVED;
+        }
+        if (jpaProductRepository.decrementStock(id.getValue(), quantity) == 1) {
+            evict(id.getValue());
+            return StockReservationResult.RESERVED;
+        }
+        // Sadece başarısız durumda yetersiz stok / olmayan ürün ayrımı için okuma yapılır
+        return jpaProductRepository.existsById(id.getValue())
+                ? StockReservationResult.INSUFFICIENT_STOCK
+                : StockReservationResult.PRODUCT_NOT_FOUND;
+    }
+
     @Override
     public void deleteById(Product.ProductId id) {
-        jpaProductRepository.deleteById(id.toString());
+        jpaProductRepository.deleteById(id.getValue());
+        afterCommit(() -> {
+            productNameSearch.remove(id.getValue());
+            hotStockLedger.forget(id.getValue());
+        });
+        evict(id.getValue());
     }
 
+    /**
+     * Yazma öncesi kontroller için kullanıldığından replica'ya gönderilmez
+     */
     @Override
+    @Transactional
     public boolean existsById(Product.ProductId id) {
-        return jpaProductRepository.existsById(id.toString());
+        return jpaProductRepository.existsById(id.getValue());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long count() {
         return jpaProductRepository.count();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long countInStockProducts() {
-        return jpaProductRepository.findByStockQuantityGreaterThan(0).size();
+        return jpaProductRepository.countInStock();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countOutOfStockProducts() {
+        return jpaProductRepository.countOutOfStock();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogStatistics getCatalogStatistics() {
+        CatalogStatisticsProjection statistics = jpaProductRepository.getCatalogStatistics();
+        return new CatalogStatistics(
+                statistics.getTotalProducts(),
+                statistics.getInStockProducts(),
+                statistics.getOutOfStockProducts(),
+                statistics.getTotalStockUnits());
+    }
+
+    /**
+     * Ürünü yerel cache'ten çıkarır ve diğer instance'lara bildirir.
+     * Transaction içindeyse commit sonrasına ertelenir; böylece commit'ten
+     * önce eski veri tekrar cache'e yüklenemez.
+     */
+    private void evict(UUID id) {
+        productCache.invalidate(id);
+        afterCommit(() -> {
+            productCache.invalidate(id);
+            invalidationPublisher.publish(id);
+        });
+    }
+
+    /**
+     * Ad index'i commit sonrası güncellenir; rollback olan yazım index'te iz bırakmaz
+     */
+    private void indexName(UUID id, String name) {
+        afterCommit(() -> productNameSearch.index(id, name));
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,80 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product View
+ * products satırının düz, değişmez okuma modeli. JPQL constructor
+ * expression ile doğrudan sonuç kümesinden oluşturulur; entity hydration,
+ * persistence context ve domain doğrulaması gerektirmez.
+ * ETag, yanıt gövdesinin üretildiği aynı satırdan hesaplanır.
+ */
+public record ProductView(
+        UUID id,
+        String name,
+        String description,
+        long priceAmountMinor,
+        String priceCurrency,
+        Integer stockQuantity,
+        Long contentHash) {
+
+    public static final String SELECT = "select new com.turkcell.product_service.infrastructure.repositories.ProductView("
+            + "p.id, p.name, p.description, p.priceAmountMinor, p.priceCurrency, p.stockQuantity, p.contentHash) "
+            + "from ProductEntity p ";
+
+    public String etag() {
+        return Long.toHexString(contentHash) + "-" + Integer.toHexString(stockQuantity);
+    }
+
+    /**
+     * Bir sayfadaki ürünlerden sayfanın ETag'ini üretir;
+     * sayfadaki herhangi bir ürün değiştiğinde veya eklendiğinde/silindiğinde değişir
+     */
+    public static String etagOf(List<ProductView> views) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3 + Integer.BYTES);
+            for (ProductView view : views) {
+                buffer.clear();
+                buffer.putLong(view.id().getMostSignificantBits())
+                        .putLong(view.id().getLeastSignificantBits())
+                        .putLong(view.contentHash())
+                        .putInt(view.stockQuantity());
+                digest.update(buffer.array());
+            }
+            digest.update(Integer.toString(views.size()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Aynı satırın farklı stoklu kopyası (hot SKU sayacındaki güncel stok için)
+     */
+    public ProductView withStockQuantity(int quantity) {
+        return new ProductView(id, name, description, priceAmountMinor, priceCurrency, quantity, contentHash);
+    }
+
+    public ProductResponse toResponse() {
+        return new ProductResponse(
+                id.toString(),
+                name,
+                description,
+                new PriceDto(Price.ofMinorUnits(priceAmountMinor, Currency.fromCode(priceCurrency)).getAmount(),
+                        priceCurrency),
+                new StockDto(stockQuantity));
+    }
+}
@@ -0,0 +1,152 @@
+package com.turkcell.product_service.infrastructure.search;
+
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import com.turkcell.product_service.infrastructure.repositories.ProductNameProjection;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Bellek içi trigram (3-gram) index ile ürün adı araması
+ * pg_trgm bulunmayan veritabanlarında (H2) kullanılır. Her trigram için
+ * o trigramı içeren ürün id'leri tutulur; sorgu, en seyrek trigramın
+ * listesinden aday seçip gerçek substring kontrolü ile doğrulanır.
+ */
+public class InMemoryNgramProductNameSearch implements ProductNameSearch {
+    private static final int GRAM_SIZE = 3;
+
+    private final JpaProductRepository jpaProductRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    public InMemoryNgramProductNameSearch(JpaProductRepository jpaProductRepository,
+            TransactionTemplate transactionTemplate) {
+        this.jpaProductRepository = jpaProductRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Index'i veritabanındaki ürün adlarından yeniden oluşturur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductNameProjection> rows = jpaProductRepository.streamAllNames()) {
+                rows.forEach(row -> index(row.getId(), row.getName()));
+            }
+        });
+    }
+
+    @Override
+    public List<UUID> search(String query, int offset, int limit) {
+        String needle = normalize(query);
+        Collection<UUID> candidates = needle.length() < GRAM_SIZE ? names.keySet() : rarestPosting(needle);
+
+        List<Match> matches = new ArrayList<>();
+        for (UUID id : candidates) {
+            String name = names.get(id);
+            int position = name == null ? -1 : name.indexOf(needle);
+            if (position >= 0) {
+                matches.add(new Match(id, position, name.length()));
+            }
+        }
+        matches.sort(Match.RANKING);
+
+        int from = Math.min(offset, matches.size());
+        int to = Math.min(from + limit, matches.size());
+        return matches.subList(from, to).stream().map(Match::id).toList();
+    }
+
+    /**
+     * Aynı ürünün güncellemeleri names.compute ile sıralanır. Yeni trigram'lar ad
+     * değişmeden önce eklenir, artık geçmeyenler sonra çıkarılır; eşzamanlı
+     * arama ürünü ara durumda kaybetmez.
+     */
+    @Override
+    public void index(UUID id, String name) {
+        String normalized = normalize(name);
+        names.compute(id, (key, previous) -> {
+            Set<String> grams = grams(normalized);
+            for (String gram : grams) {
+                postings.compute(gram, (g, ids) -> {
+                    Set<UUID> set = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    set.add(id);
+                    return set;
+                });
+            }
+            if (previous != null) {
+                Set<String> stale = grams(previous);
+                stale.removeAll(grams);
+                removePostings(id, stale);
+            }
+            return normalized;
+        });
+    }
+
+    @Override
+    public void remove(UUID id) {
+        names.computeIfPresent(id, (key, previous) -> {
+            removePostings(id, grams(previous));
+            return null;
+        });
+    }
+
+    private void removePostings(UUID id, Set<String> grams) {
+        for (String gram : grams) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private Collection<UUID> rarestPosting(String needle) {
+        Set<UUID> rarest = null;
+        for (String gram : grams(needle)) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+        }
+        return rarest == null ? Set.of() : rarest;
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Eşleşme sıralaması: önce ad ile başlayanlar, sonra daha kısa adlar
+     * (sorguya daha benzer), eşitlikte id
+     */
+    private record Match(UUID id, int position, int length) {
+        static final Comparator<Match> RANKING = Comparator
+                .comparing((Match m) -> m.position() != 0)
+                .thenComparingInt(Match::length)
+                .thenComparing(Match::id);
+    }
+}
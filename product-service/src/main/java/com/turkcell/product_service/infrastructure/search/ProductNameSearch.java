@@ -0,0 +1,26 @@
+package com.turkcell.product_service.infrastructure.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Name Search
+ * Ürün adında alt metin (substring) araması yapan index soyutlaması.
+ * Sonuçlar alaka düzeyine göre sıralı ürün id'leri olarak döner.
+ */
+public interface ProductNameSearch {
+    /**
+     * Adında verilen metni içeren ürünlerin id'lerini sıralı döner
+     */
+    List<UUID> search(String query, int offset, int limit);
+
+    /**
+     * Ürün kaydedildiğinde index'i günceller
+     */
+    void index(UUID id, String name);
+
+    /**
+     * Ürün silindiğinde index'ten çıkarır
+     */
+    void remove(UUID id);
+}
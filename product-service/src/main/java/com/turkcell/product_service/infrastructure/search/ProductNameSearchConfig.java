@@ -0,0 +1,28 @@
+package com.turkcell.product_service.infrastructure.search;
+
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Product Name Search Configuration
+ * PostgreSQL'de pg_trgm, diğer veritabanlarında bellek içi n-gram index kullanır
+ */
+@Configuration
+public class ProductNameSearchConfig {
+
+    @Bean
+    public ProductNameSearch productNameSearch(
+            DataSourceProperties dataSourceProperties,
+            JpaProductRepository jpaProductRepository,
+            TransactionTemplate transactionTemplate) {
+        DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(dataSourceProperties.determineUrl());
+        if (driver == DatabaseDriver.POSTGRESQL) {
+            return new TrigramProductNameSearch(jpaProductRepository);
+        }
+        return new InMemoryNgramProductNameSearch(jpaProductRepository, transactionTemplate);
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.product_service.infrastructure.search;
+
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * PostgreSQL pg_trgm tabanlı ürün adı araması
+ * ILIKE '%x%' sorgusu products.name üzerindeki GIN trigram index'ini kullanır,
+ * sıralama word_similarity ile yapılır. Extension ve index Flyway migration'ı
+ * ile oluşturulur; index veritabanında tutulduğu için index/remove işlemleri gerekmez.
+ */
+public class TrigramProductNameSearch implements ProductNameSearch {
+    private final JpaProductRepository jpaProductRepository;
+
+    public TrigramProductNameSearch(JpaProductRepository jpaProductRepository) {
+        this.jpaProductRepository = jpaProductRepository;
+    }
+
+    @Override
+    public List<UUID> search(String query, int offset, int limit) {
+        return jpaProductRepository.searchIdsByNameTrigram(query, "%" + escapeLike(query) + "%", offset, limit);
+    }
+
+    @Override
+    public void index(UUID id, String name) {
+        // Index PostgreSQL tarafından güncel tutulur
+    }
+
+    @Override
+    public void remove(UUID id) {
+        // Index PostgreSQL tarafından güncel tutulur
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
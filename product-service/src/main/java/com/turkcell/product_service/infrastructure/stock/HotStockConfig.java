@@ -0,0 +1,28 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hot SKU stok modu yapılandırması
+ * product.stock.hot-sku.enabled=false iken ledger hiçbir ürünü takip etmez
+ */
+@Configuration
+@EnableConfigurationProperties(HotStockProperties.class)
+public class HotStockConfig {
+
+    @Bean
+    public HotStockLedger hotStockLedger(
+            HotStockProperties properties,
+            JpaProductRepository jpaProductRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ProductCache productCache) {
+        return new HotStockLedger(properties, jpaProductRepository, jdbcTemplate, transactionTemplate, productCache);
+    }
+}
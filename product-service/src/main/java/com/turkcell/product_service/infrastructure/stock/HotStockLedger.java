@@ -0,0 +1,302 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hot Stock Ledger
+ * Flash sale ürünlerinin stoğunu bellekte şeritli sayaçlarda tutar. Düşümler
+ * bellekte onaylanır, periyodik olarak tek bir JDBC batch ile
+ * stock_quantity kolonuna yazılır (write-behind). Uygulama açılışında stok
+ * veritabanından yüklenir; yazılmamış düşümler kapanışta flush edilir.
+ *
+ * Ledger tek instance varsayar: her instance açılışta stoğun tamamını yükler ve
+ * kendi başına dağıtır. Birden fazla replika aynı ürünü takip ederse stok
+ * replika sayısı kadar satılabilir; mod açıkken servis tek replika çalıştırılmalıdır.
+ *
+ * Ürünün stoğu doğrudan yazıldığında (güncelleme, toplu kayıt, import) sayaç
+ * yazılan değere çekilmez; commit sonrası eski değer ile yazılan değer arasındaki
+ * fark kadar düzeltilir. Henüz yazılmamış düşümler böylece korunur.
+ *
+ * Bellekteki düşümler ürün cache'ini düşürmez; tekil ve çoklu ürün okumaları
+ * stoğu availableStock ile sayaçtan alır. Liste, sayfa ve akış okumalarında stok
+ * en fazla bir flush aralığı geride kalır; yazılan ürünler her flush sonrası
+ * cache'ten çıkarılır.
+ */
+public class HotStockLedger {
+    private static final Logger log = LoggerFactory.getLogger(HotStockLedger.class);
+
+    private static final String DECREMENT_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?";
+    private static final String STOCK_SQL = "SELECT stock_quantity FROM products WHERE id = ?";
+
+    private final HotStockProperties properties;
+    private final JpaProductRepository jpaProductRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCache productCache;
+    private final Map<UUID, HotStock> stocks = new ConcurrentHashMap<>();
+    // Flush ve doğrudan stok yazımları bu kilitle sıralanır; JDBC çağrısı kilit
+    // altında yapıldığı için synchronized yerine (virtual thread pinning)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    public HotStockLedger(HotStockProperties properties, JpaProductRepository jpaProductRepository,
+            JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ProductCache productCache) {
+        this.properties = properties;
+        this.jpaProductRepository = jpaProductRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productCache = productCache;
+    }
+
+    /**
+     * İşaretli ürünlerin stoğunu veritabanından yükler ve flush döngüsünü başlatır
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled() || properties.productIds().isEmpty()) {
+            return;
+        }
+        // Replica geride olabileceği için stok primary'den yüklenir (readOnly olmayan transaction)
+        List<ProductEntity> entities = transactionTemplate.execute(
+                status -> jpaProductRepository.findAllById(properties.productIds()));
+        for (ProductEntity entity : entities) {
+            stocks.put(entity.getId(), new HotStock(entity.getStockQuantity(), properties.stripes()));
+        }
+        long intervalMillis = properties.flushInterval().toMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("hot-stock-flusher")
+                .daemon(true)
+                .factory());
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Hot SKU stok modu açık: {} ürün, flush aralığı {}. Mod tek instance içindir.", stocks.size(),
+                properties.flushInterval());
+    }
+
+    public boolean isTracked(UUID productId) {
+        return stocks.containsKey(productId);
+    }
+
+    /**
+     * Bellekteki satılabilir stok (yazılmamış düşümler düşülmüş haliyle)
+     */
+    public OptionalInt availableStock(UUID productId) {
+        HotStock stock = stocks.get(productId);
+        return stock == null ? OptionalInt.empty() : OptionalInt.of(stock.counter.sum());
+    }
+
+    /**
+     * Stok yeterliyse bellekte düşer ve veritabanına yazılmak üzere kaydeder
+     */
+    public boolean tryDecrement(UUID productId, int quantity) {
+        HotStock stock = stocks.get(productId);
+        if (stock == null || !stock.counter.tryDecrement(quantity)) {
+            return false;
+        }
+        stock.pending.addAndGet(quantity);
+        return true;
+    }
+
+    /**
+     * Onaylanmış bir düşümü geri alır (düşümü içeren transaction rollback olduysa).
+     * Düşüm flush edilmiş olsa bile bekleyen miktar eksiye iner ve sonraki flush
+     * stoğu veritabanında geri ekler.
+     */
+    public void release(UUID productId, int quantity) {
+        HotStock stock = stocks.get(productId);
+        if (stock != null) {
+            stock.counter.add(quantity);
+            stock.pending.addAndGet(-quantity);
+        }
+    }
+
+    /**
+     * Ürünlerin stoğu açık transaction içinde doğrudan yazılmadan önce çağrılır.
+     * Takip edilen ürün varsa transaction bitene kadar flush bekletilir; commit
+     * sonrası sayaç, ledger'ın bildiği veritabanı stoğu ile yazılan değer arasındaki
+     * fark kadar düzeltilir. Rollback'te sayaç değişmez.
+     *
+     * @param quantities Ürün başına yazılacak stok miktarı
+     */
+    public void beforeStockWrite(Map<UUID, Integer> quantities) {
+        Map<UUID, Integer> tracked = new LinkedHashMap<>();
+        quantities.forEach((id, quantity) -> {
+            if (stocks.containsKey(id)) {
+                tracked.put(id, quantity);
+            }
+        });
+        if (tracked.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Hot SKU stoğu transaction dışında yazılamaz");
+        }
+        flushLock.lock();
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            tracked.forEach(HotStockLedger.this::applyStockWrite);
+                        }
+                    } finally {
+                        flushLock.unlock();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            flushLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Ürün silindiğinde takibi bırakır
+     */
+    public void forget(UUID productId) {
+        stocks.remove(productId);
+    }
+
+    /**
+     * Bekleyen düşümleri tek transaction içinde JDBC batch ile yazar
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void applyStockWrite(UUID productId, int quantity) {
+        HotStock stock = stocks.get(productId);
+        if (stock != null) {
+            stock.counter.adjust(quantity - stock.persisted);
+            stock.persisted = quantity;
+        }
+    }
+
+    private void flushPending() {
+        List<UUID> ids = new ArrayList<>();
+        List<HotStock> flushed = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        // Satırlar her flush'ta aynı sırayla kilitlenir
+        stocks.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .forEach(entry -> {
+                    // Geri alınan düşümler nedeniyle fark eksi olabilir; bu durumda stok geri eklenir
+                    int delta = entry.getValue().pending.getAndSet(0);
+                    if (delta != 0) {
+                        ids.add(entry.getKey());
+                        flushed.add(entry.getValue());
+                        args.add(new Object[] { delta, entry.getKey(), delta });
+                    }
+                });
+        if (args.isEmpty()) {
+            return;
+        }
+
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(DECREMENT_SQL, args));
+        } catch (DataAccessException e) {
+            // Yazılamayan düşümler bir sonraki flush'ta tekrar denenir
+            for (int i = 0; i < flushed.size(); i++) {
+                flushed.get(i).pending.addAndGet((Integer) args.get(i)[0]);
+            }
+            throw e;
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            int delta = (Integer) args.get(i)[0];
+            if (counts[i] == 0) {
+                resync(ids.get(i), flushed.get(i), delta);
+            } else {
+                flushed.get(i).persisted -= delta;
+            }
+            productCache.invalidate(ids.get(i));
+        }
+    }
+
+    /**
+     * Veritabanındaki stok bellekteki düşümü karşılamıyorsa (ürün silinmiş veya
+     * stok ledger dışından değiştirilmiş) sayaç gerçek stoktan yeniden hesaplanır.
+     * Yazılamayan düşüm bırakılır; sonraki düşümler beklemeye devam eder.
+     */
+    private void resync(UUID productId, HotStock stock, int unwritten) {
+        List<Integer> current = transactionTemplate.execute(
+                status -> jdbcTemplate.queryForList(STOCK_SQL, Integer.class, productId));
+        if (current == null || current.isEmpty()) {
+            log.warn("Hot SKU {} veritabanında bulunamadı, takip bırakılıyor", productId);
+            stocks.remove(productId, stock);
+            return;
+        }
+        int actual = current.get(0);
+        log.error("Hot SKU {} için {} adet düşüm veritabanına yazılamadı (stok {}), sayaç veritabanından "
+                + "yeniden hesaplanıyor", productId, unwritten, actual);
+        // Sayaç = persisted - unwritten - bekleyen; hedef = actual - bekleyen
+        stock.counter.adjust(actual - stock.persisted + unwritten);
+        stock.persisted = actual;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        if (!stocks.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Hot SKU stok düşümleri yazılamadı, tekrar denenecek: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Tek ürünün bellek içi durumu; sayaç ve bekleyen düşüm birlikte eklenip silinir
+     */
+    private static final class HotStock {
+        private final StripedStockCounter counter;
+        private final AtomicInteger pending = new AtomicInteger();
+        // Ledger'ın bildiği veritabanı stoğu; sadece flushLock altında değişir
+        private int persisted;
+
+        private HotStock(int quantity, int stripes) {
+            this.counter = new StripedStockCounter(quantity, stripes);
+            this.persisted = quantity;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hot SKU (flash sale) stok modu ayarları
+ * Stok instance belleğinde tutulur; mod sadece tek replika ile kullanılmalıdır
+ *
+ * @param enabled       Mod açık mı
+ * @param productIds    Stoğu bellekte tutulacak ürünler
+ * @param flushInterval Bellekteki düşümlerin veritabanına yazılma aralığı
+ * @param stripes       Ürün başına şerit sayısı
+ */
+@ConfigurationProperties(prefix = "product.stock.hot-sku")
+public record HotStockProperties(
+        boolean enabled,
+        List<UUID> productIds,
+        Duration flushInterval,
+        Integer stripes) {
+
+    public HotStockProperties {
+        productIds = productIds == null ? List.of() : List.copyOf(productIds);
+        flushInterval = flushInterval == null ? Duration.ofMillis(200) : flushInterval;
+        stripes = stripes == null ? Runtime.getRuntime().availableProcessors() : stripes;
+    }
+}
@@ -0,0 +1,122 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped Stock Counter
+ * Tek bir ürünün stoğunu birden fazla şeride (stripe) bölerek tutar. Eşzamanlı
+ * düşümler farklı şeritlerde CAS ile ilerler ve aynı cache line için yarışmaz.
+ * Hiçbir şerit negatife düşmediği için toplam stok da negatife düşmez (Stock
+ * invariant'ı). Tek şerit yetmediğinde şeritler kilit altında birleştirilir.
+ * Kilit olarak ReentrantLock kullanılır; synchronized beklemesi virtual
+ * thread'i taşıyıcı thread'e sabitler (pinning).
+ */
+public class StripedStockCounter {
+    // Her şerit ayrı cache line'a düşsün diye 16 int (64 byte) aralıkla yerleştirilir
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public StripedStockCounter(int initialQuantity, int stripes) {
+        if (initialQuantity < 0) {
+            throw new IllegalArgumentException("Stok miktarı negatif olamaz");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Şerit sayısı pozitif olmalıdır");
+        }
+        this.stripes = stripes;
+        this.cells = new AtomicIntegerArray(stripes * PADDING);
+        distribute(initialQuantity);
+    }
+
+    /**
+     * Stok yeterliyse miktarı düşer
+     *
+     * @return Düşüm yapıldıysa true, stok yetersizse false
+     */
+    public boolean tryDecrement(int quantity) {
+        int start = (int) (Thread.currentThread().threadId() % stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            int current = cells.get(index);
+            while (current >= quantity) {
+                if (cells.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+                current = cells.get(index);
+            }
+        }
+        return tryDecrementAcrossStripes(quantity);
+    }
+
+    /**
+     * Stoka miktar ekler
+     */
+    public void add(int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Eklenen miktar negatif olamaz");
+        }
+        int start = (int) (Thread.currentThread().threadId() % stripes);
+        cells.addAndGet(start * PADDING, quantity);
+    }
+
+    /**
+     * Anlık toplam stok (eşzamanlı düşümler sırasında yaklaşık değerdir)
+     */
+    public int sum() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * Stoğu verilen fark kadar düzeltir; sonuç negatifse sıfırda kalır.
+     * Farklar sırası önemli olmadan toplandığı için eşzamanlı düşümlerle
+     * yarışta hiçbir düşüm kaybolmaz.
+     *
+     * @return Düzeltme sonrası toplam stok
+     */
+    public int adjust(int delta) {
+        lock.lock();
+        try {
+            int total = (int) Math.max(0L, Math.min(Integer.MAX_VALUE, (long) drain() + delta));
+            distribute(total);
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryDecrementAcrossStripes(int quantity) {
+        lock.lock();
+        try {
+            int total = drain();
+            boolean enough = total >= quantity;
+            distribute(enough ? total - quantity : total);
+            return enough;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int drain() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.getAndSet(i * PADDING, 0);
+        }
+        return total;
+    }
+
+    private void distribute(int quantity) {
+        int share = quantity / stripes;
+        int remainder = quantity % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.addAndGet(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+}
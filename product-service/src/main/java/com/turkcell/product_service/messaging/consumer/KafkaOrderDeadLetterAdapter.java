@@ -0,0 +1,143 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.product_service.application.dtos.OrderDeadLetterResponse;
+import com.turkcell.product_service.application.ports.OrderDeadLetterPort;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * order-topic-dlt'yi replay consumer group'u ile okur
+ * Replay ilerlemesi bu group'un offset'leri olarak commit edilir; aynı kayıt iki kez
+ * yeniden yayınlanmaz ve replay parça parça yapılabilir. Replay'ler sırayla çalışır.
+ */
+@Component
+public class KafkaOrderDeadLetterAdapter implements OrderDeadLetterPort {
+    private static final Logger log = LoggerFactory.getLogger(KafkaOrderDeadLetterAdapter.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration REPLAY_TIMEOUT = Duration.ofMinutes(2);
+
+    private final ConsumerFactory<byte[], byte[]> consumerFactory;
+    private final OrderRetryProperties properties;
+    private final OrderRetryPublisher orderRetryPublisher;
+
+    @Autowired
+    public KafkaOrderDeadLetterAdapter(KafkaProperties kafkaProperties, ObjectProvider<SslBundles> sslBundles,
+            OrderRetryProperties properties, OrderRetryPublisher orderRetryPublisher) {
+        this(replayConsumerFactory(kafkaProperties, sslBundles.getIfAvailable(), properties), properties,
+                orderRetryPublisher);
+    }
+
+    KafkaOrderDeadLetterAdapter(ConsumerFactory<byte[], byte[]> consumerFactory, OrderRetryProperties properties,
+            OrderRetryPublisher orderRetryPublisher) {
+        this.consumerFactory = consumerFactory;
+        this.properties = properties;
+        this.orderRetryPublisher = orderRetryPublisher;
+    }
+
+    @Override
+    public OrderDeadLetterResponse getStatus() {
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = assign(consumer);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            return new OrderDeadLetterResponse(0, pending(endOffsets, startOffsets(consumer, partitions)));
+        }
+    }
+
+    @Override
+    public synchronized OrderDeadLetterResponse replay(int maxRecords) {
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = assign(consumer);
+            // Replay süresince DLT'ye düşen yeni kayıtlar bu çağrıda ele alınmaz
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, Long> nextOffsets = startOffsets(consumer, partitions);
+            nextOffsets.forEach(consumer::seek);
+
+            long replayed = 0;
+            long deadline = System.nanoTime() + REPLAY_TIMEOUT.toNanos();
+            Map<TopicPartition, OffsetAndMetadata> progress = new HashMap<>();
+            while (replayed < maxRecords && pending(endOffsets, nextOffsets) > 0 && System.nanoTime() < deadline) {
+                try {
+                    for (ConsumerRecord<byte[], byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                        if (replayed >= maxRecords || record.offset() >= endOffsets.get(partition)) {
+                            continue;
+                        }
+                        orderRetryPublisher.replay(record);
+                        replayed++;
+                        nextOffsets.put(partition, record.offset() + 1);
+                        progress.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    }
+                } finally {
+                    // Yayınlanan kayıtlar, yayın yarıda kesilse bile commit edilir
+                    if (!progress.isEmpty()) {
+                        consumer.commitSync(progress);
+                        progress.clear();
+                    }
+                }
+            }
+            long pending = pending(endOffsets, nextOffsets);
+            log.info("{} DLT kaydı {} topic'ine yeniden yayınlandı, {} kayıt bekliyor", replayed,
+                    properties.topic(), pending);
+            return new OrderDeadLetterResponse(replayed, pending);
+        }
+    }
+
+    private static ConsumerFactory<byte[], byte[]> replayConsumerFactory(KafkaProperties kafkaProperties,
+            SslBundles sslBundles, OrderRetryProperties properties) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties(sslBundles);
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, properties.replayGroup());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(consumerProperties, new ByteArrayDeserializer(),
+                new ByteArrayDeserializer());
+    }
+
+    private List<TopicPartition> assign(Consumer<byte[], byte[]> consumer) {
+        List<TopicPartition> partitions = consumer.partitionsFor(properties.deadLetterTopic()).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        return partitions;
+    }
+
+    /**
+     * Replay group'unun commit ettiği offset'ler; hiç replay yapılmamış partition'larda başlangıç
+     */
+    private static Map<TopicPartition, Long> startOffsets(Consumer<byte[], byte[]> consumer,
+            List<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            // Retention ile silinmiş kayıtlar atlanır
+            offsets.put(partition, Math.max(beginning.get(partition), offset == null ? 0L : offset.offset()));
+        }
+        return offsets;
+    }
+
+    private static long pending(Map<TopicPartition, Long> endOffsets, Map<TopicPartition, Long> nextOffsets) {
+        return endOffsets.entrySet().stream()
+                .mapToLong(entry -> Math.max(0L, entry.getValue() - nextOffsets.getOrDefault(entry.getKey(), 0L)))
+                .sum();
+    }
+}
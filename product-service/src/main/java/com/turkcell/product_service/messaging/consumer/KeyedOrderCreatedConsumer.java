@@ -0,0 +1,129 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.binder.kafka.KafkaBindingRebalanceListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.product_service.application.dtos.StockReservationLine;
+import com.turkcell.product_service.application.usecases.ReserveStockBatchUseCase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * order-topic'i kayıt bazında, KeyedOrderProcessor ile tüketir
+ * (product.orders.processing.mode=keyed-concurrent, keyed-orders profili)
+ * Her kayıt kendi transaction'ında işlenir; yavaş bir veritabanı çağrısı sadece
+ * aynı ürünün sonraki kayıtlarını bekletir. Eşzamanlılık partition sayısıyla
+ * değil, maxInFlight ile sınırlıdır.
+ * Sınır submit-timeout boyunca dolu kalırsa listener hata verir; orderCreatedErrorHandler
+ * offset'i geri sarar ve kaydı artan beklemelerle (en fazla 30 sn) yeniden okur.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderProcessingProperties.class)
+@ConditionalOnProperty(prefix = "product.orders.processing", name = "mode", havingValue = "keyed-concurrent")
+public class KeyedOrderCreatedConsumer {
+    private static final Logger log = LoggerFactory.getLogger(KeyedOrderCreatedConsumer.class);
+    private static final String BINDING_NAME = "orderCreated-in-0";
+
+    @Bean(destroyMethod = "close")
+    public KeyedOrderProcessor keyedOrderProcessor(ReserveStockBatchUseCase reserveStockBatchUseCase,
+            OrderRetryPublisher orderRetryPublisher, OrderProcessingProperties properties,
+            MeterRegistry meterRegistry) {
+        KeyedOrderProcessor processor = new KeyedOrderProcessor(
+                event -> {
+                    try {
+                        reserveStockBatchUseCase.execute(
+                                List.of(new StockReservationLine(event.productId(), event.quantityOrDefault())));
+                    } catch (RuntimeException e) {
+                        // Ortam hatalarında şerit yerinde bekler; diğer hatalarda kayıt retry kademesine gider
+                        if (OrderRetryPublisher.isInfrastructureFailure(e)) {
+                            throw e;
+                        }
+                        orderRetryPublisher.retryOrDeadLetter(event, 1, e);
+                    }
+                },
+                // Şeritte tükenen ortam hataları retry kademesinde yerinde beklenir
+                (event, e) -> orderRetryPublisher.retryOrDeadLetter(event, 1, e),
+                properties.maxInFlight(),
+                properties.maxAttempts(),
+                properties.initialBackoff(),
+                properties.maxBackoff(),
+                properties.submitTimeout());
+        Gauge.builder("product.orders.in-flight", processor, KeyedOrderProcessor::inFlight)
+                .description("İşlemdeki sipariş kayıtları")
+                .register(meterRegistry);
+        Gauge.builder("product.orders.active-keys", processor, KeyedOrderProcessor::activeKeys)
+                .description("İşlemde kaydı olan farklı ürün sayısı")
+                .register(meterRegistry);
+        return processor;
+    }
+
+    @Bean
+    public Consumer<Message<OrderCreatedEvent>> orderCreated(KeyedOrderProcessor processor,
+            MeterRegistry meterRegistry) {
+        Counter backpressure = Counter.builder("product.orders.backpressure")
+                .description("İşlemdeki kayıt sınırı dolu olduğu için yeniden okunan sipariş kayıtları")
+                .register(meterRegistry);
+        return message -> {
+            Acknowledgment acknowledgment = message.getHeaders()
+                    .get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+            Integer partition = message.getHeaders().get(KafkaHeaders.RECEIVED_PARTITION, Integer.class);
+            if (acknowledgment == null || partition == null) {
+                throw new IllegalStateException(BINDING_NAME + " ack-mode MANUAL ile çalışmalıdır");
+            }
+            boolean accepted;
+            try {
+                accepted = processor.submit(message.getPayload(), partition, acknowledgment);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Consumer durduruluyor", e);
+            }
+            if (!accepted) {
+                backpressure.increment();
+                throw new IllegalStateException("İşlemdeki sipariş kaydı sınırı dolu; kayıt yeniden okunacak");
+            }
+        };
+    }
+
+    /**
+     * Partition başka bir instance'a geçmeden önce işlemdeki kayıtları bitirir;
+     * tamamlananların offset'leri revoke sırasında commit edilir
+     */
+    @Bean
+    public KafkaBindingRebalanceListener orderCreatedRebalanceListener(KeyedOrderProcessor processor,
+            OrderProcessingProperties properties) {
+        return new KafkaBindingRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(String bindingName,
+                    org.apache.kafka.clients.consumer.Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (!BINDING_NAME.equals(bindingName)) {
+                    return;
+                }
+                try {
+                    if (!processor.awaitPartitions(partitions.stream().map(TopicPartition::partition).toList(),
+                            properties.revokeTimeout())) {
+                        log.warn("{} içindeki kayıtlar {} içinde bitmedi; yeni sahibi tarafından yeniden işlenecek",
+                                partitions, properties.revokeTimeout());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.OrderCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Sipariş kayıtlarını virtual thread'lerde, productId başına sıralı işler
+ *
+ * Her ürünün bir "şeridi" vardır: yeni kayıt, aynı ürünün önceki kaydı bitince
+ * başlar; farklı ürünler paralel çalışır. Aynı anda işlenen kayıt sayısı
+ * maxInFlight ile sınırlıdır. Sınır doluyken consumer thread'i en fazla
+ * submitTimeout kadar bekler; yer açılmazsa kayıt reddedilir ve listener'ın
+ * hata vermesiyle container kaydı beklemeli olarak yeniden okur (backpressure).
+ * Böylece consumer thread'i max.poll.interval.ms'i aşacak kadar bloklanmaz.
+ *
+ * Kayıt ancak işlendikten sonra acknowledge edilir. Container asyncAcks ile
+ * çalıştığından offset, partition'da kesintisiz tamamlanmış en yüksek kayda
+ * kadar commit edilir; sırası gelmemiş ya da başarısız kayıt sonraki
+ * offset'lerin commit edilmesini bekletir.
+ */
+public class KeyedOrderProcessor implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(KeyedOrderProcessor.class);
+
+    private final Consumer<OrderCreatedEvent> handler;
+    private final BiConsumer<OrderCreatedEvent, RuntimeException> onRetriesExhausted;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Semaphore permits;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration submitTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<CompletableFuture<Void>>> inFlightByPartition = new ConcurrentHashMap<>();
+
+    /**
+     * @param handler            Kaydı işler; hata verirse kayıt şeridinde yeniden denenir
+     * @param onRetriesExhausted maxAttempts deneme başarısız olursa kaydı devralır (retry kademesi)
+     */
+    public KeyedOrderProcessor(Consumer<OrderCreatedEvent> handler,
+            BiConsumer<OrderCreatedEvent, RuntimeException> onRetriesExhausted, int maxInFlight, int maxAttempts,
+            Duration initialBackoff, Duration maxBackoff, Duration submitTimeout) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight pozitif olmalıdır");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts pozitif olmalıdır");
+        }
+        this.handler = handler;
+        this.onRetriesExhausted = onRetriesExhausted;
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.permits = new Semaphore(maxInFlight);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.submitTimeout = submitTimeout;
+    }
+
+    /**
+     * Kaydı ürününün şeridine ekler; maxInFlight doluysa en fazla submitTimeout bekler
+     *
+     * @return Süre içinde yer açılmadıysa false; kayıt eklenmez ve acknowledge edilmez
+     */
+    public boolean submit(OrderCreatedEvent event, int partition, Acknowledgment acknowledgment)
+            throws InterruptedException {
+        if (!permits.tryAcquire(submitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        String key = event.productId() == null ? "" : event.productId();
+        Set<CompletableFuture<Void>> partitionInFlight = inFlightByPartition.computeIfAbsent(partition,
+                p -> ConcurrentHashMap.newKeySet());
+
+        CompletableFuture<Void> task = lanes.compute(key, (k, tail) -> (tail == null
+                ? CompletableFuture.<Void>completedFuture(null)
+                : tail).thenRunAsync(() -> processWithRetry(event), executor));
+        partitionInFlight.add(task);
+        task.whenComplete((result, error) -> {
+            lanes.remove(key, task);
+            partitionInFlight.remove(task);
+            permits.release();
+            if (error == null) {
+                acknowledgment.acknowledge();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Verilen partition'larda işlemdeki kayıtların bitmesini bekler (partition revoke)
+     * Süre dolarsa kalan kayıtlar acknowledge edilmeden bırakılır ve yeni sahibi
+     * tarafından yeniden işlenir.
+     */
+    public boolean awaitPartitions(Collection<Integer> partitions, Duration timeout) throws InterruptedException {
+        CompletableFuture<?>[] pending = partitions.stream()
+                .map(inFlightByPartition::get)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(pending).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int activeKeys() {
+        return lanes.size();
+    }
+
+    /**
+     * Hata alan kayıt, şeridi bekleterek artan aralıklarla maxAttempts kez denenir;
+     * sıradaki kayıtlar onu geçmez. Denemeler tükenince kayıt onRetriesExhausted'a
+     * verilir ve şerit ile izin serbest kalır. Devir de başarısız olursa (örn. Kafka
+     * erişilemiyor) aynı beklemelerle devir tekrarlanır; kayıt kaybolmaz.
+     * Kapanışta kesilir ve acknowledge edilmez.
+     */
+    private void processWithRetry(OrderCreatedEvent event) {
+        long backoff = initialBackoff.toMillis();
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (attempt <= maxAttempts) {
+                    handler.accept(event);
+                } else {
+                    onRetriesExhausted.accept(event, lastFailure);
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (attempt <= maxAttempts) {
+                    lastFailure = e;
+                }
+                log.warn("Sipariş olayı işlenemedi ({}. deneme), {} ms sonra yeniden denenecek. Ürün: {}: {}",
+                        attempt, backoff, event.productId(), e.getMessage());
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("İşleme kapanış nedeniyle durduruldu", e);
+            }
+            backoff = Math.min(backoff * 2, maxBackoff.toMillis());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Kafka listener container'larının ortak ayarları
+ * Binder tek bir ListenerContainerCustomizer bean'i kullandığı için hepsi burada yapılır:
+ * - spring.threads.virtual.enabled=true iken consumer'lar (orderCreated, productInvalidated)
+ *   virtual thread'lerde çalışır. Spring Boot bu ayarı Tomcat için uygular; binder kendi
+ *   container'larını oluşturduğu için listener executor'ı burada verilir.
+ * - ack-mode MANUAL binding'lerde (keyed-concurrent sipariş işleme) kayıtlar sırasız
+ *   acknowledge edilebilir; container offset'i partition'da kesintisiz tamamlanmış en
+ *   yüksek kayda kadar commit eder.
+ */
+@Configuration
+public class ListenerContainerConfig {
+
+    @Bean
+    public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> listenerContainerCustomizer(
+            Environment environment) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        return (container, destinationName, group) -> {
+            ContainerProperties containerProperties = container.getContainerProperties();
+            if (virtualThreads) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(destinationName + "-");
+                executor.setVirtualThreads(true);
+                containerProperties.setListenerTaskExecutor(executor);
+            }
+            if (containerProperties.getAckMode() == ContainerProperties.AckMode.MANUAL) {
+                containerProperties.setAsyncAcks(true);
+            }
+        };
+    }
+}
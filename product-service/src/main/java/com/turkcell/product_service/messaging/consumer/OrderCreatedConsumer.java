@@ -1,20 +1,127 @@
 package com.turkcell.product_service.messaging.consumer;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.product_service.application.dtos.StockBatchReservationResponse;
+import com.turkcell.product_service.application.dtos.StockReservationLine;
+import com.turkcell.product_service.application.usecases.ReserveStockBatchUseCase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * order-topic'i batch modunda tüketir (orderCreated-in-0.consumer.batch-mode)
+ * Poll edilen kayıtlar ürün bazında toplanır ve tek transaction'da uygulanır.
+ * Listener normal döndüğünde, yani transaction commit edildikten sonra offset'ler
+ * commit edilir (ackMode: BATCH).
+ * Batch veritabanına erişilemediği için başarısız olursa offset commit edilmeden
+ * yerinde yeniden denenir. Başka bir hatada kayıtlar tek tek işlenir; hata veren
+ * kayıt retry kademesine aktarılır ve partition'ı bekletmez (OrderRetryPublisher).
+ * order-service olayları productId ile partition'ladığından bir ürünün kayıtları
+ * hep aynı partition'dan, yani tek bir consumer thread'inden gelir.
+ * product.orders.processing.mode=keyed-concurrent iken yerine KeyedOrderCreatedConsumer çalışır.
+ */
 @Configuration
 public class OrderCreatedConsumer {
+    private static final Logger log = LoggerFactory.getLogger(OrderCreatedConsumer.class);
+
     @Bean
-    public Consumer<OrderCreatedEvent> orderCreated() {
-        return event -> {
-            System.out.println("Yeni bir order create edildi");
-            System.out.println(event.productId());
+    @ConditionalOnProperty(prefix = "product.orders.processing", name = "mode", havingValue = "batch",
+            matchIfMissing = true)
+    public Consumer<List<OrderCreatedEvent>> orderCreated(ReserveStockBatchUseCase reserveStockBatchUseCase,
+            OrderRetryPublisher orderRetryPublisher, MeterRegistry meterRegistry) {
+        DistributionSummary batchSize = DistributionSummary.builder("product.orders.batch.records")
+                .description("Poll edilen batch başına sipariş kaydı")
+                .register(meterRegistry);
+        DistributionSummary batchProducts = DistributionSummary.builder("product.orders.batch.products")
+                .description("Batch başına stok UPDATE'i çalışan farklı ürün sayısı")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("product.orders.rejected")
+                .description("Stok düşülemeyen sipariş kayıtları")
+                .register(meterRegistry);
+
+        return events -> {
+            List<StockReservationLine> lines = events.stream()
+                    .map(event -> new StockReservationLine(event.productId(), event.quantityOrDefault()))
+                    .toList();
+            StockBatchReservationResponse response;
+            try {
+                response = reserveStockBatchUseCase.execute(lines);
+            } catch (RuntimeException e) {
+                if (OrderRetryPublisher.isInfrastructureFailure(e)) {
+                    throw e;
+                }
+                log.warn("Sipariş batch'i uygulanamadı, kayıtlar tek tek işlenecek: {}", e.getMessage());
+                response = reserveOneByOne(events, lines, reserveStockBatchUseCase, orderRetryPublisher);
+            }
+
+            batchSize.record(events.size());
+            batchProducts.record(response.getProductCount());
+            rejected.increment(response.getRejectedLineCount());
+            log.debug("{} sipariş kaydı {} ürün için uygulandı, {} kayıt reddedildi", events.size(),
+                    response.getProductCount(), response.getRejectedLineCount());
         };
     }
 
-    record OrderCreatedEvent(String productId) {
+    /**
+     * Her kayıt kendi transaction'ında işlenir; hata veren kayıt retry kademesine aktarılır
+     * Veritabanına erişilemezse önceki kayıtların offset'leri commit edilir ve container
+     * batch'i hata veren kayıttan itibaren yeniden dener.
+     */
+    private static StockBatchReservationResponse reserveOneByOne(List<OrderCreatedEvent> events,
+            List<StockReservationLine> lines, ReserveStockBatchUseCase reserveStockBatchUseCase,
+            OrderRetryPublisher orderRetryPublisher) {
+        Set<String> products = new HashSet<>();
+        int reserved = 0;
+        int rejected = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            try {
+                StockBatchReservationResponse response = reserveStockBatchUseCase.execute(List.of(lines.get(index)));
+                reserved += response.getReservedLineCount();
+                rejected += response.getRejectedLineCount();
+                if (response.getProductCount() > 0) {
+                    products.add(lines.get(index).getProductId());
+                }
+            } catch (RuntimeException e) {
+                if (OrderRetryPublisher.isInfrastructureFailure(e)) {
+                    throw new BatchListenerFailedException(e.getMessage(), e, index);
+                }
+                try {
+                    orderRetryPublisher.retryOrDeadLetter(events.get(index), 1, e);
+                } catch (RuntimeException publishFailure) {
+                    throw new BatchListenerFailedException(publishFailure.getMessage(), publishFailure, index);
+                }
+            }
+        }
+        return new StockBatchReservationResponse(products.size(), reserved, rejected);
+    }
+
+    /**
+     * orderCreated-in-0 ve orderCreatedRetry-in-0 consumer.commonErrorHandlerBeanName ile bağlanır
+     * Geçici hatalarda (veritabanı erişilemez vb.) kayıtlar, offset commit edilmeden
+     * artan beklemelerle süresiz yeniden denenir; kayıtlar atlanmaz. Olaya
+     * dönüştürülemeyen kayıtlar yeniden denenmez, olduğu gibi DLT'ye yazılır.
+     */
+    @Bean
+    public CommonErrorHandler orderCreatedErrorHandler(OrderRetryPublisher orderRetryPublisher) {
+        ExponentialBackOff backOff = new ExponentialBackOff(Duration.ofMillis(500).toMillis(), 2.0);
+        backOff.setMaxInterval(Duration.ofSeconds(30).toMillis());
+        return new DefaultErrorHandler(orderRetryPublisher::deadLetter, backOff);
     }
 }
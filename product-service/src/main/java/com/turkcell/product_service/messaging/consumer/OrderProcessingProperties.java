@@ -0,0 +1,44 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * order-topic işleme modu ayarları
+ *
+ * @param mode           batch: poll başına tek transaction (varsayılan);
+ *                       keyed-concurrent: kayıtlar virtual thread'lerde, ürün bazında sıralı
+ * @param maxInFlight    keyed-concurrent modunda aynı anda işlenen en fazla kayıt
+ * @param maxAttempts    Kaydın şeridinde denenme sayısı; sonra retry kademesine aktarılır
+ * @param initialBackoff Başarısız kaydın ilk yeniden deneme beklemesi
+ * @param maxBackoff     Yeniden deneme beklemesinin üst sınırı
+ * @param submitTimeout  maxInFlight doluyken consumer thread'inin yer bekleme süresi;
+ *                       max.poll.interval.ms'ten belirgin şekilde kısa olmalıdır
+ * @param revokeTimeout  Partition elden çıkarken işlemdeki kayıtları bekleme süresi
+ */
+@ConfigurationProperties(prefix = "product.orders.processing")
+public record OrderProcessingProperties(
+        Mode mode,
+        Integer maxInFlight,
+        Integer maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        Duration submitTimeout,
+        Duration revokeTimeout) {
+
+    public OrderProcessingProperties {
+        mode = mode == null ? Mode.BATCH : mode;
+        maxInFlight = maxInFlight == null ? 1000 : maxInFlight;
+        maxAttempts = maxAttempts == null ? 10 : maxAttempts;
+        initialBackoff = initialBackoff == null ? Duration.ofMillis(500) : initialBackoff;
+        maxBackoff = maxBackoff == null ? Duration.ofSeconds(30) : maxBackoff;
+        submitTimeout = submitTimeout == null ? Duration.ofSeconds(10) : submitTimeout;
+        revokeTimeout = revokeTimeout == null ? Duration.ofSeconds(10) : revokeTimeout;
+    }
+
+    public enum Mode {
+        BATCH,
+        KEYED_CONCURRENT
+    }
+}
@@ -0,0 +1,104 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import com.turkcell.product_service.application.dtos.StockReservationLine;
+import com.turkcell.product_service.application.usecases.ReserveStockBatchUseCase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Retry kademelerindeki sipariş olaylarını tüketir (orderCreatedRetry-in-0)
+ * Binding'in destination'ı kademe topic'lerinin listesidir; multiplex kapalı olduğundan
+ * her kademe ayrı container'da okunur ve uzun bekleyen kademe kısa olanı bekletmez.
+ * Bir kademedeki kayıtların bekleme süresi aynı olduğundan partition'ın başındaki kayıt
+ * her zaman ilk vadesi dolan kayıttır; consumer thread'i vadeye kadar bekler.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderRetryProperties.class)
+public class OrderRetryConsumer {
+
+    @Bean(destroyMethod = "close")
+    public OrderRetryPublisher orderRetryPublisher(KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles, OrderRetryProperties properties, MeterRegistry meterRegistry) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        DefaultKafkaProducerFactory<byte[], byte[]> producerFactory = new DefaultKafkaProducerFactory<>(
+                producerProperties, new ByteArraySerializer(), new ByteArraySerializer());
+        return new OrderRetryPublisher(producerFactory, BinaryEventCodec.standard(), properties, meterRegistry);
+    }
+
+    /**
+     * Retry ve DLT topic'leri ana topic ile aynı partition sayısıyla oluşturulur
+     */
+    @Bean
+    public KafkaAdmin.NewTopics orderRetryTopics(OrderRetryProperties properties) {
+        NewTopic[] topics = Stream.concat(properties.retryTopics().stream(), Stream.of(properties.deadLetterTopic()))
+                .map(topic -> TopicBuilder.name(topic).partitions(properties.partitions()).build())
+                .toArray(NewTopic[]::new);
+        return new KafkaAdmin.NewTopics(topics);
+    }
+
+    @Bean
+    public Consumer<Message<OrderCreatedEvent>> orderCreatedRetry(ReserveStockBatchUseCase reserveStockBatchUseCase,
+            OrderRetryPublisher orderRetryPublisher, MeterRegistry meterRegistry) {
+        return message -> {
+            int attempts = OrderRetryHeaders.attempts(message.getHeaders());
+            String topic = message.getHeaders().get(KafkaHeaders.RECEIVED_TOPIC, String.class);
+            awaitDue(OrderRetryHeaders.dueAt(message.getHeaders()));
+
+            OrderCreatedEvent event = message.getPayload();
+            try {
+                reserveStockBatchUseCase.execute(
+                        List.of(new StockReservationLine(event.productId(), event.quantityOrDefault())));
+                Counter.builder("product.orders.retry.succeeded")
+                        .description("Retry kademesinde başarıyla işlenen sipariş olayları")
+                        .tag("topic", String.valueOf(topic))
+                        .register(meterRegistry)
+                        .increment();
+            } catch (RuntimeException e) {
+                // Ortam hatalarında kayıt bu kademede yerinde beklenir (orderCreatedErrorHandler)
+                if (OrderRetryPublisher.isInfrastructureFailure(e)) {
+                    throw e;
+                }
+                orderRetryPublisher.retryOrDeadLetter(event, attempts + 1, e);
+            }
+        };
+    }
+
+    private static void awaitDue(long dueAt) {
+        long wait = dueAt - System.currentTimeMillis();
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException e) {
+            // Offset commit edilmez; kayıt yeniden okunur
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retry beklemesi kesildi", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import org.springframework.messaging.MessageHeaders;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Retry ve DLT kayıtlarına eklenen Kafka header'ları
+ * Değerler UTF-8 metin olarak yazılır; binder header mapper'ı bunları byte[] olarak geçirir.
+ */
+public final class OrderRetryHeaders {
+    /** Şimdiye kadarki başarısız işleme denemesi sayısı */
+    public static final String ATTEMPTS = "x-order-attempts";
+    /** Kaydın retry kademesinde en erken işleneceği an (epoch ms) */
+    public static final String DUE_AT = "x-order-retry-due-at";
+    public static final String EXCEPTION = "x-order-exception";
+    public static final String EXCEPTION_MESSAGE = "x-order-exception-message";
+
+    private OrderRetryHeaders() {
+    }
+
+    public static int attempts(MessageHeaders headers) {
+        String value = text(headers, ATTEMPTS);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    public static long dueAt(MessageHeaders headers) {
+        String value = text(headers, DUE_AT);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    public static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(MessageHeaders headers, String name) {
+        Object value = headers.get(name);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Başarısız sipariş olayları için retry topic ve dead-letter ayarları
+ * Kademe topic'leri ana topic adı ve bekleme süresinden türetilir
+ * (order-topic-retry-1000, order-topic-retry-10000, ...); consumer binding'inin
+ * destination listesi bu adlarla aynı olmalıdır.
+ *
+ * @param topic       Ana sipariş topic'i
+ * @param delays      Kademelerin bekleme süreleri; son kademe de başarısız olursa olay DLT'ye gider
+ * @param partitions  Retry ve DLT topic'lerinin partition sayısı (ana topic ile aynı)
+ * @param replayGroup DLT replay ilerlemesinin commit edildiği consumer group
+ */
+@ConfigurationProperties(prefix = "product.orders.retry")
+public record OrderRetryProperties(
+        String topic,
+        List<Duration> delays,
+        Integer partitions,
+        String replayGroup) {
+
+    public OrderRetryProperties {
+        topic = topic == null ? "order-topic" : topic;
+        delays = delays == null ? List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1))
+                : List.copyOf(delays);
+        partitions = partitions == null ? 3 : partitions;
+        replayGroup = replayGroup == null ? "product-service-dlt-replay" : replayGroup;
+        if (delays.isEmpty()) {
+            throw new IllegalArgumentException("En az bir retry kademesi tanımlanmalıdır");
+        }
+    }
+
+    public String retryTopic(int tier) {
+        return topic + "-retry-" + delays.get(tier).toMillis();
+    }
+
+    public List<String> retryTopics() {
+        return IntStream.range(0, delays.size()).mapToObj(this::retryTopic).toList();
+    }
+
+    public String deadLetterTopic() {
+        return topic + "-dlt";
+    }
+}
@@ -0,0 +1,181 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * İşlenemeyen sipariş olaylarını retry kademelerine ve DLT'ye yazar
+ *
+ * Kayıt ana partition'dan hemen çıkarılır; sağlıklı trafik beklemeden devam eder.
+ * Her başarısız denemede olay bir sonraki kademeye, kademeler bitince veya hata
+ * kalıcıysa (geçersiz olay) order-topic-dlt'ye gider. Olaylar productId anahtarıyla
+ * yazılır; bir ürünün retry kayıtları da hep aynı partition'a düşer.
+ *
+ * Gönderim broker onayına kadar beklenir: çağıran consumer offset'ini ancak kayıt
+ * güvenle taşındıktan sonra commit eder.
+ */
+public class OrderRetryPublisher implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OrderRetryPublisher.class);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1000;
+
+    private final ProducerFactory<byte[], byte[]> producerFactory;
+    private final KafkaTemplate<byte[], byte[]> kafkaTemplate;
+    private final BinaryEventCodec codec;
+    private final OrderRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<Counter> retryCounters;
+    private final Counter replayed;
+
+    public OrderRetryPublisher(ProducerFactory<byte[], byte[]> producerFactory, BinaryEventCodec codec,
+            OrderRetryProperties properties, MeterRegistry meterRegistry) {
+        this.producerFactory = producerFactory;
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.codec = codec;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.retryCounters = properties.retryTopics().stream()
+                .map(topic -> Counter.builder("product.orders.retry.published")
+                        .description("Retry kademesine aktarılan sipariş olayları")
+                        .tag("topic", topic)
+                        .register(meterRegistry))
+                .toList();
+        this.replayed = Counter.builder("product.orders.dlt.replayed")
+                .description("DLT'den ana topic'e yeniden yayınlanan sipariş olayları")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Başarısız olayı sıradaki kademeye veya DLT'ye aktarır
+     *
+     * @param failedAttempts Bu deneme dahil başarısız işleme sayısı (ana topic'te 1)
+     */
+    public void retryOrDeadLetter(OrderCreatedEvent event, int failedAttempts, Throwable error) {
+        byte[] key = event.productId() == null ? null : event.productId().getBytes(StandardCharsets.UTF_8);
+        byte[] value = codec.encode(event);
+        List<Header> headers = failureHeaders(failedAttempts, error);
+
+        if (isFatal(error) || failedAttempts > properties.delays().size()) {
+            deadLetter(key, value, headers, error);
+            return;
+        }
+        int tier = failedAttempts - 1;
+        long dueAt = System.currentTimeMillis() + properties.delays().get(tier).toMillis();
+        headers.add(new RecordHeader(OrderRetryHeaders.DUE_AT, OrderRetryHeaders.bytes(dueAt)));
+        send(properties.retryTopic(tier), key, value, headers);
+        retryCounters.get(tier).increment();
+        log.info("Sipariş olayı {}. denemede işlenemedi, {} sonra yeniden denenecek. Ürün: {}: {}", failedAttempts,
+                properties.delays().get(tier), event.productId(), error.getMessage());
+    }
+
+    /**
+     * Olaya dönüştürülemeyen kaydı (bozuk payload vb.) olduğu gibi DLT'ye yazar
+     * orderCreatedErrorHandler'ın recoverer'ıdır; yeniden denenmeyen hatalarda çağrılır.
+     */
+    public void deadLetter(ConsumerRecord<?, ?> record, Exception error) {
+        byte[] key = record.key() instanceof byte[] bytes ? bytes : null;
+        byte[] value = record.value() instanceof byte[] bytes ? bytes : null;
+        // Listener hatası container exception'ı ile sarılı gelir
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(error);
+        log.warn("{}-{}@{} kaydı işlenemedi", record.topic(), record.partition(), record.offset());
+        deadLetter(key, value, failureHeaders(1, cause), cause);
+    }
+
+    /**
+     * DLT kaydını deneme sayısı sıfırlanmış olarak ana topic'e yeniden yayınlar
+     */
+    public void replay(ConsumerRecord<byte[], byte[]> record) {
+        send(properties.topic(), record.key(), record.value(), new ArrayList<>());
+        replayed.increment();
+    }
+
+    /**
+     * Veritabanına erişilemiyor gibi, kayda değil ortama bağlı hatalar
+     * Bu durumda diğer kayıtlar da başarısız olacağından kayıt yerinde yeniden denenir.
+     */
+    public static boolean isInfrastructureFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Yeniden denemekle düzelmeyecek hatalar; olay doğrudan DLT'ye gider
+     */
+    static boolean isFatal(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException || cause instanceof MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deadLetter(byte[] key, byte[] value, List<Header> headers, Throwable error) {
+        send(properties.deadLetterTopic(), key, value, headers);
+        Counter.builder("product.orders.dlt.published")
+                .description("DLT'ye yazılan sipariş olayları")
+                .tag("exception", error.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        log.warn("Sipariş olayı DLT'ye yazıldı: {}", error.getMessage());
+    }
+
+    private static List<Header> failureHeaders(int failedAttempts, Throwable error) {
+        String message = String.valueOf(error.getMessage());
+        if (message.length() > MAX_EXCEPTION_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+        }
+        List<Header> headers = new ArrayList<>();
+        headers.add(new RecordHeader(OrderRetryHeaders.ATTEMPTS, OrderRetryHeaders.bytes(failedAttempts)));
+        headers.add(new RecordHeader(OrderRetryHeaders.EXCEPTION, OrderRetryHeaders.bytes(error.getClass().getName())));
+        headers.add(new RecordHeader(OrderRetryHeaders.EXCEPTION_MESSAGE, OrderRetryHeaders.bytes(message)));
+        return headers;
+    }
+
+    private void send(String topic, byte[] key, byte[] value, List<Header> headers) {
+        try {
+            kafkaTemplate.send(new ProducerRecord<>(topic, null, key, value, headers))
+                    .get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException(topic + " topic'ine yazma kesildi", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException(topic + " topic'ine yazılamadı", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        producerFactory.reset();
+    }
+}
@@ -0,0 +1,29 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.messaging.events.ProductInvalidatedEvent;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Configuration
+public class ProductInvalidatedConsumer {
+    @Bean
+    public Consumer<ProductInvalidatedEvent> productInvalidated(ProductCache productCache,
+            ProductInvalidationPublisher publisher) {
+        return event -> {
+            // Kendi yayınladığımız olay zaten yerelde uygulandı
+            if (publisher.getInstanceId().equals(event.sourceInstanceId())) {
+                return;
+            }
+            if (event.productId() == null) {
+                productCache.invalidateAll();
+            } else {
+                productCache.invalidate(UUID.fromString(event.productId()));
+            }
+        };
+    }
+}
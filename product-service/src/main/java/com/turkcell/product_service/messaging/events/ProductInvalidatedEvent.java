@@ -0,0 +1,10 @@
+package com.turkcell.product_service.messaging.events;
+
+/**
+ * Bir ürünün değiştiğini/silindiğini diğer product-service instance'larına bildirir
+ *
+ * @param productId        Değişen ürün (null ise tüm cache temizlenir, örn. toplu yükleme)
+ * @param sourceInstanceId Olayı yayınlayan instance
+ */
+public record ProductInvalidatedEvent(String productId, String sourceInstanceId) {
+}
@@ -0,0 +1,51 @@
+package com.turkcell.product_service.messaging.producer;
+
+import com.turkcell.product_service.messaging.events.ProductInvalidatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Ürün cache invalidation olaylarını Kafka üzerinden yayınlar
+ */
+@Component
+public class ProductInvalidationPublisher {
+    private static final Logger log = LoggerFactory.getLogger(ProductInvalidationPublisher.class);
+
+    private final StreamBridge streamBridge;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ProductInvalidationPublisher(StreamBridge streamBridge) {
+        this.streamBridge = streamBridge;
+    }
+
+    public void publish(UUID productId) {
+        send(new ProductInvalidatedEvent(productId.toString(), instanceId));
+    }
+
+    /**
+     * Diğer instance'ların tüm ürün cache'ini temizlemesini ister
+     */
+    public void publishAll() {
+        send(new ProductInvalidatedEvent(null, instanceId));
+    }
+
+    private void send(ProductInvalidatedEvent event) {
+        Message<ProductInvalidatedEvent> message = MessageBuilder.withPayload(event).build();
+        try {
+            streamBridge.send("productInvalidated-out-0", message);
+        } catch (RuntimeException e) {
+            // Diğer instance'lar TTL dolunca güncel veriyi görür; yazma işlemi başarısız sayılmaz
+            log.warn("Ürün {} için cache invalidation yayınlanamadı: {}", event.productId(), e.getMessage());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
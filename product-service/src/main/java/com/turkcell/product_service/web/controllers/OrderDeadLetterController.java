@@ -0,0 +1,48 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.application.dtos.OrderDeadLetterResponse;
+import com.turkcell.product_service.application.ports.OrderDeadLetterPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Order Dead Letter REST Controller
+ * İşlenemeyen sipariş olaylarının (order-topic-dlt) yönetim endpoint'leri
+ */
+@RestController
+@RequestMapping("/api/v1/admin/order-events/dead-letters")
+public class OrderDeadLetterController {
+    private static final int MAX_REPLAY_RECORDS = 100_000;
+
+    private final OrderDeadLetterPort orderDeadLetterPort;
+
+    public OrderDeadLetterController(OrderDeadLetterPort orderDeadLetterPort) {
+        this.orderDeadLetterPort = orderDeadLetterPort;
+    }
+
+    /**
+     * Yeniden yayınlanmayı bekleyen DLT kayıtlarının sayısını döner
+     * GET /api/v1/admin/order-events/dead-letters
+     */
+    @GetMapping
+    public ResponseEntity<OrderDeadLetterResponse> getStatus() {
+        return ResponseEntity.ok(orderDeadLetterPort.getStatus());
+    }
+
+    /**
+     * DLT kayıtlarını toplu olarak order-topic'e yeniden yayınlar
+     * POST /api/v1/admin/order-events/dead-letters/replay?maxRecords=1000
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<OrderDeadLetterResponse> replay(
+            @RequestParam(defaultValue = "1000") int maxRecords) {
+        if (maxRecords <= 0 || maxRecords > MAX_REPLAY_RECORDS) {
+            throw new IllegalArgumentException("maxRecords 1 ile " + MAX_REPLAY_RECORDS + " arasında olmalıdır");
+        }
+        return ResponseEntity.ok(orderDeadLetterPort.replay(maxRecords));
+    }
+}
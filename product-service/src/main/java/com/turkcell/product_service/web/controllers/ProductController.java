@@ -1,14 +1,36 @@
 package com.turkcell.product_service.web.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.BulkProductRequest;
+import com.turkcell.product_service.application.dtos.BulkProductResponse;
+import com.turkcell.product_service.application.dtos.CatalogStatisticsResponse;
 import com.turkcell.product_service.application.dtos.CreateProductRequest;
-import com.turkcell.product_service.application.dtos.ProductListResponse;
+import com.turkcell.product_service.application.dtos.ProductBatchRequest;
+import com.turkcell.product_service.application.dtos.ProductBatchResponse;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
 import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.ProductSearchResponse;
+import com.turkcell.product_service.application.dtos.ReserveStockRequest;
+import com.turkcell.product_service.application.dtos.StockReservationResponse;
 import com.turkcell.product_service.application.dtos.UpdateProductRequest;
 import com.turkcell.product_service.application.ports.ProductServicePort;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Product REST Controller
@@ -19,28 +41,197 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/products")
 public class ProductController {
     private final ProductServicePort productService;
+    private final ObjectMapper objectMapper;
 
-    public ProductController(ProductServicePort productService) {
+    public ProductController(ProductServicePort productService, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Tüm ürünleri listeler
+     * Yanıt, önceden serileştirilmiş ürün JSON'larından oluşturulur
      * GET /api/v1/products
      */
     @GetMapping
-    public ResponseEntity<ProductListResponse> getAllProducts() {
-        ProductListResponse response = productService.getAllProducts();
+    public ResponseEntity<byte[]> getAllProducts() {
+        byte[] response = productService.getAllProductsJson();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * Ürünleri cursor (keyset) tabanlı sayfalama ile listeler
+     * If-None-Match, yanıtı oluşturan satırlardan üretilen sayfa ETag'i ile eşleşirse 304 döner
+     * GET /api/v1/products/page?cursor={sonId}&size={adet}
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ProductPageResponse> getProductsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        ProductPageResponse response = productService.getProductsPage(cursor, size);
+        if (webRequest.checkNotModified(response.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .body(response);
+    }
+
+    /**
+     * Tüm ürünleri veritabanından okundukça JSON dizisi olarak yazar
+     * GET /api/v1/products/stream
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                productService.streamAllProducts(product -> {
+                    try {
+                        generator.writeObject(product);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Kataloğu NDJSON (satır başına bir ürün) olarak, id sırasıyla dışa aktarır.
+     * İstemci gzip kabul ediyorsa yanıt sıkıştırılır. Yarıda kalan aktarım,
+     * son alınan ürünün id'si "after" ile verilerek kaldığı yerden sürdürülür.
+     * GET /api/v1/products/export?after={sonId}
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(required = false) UUID after,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String cursor = after == null ? null : after.toString();
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+                // Kök değerler arasına varsayılan boşluk yazılmasın; satırları '\n' ayırır
+                generator.setRootValueSeparator(null);
+                productService.exportProducts(cursor, product -> {
+                    try {
+                        generator.writeObject(product);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Accept-Encoding'de gzip (veya listede yoksa *) q > 0 ile kabul edilmiş mi.
+     * "gzip;q=0" açık bir reddir; x-gzip gibi başka kodlamalar gzip sayılmaz.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 1 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                        && parameter.charAt(1) == '=') {
+                    quality = parseQuality(parameter.substring(2).trim());
+                }
+            }
+            if (coding.equals("gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * Geçersiz q değeri kodlamayı kabul edilmemiş sayar
+     */
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Katalog istatistiklerini (toplam, stokta olan/olmayan, toplam stok) döner
+     * GET /api/v1/products/statistics
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<CatalogStatisticsResponse> getCatalogStatistics() {
+        CatalogStatisticsResponse response = productService.getCatalogStatistics();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Ürün adında arama yapar (en az 3 karakter), sonuçlar alaka düzeyine göre sıralıdır
+     * GET /api/v1/products/search?q={metin}&page={sayfa}&size={adet}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        ProductSearchResponse response = productService.searchProducts(query, page, size);
         return ResponseEntity.ok(response);
     }
 
     /**
      * ID'ye göre ürün getirir
+     * Yanıt, cache'teki serileştirilmiş JSON'dan doğrudan yazılır;
+     * ETag gövdeyle aynı okumadan üretilir; If-None-Match eşleşirse 304 döner
      * GET /api/v1/products/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id) {
-        ProductResponse response = productService.getProductById(id);
+    public ResponseEntity<byte[]> getProductById(@PathVariable String id, WebRequest webRequest) {
+        ProductJsonResponse response = productService.getProductJsonById(id);
+        if (webRequest.checkNotModified(response.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getJson());
+    }
+
+    /**
+     * Birden fazla ürünü tek istekte getirir (en fazla 500 ID)
+     * POST /api/v1/products/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(@Valid @RequestBody ProductBatchRequest request) {
+        ProductBatchResponse response = productService.getProductsByIds(request.getIds());
         return ResponseEntity.ok(response);
     }
 
@@ -54,6 +245,17 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Ürünleri toplu olarak oluşturur veya günceller (upsert)
+     * Her kalem ayrı doğrulanır; hatalı kalemler tüm isteği düşürmez
+     * POST /api/v1/products/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkProductResponse> bulkUpsertProducts(@RequestBody BulkProductRequest request) {
+        BulkProductResponse response = productService.bulkUpsertProducts(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Ürün günceller
      * PUT /api/v1/products/{id}
@@ -66,6 +268,18 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stoktan atomik olarak düşer; stok yetersizse 409 döner
+     * POST /api/v1/products/{id}/stock/reservations
+     */
+    @PostMapping("/{id}/stock/reservations")
+    public ResponseEntity<StockReservationResponse> reserveStock(
+            @PathVariable String id,
+            @Valid @RequestBody ReserveStockRequest request) {
+        StockReservationResponse response = productService.reserveStock(id, request.getQuantity());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Ürün siler
      * DELETE /api/v1/products/{id}
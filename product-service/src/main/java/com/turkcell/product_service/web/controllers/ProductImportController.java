@@ -0,0 +1,72 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportStatusResponse;
+import com.turkcell.product_service.application.ports.ProductImportServicePort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Product Import REST Controller
+ * CSV / NDJSON dosyalarından toplu ürün import endpoint'lerini yönetir
+ */
+@RestController
+@RequestMapping("/api/v1/products/imports")
+public class ProductImportController {
+    private final ProductImportServicePort productImportService;
+
+    public ProductImportController(ProductImportServicePort productImportService) {
+        this.productImportService = productImportService;
+    }
+
+    /**
+     * İstek gövdesindeki dosyayı import kuyruğuna alır; iş arka planda çalışır
+     * POST /api/v1/products/imports (Content-Type: text/csv veya application/x-ndjson)
+     */
+    @PostMapping(consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ProductImportStatusResponse> startImport(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ProductImportFormat format = ProductImportFormat.fromContentType(contentType);
+        ProductImportStatusResponse response = productImportService.startImport(format, body);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/products/imports/" + response.getJobId()))
+                .body(response);
+    }
+
+    /**
+     * Import işinin durumunu ve ilerlemesini döner
+     * GET /api/v1/products/imports/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProductImportStatusResponse> getImportStatus(@PathVariable String jobId) {
+        ProductImportStatusResponse response = productImportService.getImportStatus(jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reddedilen satırları ve nedenlerini NDJSON olarak döner
+     * GET /api/v1/products/imports/{jobId}/rejections
+     */
+    @GetMapping("/{jobId}/rejections")
+    public ResponseEntity<StreamingResponseBody> getRejections(@PathVariable String jobId) {
+        // İş yoksa 404 akış başlamadan döner
+        productImportService.getImportStatus(jobId);
+        StreamingResponseBody body = outputStream -> productImportService.writeRejections(jobId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,10 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Import Job Not Found Exception
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Import Too Large Exception
+ */
+public class ImportTooLargeException extends RuntimeException {
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+}
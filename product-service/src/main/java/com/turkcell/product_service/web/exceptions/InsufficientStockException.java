@@ -0,0 +1,14 @@
+package com.turkcell.product_service.web.exceptions;
+
+/**
+ * Insufficient Stock Exception
+ */
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+
+    public InsufficientStockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+-- Testlerde kullanılan H2 şeması; PostgreSQL migration'ları ile aynı kolonlar
+CREATE TABLE products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    price_amount NUMERIC(19, 2) NOT NULL,
+    price_currency VARCHAR(3) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    content_hash BIGINT DEFAULT 0 NOT NULL
+);
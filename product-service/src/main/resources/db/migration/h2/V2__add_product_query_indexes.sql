@@ -0,0 +1,2 @@
+-- H2 partial index ve pg_trgm desteklemediği için sadece fiyat index'i oluşturulur
+CREATE INDEX idx_products_currency_price ON products (price_currency, price_amount);
@@ -0,0 +1,6 @@
+-- PostgreSQL V4 ile aynı: fiyat küçük birim (kuruş, cent) cinsinden BIGINT
+UPDATE products SET price_amount = price_amount * 100;
+
+ALTER TABLE products RENAME COLUMN price_amount TO price_amount_minor;
+
+ALTER TABLE products ALTER COLUMN price_amount_minor SET DATA TYPE BIGINT;
@@ -0,0 +1,13 @@
+-- products tablosu; daha önce ddl-auto ile oluşturulmuş veritabanlarında da
+-- güvenle çalışması için IF NOT EXISTS kullanılır
+CREATE TABLE IF NOT EXISTS products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    price_amount NUMERIC(19, 2) NOT NULL,
+    price_currency VARCHAR(3) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    content_hash BIGINT NOT NULL DEFAULT 0
+);
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS content_hash BIGINT NOT NULL DEFAULT 0;
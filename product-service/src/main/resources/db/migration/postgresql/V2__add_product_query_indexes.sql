@@ -0,0 +1,7 @@
+-- findByPriceRange: para birimi listesi + fiyat aralığı
+CREATE INDEX IF NOT EXISTS idx_products_currency_price ON products (price_currency, price_amount);
+
+-- findInStock / countInStock ve findOutOfStock / countOutOfStock.
+-- Partial index'ler sadece ilgili satırları tutar; count sorguları index-only scan ile çalışır
+CREATE INDEX IF NOT EXISTS idx_products_in_stock ON products (id) WHERE stock_quantity > 0;
+CREATE INDEX IF NOT EXISTS idx_products_out_of_stock ON products (id) WHERE stock_quantity = 0;
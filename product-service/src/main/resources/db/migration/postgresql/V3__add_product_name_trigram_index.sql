@@ -0,0 +1,4 @@
+-- Ürün adı araması (ILIKE / LIKE '%x%') ve findByNameContaining için GIN trigram index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (name gin_trgm_ops);
@@ -0,0 +1,8 @@
+-- Fiyat küçük birim (kuruş, cent) cinsinden BIGINT olarak tutulur.
+-- Desteklenen tüm para birimleri 2 ondalık basamaklı olduğundan dönüşüm x100'dür;
+-- NUMERIC(19, 2) değerleri tam sayıya kayıpsız çevrilir.
+-- idx_products_currency_price kolonu takip eder ve tip değişiminde yeniden oluşturulur.
+ALTER TABLE products RENAME COLUMN price_amount TO price_amount_minor;
+
+ALTER TABLE products
+    ALTER COLUMN price_amount_minor TYPE BIGINT USING (price_amount_minor * 100)::BIGINT;
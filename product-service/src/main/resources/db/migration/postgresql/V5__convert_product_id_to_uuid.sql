@@ -0,0 +1,24 @@
+-- Eski sürümde ddl-auto ile oluşturulan tablolarda id VARCHAR'dır; V1 mevcut tabloyu
+-- değiştirmediği için bu veritabanlarında id burada uuid'ye çevrilir. Kolon zaten
+-- uuid ise hiçbir şey yapılmaz. UUID olmayan id varsa migration tabloyu değiştirmeden
+-- başarısız olur; satırlar düzeltildikten sonra uygulama yeniden başlatılır.
+-- products_pkey ve id üzerindeki partial index'ler tip değişiminde yeniden oluşturulur.
+DO $$
+DECLARE
+    invalid_ids BIGINT;
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'products' AND column_name = 'id') = 'uuid' THEN
+        RETURN;
+    END IF;
+
+    SELECT count(*) INTO invalid_ids FROM products
+    WHERE id !~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$';
+    IF invalid_ids > 0 THEN
+        RAISE EXCEPTION 'products tablosunda UUID olmayan % id var; uuid dönüşümünden önce düzeltilmelidir',
+            invalid_ids;
+    END IF;
+
+    ALTER TABLE products ALTER COLUMN id TYPE uuid USING id::uuid;
+END
+$$;
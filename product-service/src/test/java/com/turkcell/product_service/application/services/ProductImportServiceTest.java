@@ -0,0 +1,131 @@
+package com.turkcell.product_service.application.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportStatusResponse;
+import com.turkcell.product_service.application.usecases.ImportProductsUseCase;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.web.exceptions.ImportJobNotFoundException;
+import com.turkcell.product_service.web.exceptions.ImportTooLargeException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProductImportServiceTest {
+    private static final String CSV = """
+            id,name,description,price_amount,price_currency,stock_quantity
+            ,Kalem,Mavi tükenmez kalem,12.50,TRY,10
+            abc,Silgi,Beyaz yumuşak silgi,3,TRY,5
+            ,Defter,Kareli spiral defter,-1,TRY,3
+            """;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProductImportService service;
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void completedJobReportsProgressAndServesRejectionsAsNdjson() throws Exception {
+        service = service(DataSize.ofMegabytes(1));
+        when(productRepository.importProducts(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        ProductImportStatusResponse started = service.startImport(ProductImportFormat.CSV, input(CSV));
+        ProductImportStatusResponse finished = awaitFinished(started.getJobId());
+
+        assertEquals(ProductImportStatusResponse.Status.COMPLETED, finished.getStatus());
+        assertEquals(CSV.getBytes(StandardCharsets.UTF_8).length, finished.getTotalBytes());
+        assertEquals(finished.getTotalBytes(), finished.getProcessedBytes());
+        assertEquals(3, finished.getRowsRead());
+        assertEquals(1, finished.getImported());
+        assertEquals(2, finished.getRejected());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.writeRejections(started.getJobId(), output);
+        List<JsonNode> rejections = output.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readTree)
+                .toList();
+        assertEquals(2, rejections.size());
+        assertEquals(2, rejections.get(0).get("row").asLong());
+        assertEquals("abc", rejections.get(0).get("id").asText());
+        assertEquals("Geçersiz ürün ID formatı: abc", rejections.get(0).get("errors").get(0).asText());
+        assertEquals(3, rejections.get(1).get("row").asLong());
+        assertEquals("price.amount: Fiyat pozitif olmalıdır", rejections.get(1).get("errors").get(0).asText());
+    }
+
+    @Test
+    void failedChunkMarksJobFailed() throws Exception {
+        service = service(DataSize.ofMegabytes(1));
+        when(productRepository.importProducts(anyList())).thenThrow(new IllegalStateException("Bağlantı koptu"));
+
+        ProductImportStatusResponse finished = awaitFinished(
+                service.startImport(ProductImportFormat.CSV, input(CSV)).getJobId());
+
+        assertEquals(ProductImportStatusResponse.Status.FAILED, finished.getStatus());
+        assertEquals("Bağlantı koptu", finished.getError());
+    }
+
+    @Test
+    void uploadLargerThanLimitIsRejectedBeforeJobStarts() {
+        service = service(DataSize.ofBytes(16));
+
+        assertThrows(ImportTooLargeException.class, () -> service.startImport(ProductImportFormat.CSV, input(CSV)));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        service = service(DataSize.ofMegabytes(1));
+
+        assertThrows(ImportJobNotFoundException.class, () -> service.getImportStatus("yok"));
+        assertThrows(ImportJobNotFoundException.class, () -> service.writeRejections("yok", new ByteArrayOutputStream()));
+    }
+
+    private ProductImportService service(DataSize maxUploadSize) {
+        ImportProductsUseCase useCase = new ImportProductsUseCase(productRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper);
+        return new ProductImportService(useCase, objectMapper, new ProductImportProperties(maxUploadSize));
+    }
+
+    private ProductImportStatusResponse awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            ProductImportStatusResponse status = service.getImportStatus(jobId);
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        fail("Import işi bitmedi");
+        return null;
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.BulkProductItemRequest;
+import com.turkcell.product_service.application.dtos.BulkProductItemResult;
+import com.turkcell.product_service.application.dtos.BulkProductRequest;
+import com.turkcell.product_service.application.dtos.BulkProductResponse;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkUpsertProductsUseCaseTest {
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final BulkUpsertProductsUseCase useCase = new BulkUpsertProductsUseCase(productRepository,
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void repositoryResultsAreMappedBackToRequestIndexes() {
+        String existingId = UUID.randomUUID().toString();
+        String rejectedId = UUID.randomUUID().toString();
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return List.of(
+                    ProductSaveResult.updated(products.get(0).getId()),
+                    ProductSaveResult.failed(products.get(1).getId(), "Ürün veri kısıtı ihlali nedeniyle kaydedilemedi"),
+                    ProductSaveResult.created(products.get(2).getId()));
+        });
+
+        BulkProductResponse response = useCase.execute(new BulkProductRequest(List.of(
+                item(existingId, "Defter"),
+                item(null, ""),
+                item(rejectedId, "Kalem"),
+                item(null, "Silgi"))));
+
+        List<BulkProductItemResult> results = response.getResults();
+        assertEquals(BulkProductItemResult.Status.UPDATED, results.get(0).getStatus());
+        assertEquals(existingId, results.get(0).getId());
+        // Doğrulamadan geçemeyen kalem repository'ye gönderilmez
+        assertEquals(BulkProductItemResult.Status.FAILED, results.get(1).getStatus());
+        assertEquals(BulkProductItemResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals(rejectedId, results.get(2).getId());
+        assertEquals(List.of("Ürün veri kısıtı ihlali nedeniyle kaydedilemedi"), results.get(2).getErrors());
+        assertEquals(BulkProductItemResult.Status.CREATED, results.get(3).getStatus());
+        assertEquals(3, results.get(3).getIndex());
+        verify(productRepository).saveAll(anyList());
+    }
+
+    private static BulkProductItemRequest item(String id, String name) {
+        return new BulkProductItemRequest(id, name, "Toplu istek testi için ürün",
+                new PriceDto(new BigDecimal("10.00"), "TRY"), new StockDto(5));
+    }
+}
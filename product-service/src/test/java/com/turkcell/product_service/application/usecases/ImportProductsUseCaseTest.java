@@ -0,0 +1,142 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.ProductImportFormat;
+import com.turkcell.product_service.application.dtos.ProductImportRejection;
+import com.turkcell.product_service.application.ports.ProductImportListener;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImportProductsUseCaseTest {
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ImportProductsUseCase useCase = new ImportProductsUseCase(productRepository,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+
+    private final List<List<Product>> chunks = new ArrayList<>();
+    private final RecordingListener listener = new RecordingListener();
+
+    @BeforeEach
+    void setUp() {
+        // Parça listesi yazımdan sonra temizlendiği için kopyası saklanır
+        when(productRepository.importProducts(anyList())).thenAnswer(invocation -> {
+            List<Product> chunk = List.copyOf(invocation.getArgument(0));
+            chunks.add(chunk);
+            return chunk.size();
+        });
+    }
+
+    @Test
+    void csvRowsAreParsedAndInvalidRowsRejectedWithTheirRowNumber() throws IOException {
+        UUID notebookId = UUID.randomUUID();
+        UUID pencilId = UUID.randomUUID();
+        String csv = """
+                id,name,description,price_amount,price_currency,stock_quantity
+                ,Kalem,Mavi tükenmez kalem,12.50,TRY,10
+                ,Silgi,Beyaz yumuşak silgi,abc,TRY,5
+                %s,Defter,Kareli spiral defter,20,XYZ,3
+                ,A,kısa,1,TRY,-1
+                %s,"Kalem, kurşun","Yumuşak uçlu ""HB"" kalem",5.00,usd,7
+                """.formatted(notebookId, pencilId);
+
+        useCase.execute(ProductImportFormat.CSV, input(csv), listener);
+
+        List<Product> products = chunks.get(0);
+        assertEquals(1, chunks.size());
+        assertEquals(2, products.size());
+        assertEquals("Kalem", products.get(0).getName());
+        assertEquals(new BigDecimal("12.50"), products.get(0).getPrice().getAmount());
+        assertEquals(10, products.get(0).getStock().getQuantity());
+        assertEquals(pencilId, products.get(1).getId().getValue());
+        assertEquals("Kalem, kurşun", products.get(1).getName());
+        assertEquals("Yumuşak uçlu \"HB\" kalem", products.get(1).getDescription());
+        assertEquals("USD", products.get(1).getPrice().getCurrency().getCode());
+
+        assertEquals(List.of(2L, 3L, 4L), listener.rejectedRows());
+        assertNull(listener.rejections.get(0).getId());
+        assertEquals(notebookId.toString(), listener.rejections.get(1).getId());
+        assertEquals(3, listener.rejections.get(2).getErrors().size());
+        assertEquals(List.of(5L, 2L, 3L), listener.lastProgress);
+    }
+
+    @Test
+    void ndjsonRejectsMalformedNullAndInvalidIdLinesAndSkipsBlankLines() throws IOException {
+        UUID id = UUID.randomUUID();
+        String ndjson = """
+                {"id":"%s","name":"Kalem","description":"Mavi tükenmez kalem","price":{"amount":12.5,"currency":"TRY"},"stock":{"quantity":4}}
+
+                {"name":"Silgi",
+                null
+                {"id":"abc","name":"Silgi","description":"Beyaz yumuşak silgi","price":{"amount":3,"currency":"TRY"},"stock":{"quantity":1}}
+                """.formatted(id);
+
+        useCase.execute(ProductImportFormat.NDJSON, input(ndjson), listener);
+
+        assertEquals(1, chunks.get(0).size());
+        assertEquals(id, chunks.get(0).get(0).getId().getValue());
+        // Boş satır sayılmaz ama satır numarası ilerler
+        assertEquals(List.of(3L, 4L, 5L), listener.rejectedRows());
+        assertTrue(listener.rejections.get(0).getErrors().get(0).startsWith("Geçersiz JSON"));
+        assertEquals(List.of("Ürün bilgisi boş olamaz"), listener.rejections.get(1).getErrors());
+        assertEquals(List.of("Geçersiz ürün ID formatı: abc"), listener.rejections.get(2).getErrors());
+        assertEquals(List.of(4L, 1L, 3L), listener.lastProgress);
+    }
+
+    @Test
+    void validRowsAreWrittenInChunks() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i <= ImportProductsUseCase.CHUNK_SIZE; i++) {
+            ndjson.append("{\"name\":\"Ürün ").append(i)
+                    .append("\",\"description\":\"Toplu import ürünü\",\"price\":{\"amount\":1,\"currency\":\"TRY\"},")
+                    .append("\"stock\":{\"quantity\":1}}\n");
+        }
+
+        useCase.execute(ProductImportFormat.NDJSON, input(ndjson.toString()), listener);
+
+        assertEquals(ImportProductsUseCase.CHUNK_SIZE, chunks.get(0).size());
+        assertEquals(1, chunks.get(1).size());
+        assertEquals(2, listener.progressCalls);
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordingListener implements ProductImportListener {
+        private final List<ProductImportRejection> rejections = new ArrayList<>();
+        private List<Long> lastProgress;
+        private int progressCalls;
+
+        @Override
+        public void onRejected(ProductImportRejection rejection) {
+            rejections.add(rejection);
+        }
+
+        @Override
+        public void onProgress(long rowsRead, long imported, long rejected) {
+            lastProgress = List.of(rowsRead, imported, rejected);
+            progressCalls++;
+        }
+
+        private List<Long> rejectedRows() {
+            return rejections.stream().map(ProductImportRejection::getRow).toList();
+        }
+    }
+}
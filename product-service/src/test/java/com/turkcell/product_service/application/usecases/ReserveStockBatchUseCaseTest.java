@@ -0,0 +1,132 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.application.dtos.StockBatchReservationResponse;
+import com.turkcell.product_service.application.dtos.StockReservationLine;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReserveStockBatchUseCaseTest {
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ReserveStockBatchUseCase useCase = new ReserveStockBatchUseCase(productRepository);
+
+    private final Product.ProductId first = Product.ProductId.generate();
+    private final Product.ProductId second = Product.ProductId.generate();
+
+    @Test
+    void linesAreGroupedIntoOneReservationPerProduct() {
+        when(productRepository.reserveStock(anyMap())).thenReturn(results(
+                first, StockReservationResult.RESERVED,
+                second, StockReservationResult.RESERVED));
+
+        StockBatchReservationResponse response = useCase.execute(List.of(
+                line(first, 2), line(second, 1), line(first, 3)));
+
+        Map<Product.ProductId, Integer> totals = capturedTotals();
+        assertEquals(List.of(first, second), List.copyOf(totals.keySet()));
+        assertEquals(5, totals.get(first));
+        assertEquals(1, totals.get(second));
+        assertResponse(response, 2, 3, 0);
+        verify(productRepository, never()).reserveStock(any(Product.ProductId.class), anyInt());
+    }
+
+    @Test
+    void invalidLinesAreRejectedWithoutReachingRepository() {
+        when(productRepository.reserveStock(anyMap())).thenReturn(results(first, StockReservationResult.RESERVED));
+
+        StockBatchReservationResponse response = useCase.execute(List.of(
+                new StockReservationLine("geçersiz-id", 1), line(first, 0), line(first, -2), line(first, 1)));
+
+        assertEquals(Map.of(first, 1), capturedTotals());
+        assertResponse(response, 1, 1, 3);
+    }
+
+    @Test
+    void missingProductRejectsAllItsLines() {
+        when(productRepository.reserveStock(anyMap()))
+                .thenReturn(results(first, StockReservationResult.PRODUCT_NOT_FOUND));
+
+        StockBatchReservationResponse response = useCase.execute(List.of(line(first, 1), line(first, 2)));
+
+        assertResponse(response, 1, 0, 2);
+        verify(productRepository, never()).reserveStock(any(Product.ProductId.class), anyInt());
+    }
+
+    @Test
+    void insufficientTotalFallsBackToLinesInArrivalOrder() {
+        when(productRepository.reserveStock(anyMap()))
+                .thenReturn(results(first, StockReservationResult.INSUFFICIENT_STOCK));
+        // Stok 5: 4 karşılanır, 3 karşılanamaz, 1 karşılanır
+        when(productRepository.reserveStock(first, 4)).thenReturn(StockReservationResult.RESERVED);
+        when(productRepository.reserveStock(first, 3)).thenReturn(StockReservationResult.INSUFFICIENT_STOCK);
+        when(productRepository.reserveStock(first, 1)).thenReturn(StockReservationResult.RESERVED);
+
+        StockBatchReservationResponse response = useCase.execute(List.of(line(first, 4), line(first, 3), line(first, 1)));
+
+        InOrder order = inOrder(productRepository);
+        order.verify(productRepository).reserveStock(first, 4);
+        order.verify(productRepository).reserveStock(first, 3);
+        order.verify(productRepository).reserveStock(first, 1);
+        assertResponse(response, 1, 2, 1);
+    }
+
+    @Test
+    void totalAboveIntegerRangeIsTriedLineByLine() {
+        when(productRepository.reserveStock(anyMap())).thenReturn(results(second, StockReservationResult.RESERVED));
+        when(productRepository.reserveStock(first, Integer.MAX_VALUE))
+                .thenReturn(StockReservationResult.INSUFFICIENT_STOCK);
+        when(productRepository.reserveStock(first, 10)).thenReturn(StockReservationResult.RESERVED);
+
+        StockBatchReservationResponse response = useCase.execute(List.of(
+                line(first, Integer.MAX_VALUE), line(second, 1), line(first, 10)));
+
+        // int'e sığmayan toplam toplu düşüme hiç gönderilmez
+        assertEquals(Map.of(second, 1), capturedTotals());
+        verify(productRepository).reserveStock(first, Integer.MAX_VALUE);
+        verify(productRepository).reserveStock(first, 10);
+        assertResponse(response, 2, 2, 1);
+    }
+
+    private Map<Product.ProductId, Integer> capturedTotals() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Product.ProductId, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository).reserveStock(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Map<Product.ProductId, StockReservationResult> results(Object... idsAndResults) {
+        Map<Product.ProductId, StockReservationResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < idsAndResults.length; i += 2) {
+            results.put((Product.ProductId) idsAndResults[i], (StockReservationResult) idsAndResults[i + 1]);
+        }
+        return results;
+    }
+
+    private static StockReservationLine line(Product.ProductId id, int quantity) {
+        return new StockReservationLine(id.toString(), quantity);
+    }
+
+    private static void assertResponse(StockBatchReservationResponse response, int products, int reserved,
+            int rejected) {
+        assertEquals(products, response.getProductCount());
+        assertEquals(reserved, response.getReservedLineCount());
+        assertEquals(rejected, response.getRejectedLineCount());
+    }
+}
@@ -0,0 +1,35 @@
+package com.turkcell.product_service.application.usecases;
+
+import com.turkcell.product_service.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchProductsUseCaseTest {
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final SearchProductsUseCase useCase = new SearchProductsUseCase(productRepository);
+
+    @Test
+    void pageIsTranslatedToOffsetWithOneExtraRow() {
+        when(productRepository.searchByName(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(" kalem ", 2, 10);
+
+        verify(productRepository).searchByName("kalem", 20, 11);
+    }
+
+    @Test
+    void pageNumberOverflowingOffsetIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute("kalem", Integer.MAX_VALUE / 50, SearchProductsUseCase.MAX_PAGE_SIZE));
+        verify(productRepository, never()).searchByName(anyString(), anyInt(), anyInt());
+    }
+}
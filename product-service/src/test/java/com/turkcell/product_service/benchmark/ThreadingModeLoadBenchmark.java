@@ -0,0 +1,211 @@
+package com.turkcell.product_service.benchmark;
+
+import com.turkcell.product_service.ProductServiceApplication;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Platform thread ve virtual thread modlarında throughput ve p99 gecikmesini karşılaştırır
+ * Uygulama her mod için ayrı başlatılır. PostgreSQL bağlantısı Toxiproxy üzerinden
+ * gecikmeli verilir, böylece istekler gerçek bir veritabanı gecikmesinde bloklanır.
+ * Kapalı döngü yük üretilir: her istemci yanıtı aldıktan sonra yeni istek gönderir.
+ *
+ * Çalıştırma (Docker gerekir):
+ * mvn test -Dtest=ThreadingModeLoadBenchmark -Dbenchmark=true
+ *   -Dbenchmark.concurrency=1000 -Dbenchmark.latencyMs=20 -Dbenchmark.poolSize=20
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadingModeLoadBenchmark {
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int LATENCY_MS = Integer.getInteger("benchmark.latencyMs", 20);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.poolSize", 20);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmupSeconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 30));
+    private static final int PRODUCT_COUNT = 10_000;
+
+    private static final Network NETWORK = Network.newNetwork();
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("postgres")
+            .withCommand("postgres", "-c", "max_connections=300");
+    private static final ToxiproxyContainer TOXIPROXY = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0")
+            .withNetwork(NETWORK);
+
+    private static String jdbcUrl;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        POSTGRES.start();
+        TOXIPROXY.start();
+        ToxiproxyClient client = new ToxiproxyClient(TOXIPROXY.getHost(), TOXIPROXY.getControlPort());
+        Proxy proxy = client.createProxy("postgres", "0.0.0.0:8666", "postgres:5432");
+        proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, LATENCY_MS);
+        jdbcUrl = "jdbc:postgresql://" + TOXIPROXY.getHost() + ":" + TOXIPROXY.getMappedPort(8666)
+                + "/" + POSTGRES.getDatabaseName();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        TOXIPROXY.stop();
+        POSTGRES.stop();
+        NETWORK.close();
+    }
+
+    @Test
+    void compareThreadingModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%nEşzamanlı istemci: %d, DB gecikmesi: %d ms, Hikari havuzu: %d%n",
+                CONCURRENCY, LATENCY_MS, POOL_SIZE);
+        System.out.printf("%-10s %12s %10s %10s %10s %8s%n", "mod", "istek/sn", "p50 ms", "p99 ms", "max ms", "hata");
+        System.out.println(platform.format("platform"));
+        System.out.println(virtual.format("virtual"));
+
+        assertTrue(platform.requests() > 0 && virtual.requests() > 0, "Hiç istek tamamlanmadı");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "spring.datasource.hikari.connection-timeout=30000",
+                        "logging.level.root=WARN")
+                .run()) {
+            seed(context.getBean(JdbcTemplate.class));
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/products/statistics");
+
+            generateLoad(uri, WARMUP);
+            return generateLoad(uri, MEASUREMENT);
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM products", Integer.class);
+        if (existing != null && existing >= PRODUCT_COUNT) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+                SELECT gen_random_uuid(), 'Product ' || g, 'Yük testi ürünü', ((g % 1000) + 1) * 100, 'TRY', g % 50, 0
+                FROM generate_series(1, ?) g
+                """, PRODUCT_COUNT);
+    }
+
+    /**
+     * CONCURRENCY kadar istemciyi virtual thread'lerde çalıştırır ve gecikmeleri toplar
+     */
+    private static Result generateLoad(URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clients)
+                        .build()) {
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    Worker worker = new Worker();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                worker.errors++;
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            worker.errors++;
+                            continue;
+                        }
+                        worker.record(System.nanoTime() - start);
+                    }
+                    return worker;
+                }));
+            }
+
+            long[] latencies = new long[0];
+            int errors = 0;
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get(duration.toSeconds() + 120, TimeUnit.SECONDS);
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + worker.count);
+                System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+                errors += worker.errors;
+            }
+            Arrays.sort(latencies);
+            return new Result(latencies, errors, duration);
+        }
+    }
+
+    private static final class Worker {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(long[] sortedLatencies, int errors, Duration duration) {
+
+        int requests() {
+            return sortedLatencies.length;
+        }
+
+        String format(String mode) {
+            return String.format("%-10s %12.1f %10.1f %10.1f %10.1f %8d", mode,
+                    requests() / (double) duration.toSeconds(),
+                    percentile(0.50), percentile(0.99), percentile(1.0), errors);
+        }
+
+        private double percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
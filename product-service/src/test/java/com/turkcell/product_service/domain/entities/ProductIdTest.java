@@ -0,0 +1,96 @@
+package com.turkcell.product_service.domain.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductIdTest {
+    private static final String CANONICAL = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    void canonicalIdsAreParsedInAnyCase() {
+        UUID expected = UUID.fromString(CANONICAL);
+
+        assertEquals(Optional.of(Product.ProductId.of(expected)), Product.ProductId.tryParse(CANONICAL));
+        assertEquals(expected, Product.ProductId.fromString(CANONICAL.toUpperCase()).getValue());
+        assertEquals(expected, Product.ProductId.fromString("123E4567-e89B-12d3-A456-426614174000").getValue());
+        for (int i = 0; i < 100; i++) {
+            UUID random = UUID.randomUUID();
+            assertEquals(random, Product.ProductId.fromString(random.toString()).getValue());
+        }
+    }
+
+    @Test
+    void shortGroupFormsAcceptedByUuidAreAccepted() {
+        assertEquals(UUID.fromString("1-2-3-4-5"), Product.ProductId.fromString("1-2-3-4-5").getValue());
+        assertEquals(UUID.fromString("0-0-0-0-0"), Product.ProductId.fromString("0-0-0-0-0").getValue());
+        assertTrue(Product.ProductId.isValid("123e4567-e89b-12d3-a456-42661417400"));
+    }
+
+    @Test
+    void malformedIdsAreRejectedWithoutThrowing() {
+        List<String> malformed = List.of(
+                "",
+                "   ",
+                "not-a-uuid",
+                "123e4567e89b12d3a456426614174000",
+                "123e4567-e89b-12d3-a456-4266141740000",
+                "123e4567-e89b-12d3-a456-42661417400g",
+                "123e4567-e89b-12d3-a456_426614174000",
+                " 123e4567-e89b-12d3-a456-426614174000",
+                "123e4567-e89b-12d3-a456-426614174000 ",
+                "1-2-3-4-5-6",
+                "1--3-4-5",
+                "1-2-3-4-");
+
+        for (String id : malformed) {
+            assertFalse(Product.ProductId.isValid(id), id);
+            assertEquals(Optional.empty(), Product.ProductId.tryParse(id), id);
+        }
+        assertEquals(Optional.empty(), Product.ProductId.tryParse(null));
+    }
+
+    @Test
+    void acceptedFormsMatchUuidFromString() {
+        List<String> inputs = List.of(
+                CANONICAL,
+                CANONICAL.toUpperCase(),
+                "1-2-3-4-5",
+                "ffffffff-ffff-ffff-ffff-ffffffffffff",
+                "123e4567-e89b-12d3-a456-42661417400g",
+                // Yanlış yerdeki tire UUID.fromString'te grubu kırpar; aynı sonuç beklenir
+                "123e4567-e89b-12d3-a45-6426614174000",
+                "123e4567e89b12d3a456426614174000",
+                "1-2-3-4-5-6",
+                "1--3-4-5",
+                "x-2-3-4-5");
+
+        for (String input : inputs) {
+            Optional<UUID> expected;
+            try {
+                expected = Optional.of(UUID.fromString(input));
+            } catch (IllegalArgumentException e) {
+                expected = Optional.empty();
+            }
+            assertEquals(expected, Product.ProductId.tryParse(input).map(Product.ProductId::getValue), input);
+        }
+    }
+
+    @Test
+    void fromStringRejectsBlankAndMalformedIds() {
+        IllegalArgumentException blank = assertThrows(IllegalArgumentException.class,
+                () -> Product.ProductId.fromString(" "));
+        assertEquals("Ürün ID'si null veya boş olamaz", blank.getMessage());
+
+        IllegalArgumentException malformed = assertThrows(IllegalArgumentException.class,
+                () -> Product.ProductId.fromString("abc"));
+        assertEquals("Geçersiz ürün ID formatı: abc", malformed.getMessage());
+    }
+}
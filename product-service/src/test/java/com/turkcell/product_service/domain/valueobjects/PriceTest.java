@@ -0,0 +1,83 @@
+package com.turkcell.product_service.domain.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PriceTest {
+    private static final Currency YEN = new Currency("JPY", "Japon Yeni", "¥", 0);
+
+    @Test
+    void amountIsStoredInMinorUnits() {
+        Price price = new Price(new BigDecimal("1499.9"), Currency.TRY);
+
+        assertEquals(149990, price.getMinorUnits());
+        assertEquals(new BigDecimal("1499.90"), price.getAmount());
+        assertEquals(1500, new Price(new BigDecimal("1500"), YEN).getMinorUnits());
+        // Sondaki sıfırlar basamak sayılmaz
+        assertEquals(1000, new Price(new BigDecimal("10.0000"), Currency.USD).getMinorUnits());
+    }
+
+    @Test
+    void amountWithMoreDigitsThanCurrencyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Price(new BigDecimal("10.001"), Currency.TRY));
+        assertThrows(IllegalArgumentException.class, () -> new Price(new BigDecimal("1.5"), YEN));
+        assertThrows(IllegalArgumentException.class, () -> new Price(new BigDecimal("-0.01"), Currency.TRY));
+        assertThrows(IllegalArgumentException.class, () -> new Price(new BigDecimal("1E+30"), Currency.TRY));
+        assertThrows(IllegalArgumentException.class, () -> new Price(null, Currency.TRY));
+    }
+
+    @Test
+    void basisPointAdjustmentRoundsHalfToEven() {
+        // 1.5 -> 2, 4.5 -> 4
+        assertEquals(2, Price.ofMinorUnits(1, Currency.TRY).adjustByBasisPoints(5_000).getMinorUnits());
+        assertEquals(4, Price.ofMinorUnits(3, Currency.TRY).adjustByBasisPoints(5_000).getMinorUnits());
+        // %10 indirim: 4.5 -> 4, 5.5 -> 6
+        assertEquals(4, Price.ofMinorUnits(5, Currency.TRY).adjustByBasisPoints(-1_000).getMinorUnits());
+        assertEquals(6, Price.ofMinorUnits(55, Currency.TRY).adjustByBasisPoints(-9_000).getMinorUnits());
+        assertEquals(0, Price.ofMinorUnits(999, Currency.TRY).adjustByBasisPoints(-10_000).getMinorUnits());
+    }
+
+    @Test
+    void percentageChangeRoundsHalfToEvenOnBothPaths() {
+        Price price = Price.ofMinorUnits(149_990, Currency.TRY);
+
+        // %12.5 baz puana tam çevrilir (long yolu): 168738.75 -> 168739
+        assertEquals(168_739, price.increaseByPercentage(new BigDecimal("12.5")).getMinorUnits());
+        // %0.005 baz puana çevrilemez (BigDecimal yolu): 10000.5 -> 10000, 30001.5 -> 30002
+        assertEquals(10_000, Price.ofMinorUnits(10_000, Currency.TRY)
+                .increaseByPercentage(new BigDecimal("0.005")).getMinorUnits());
+        assertEquals(30_002, Price.ofMinorUnits(30_000, Currency.TRY)
+                .increaseByPercentage(new BigDecimal("0.005")).getMinorUnits());
+        assertEquals(new BigDecimal("1349.91"), price.decreaseByPercentage(new BigDecimal("10")).getAmount());
+    }
+
+    @Test
+    void invalidPercentagesAreRejected() {
+        Price price = Price.ofMinorUnits(1_000, Currency.TRY);
+
+        assertThrows(IllegalArgumentException.class, () -> price.increaseByPercentage(new BigDecimal("-1")));
+        assertThrows(IllegalArgumentException.class, () -> price.decreaseByPercentage(new BigDecimal("100.5")));
+        assertThrows(IllegalArgumentException.class, () -> price.decreaseByPercentage(new BigDecimal("100.25")));
+        assertThrows(IllegalArgumentException.class,
+                () -> Price.ofMinorUnits(Long.MAX_VALUE, Currency.TRY).increaseByPercentage(BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class,
+                () -> price.isGreaterThan(Price.ofMinorUnits(1_000, Currency.USD)));
+    }
+
+    @Test
+    void queryBoundsAreClampedInsteadOfRejected() {
+        assertEquals(1_001, Price.minorUnitBound(new BigDecimal("10.001"), 2, RoundingMode.CEILING));
+        assertEquals(1_000, Price.minorUnitBound(new BigDecimal("10.009"), 2, RoundingMode.FLOOR));
+        assertEquals(0, Price.minorUnitBound(new BigDecimal("-5"), 2, RoundingMode.CEILING));
+        assertEquals(Long.MAX_VALUE, Price.minorUnitBound(new BigDecimal("1E+30"), 2, RoundingMode.FLOOR));
+        assertEquals(Long.MAX_VALUE, Price.minorUnitBound(new BigDecimal("1E+999999999"), 2, RoundingMode.FLOOR));
+        assertEquals(1, Price.minorUnitBound(new BigDecimal("1E-999999999"), 2, RoundingMode.CEILING));
+        assertEquals(0, Price.minorUnitBound(new BigDecimal("1E-999999999"), 2, RoundingMode.FLOOR));
+        assertEquals(10, Price.minorUnitBound(new BigDecimal("9.5"), 0, RoundingMode.CEILING));
+    }
+}
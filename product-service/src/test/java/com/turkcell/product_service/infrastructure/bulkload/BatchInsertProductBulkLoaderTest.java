@@ -0,0 +1,44 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@JdbcTest
+class BatchInsertProductBulkLoaderTest {
+    private static final String ROW_SQL =
+            "SELECT name, price_amount_minor, stock_quantity FROM products WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newProductsAreInsertedAndExistingOnesKeepTheirStock() {
+        BatchInsertProductBulkLoader loader = new BatchInsertProductBulkLoader(jdbcTemplate);
+        UUID existingId = UUID.randomUUID();
+        UUID newId = UUID.randomUUID();
+        loader.load(List.of(product(existingId, "Kalem", 1250, 10)));
+        // Import sırasında rezervasyon yapılmış
+        jdbcTemplate.update("UPDATE products SET stock_quantity = 7 WHERE id = ?", existingId);
+
+        loader.load(List.of(product(existingId, "Kurşun Kalem", 1500, 50), product(newId, "Silgi", 300, 5)));
+
+        Map<String, Object> existing = jdbcTemplate.queryForMap(ROW_SQL, existingId);
+        assertEquals("Kurşun Kalem", existing.get("NAME"));
+        assertEquals(1500L, existing.get("PRICE_AMOUNT_MINOR"));
+        assertEquals(7, existing.get("STOCK_QUANTITY"));
+        assertEquals(5, jdbcTemplate.queryForMap(ROW_SQL, newId).get("STOCK_QUANTITY"));
+    }
+
+    static ProductEntity product(UUID id, String name, long priceAmountMinor, int stock) {
+        return new ProductEntity(id, name, "Toplu yükleme ürünü", priceAmountMinor, "TRY", stock);
+    }
+}
@@ -0,0 +1,104 @@
+package com.turkcell.product_service.infrastructure.bulkload;
+
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.turkcell.product_service.infrastructure.bulkload.BatchInsertProductBulkLoaderTest.product;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@JdbcTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CopyProductBulkLoaderTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.execute("ALTER TABLE products ALTER COLUMN name TYPE VARCHAR(255)");
+    }
+
+    @Test
+    void upsertKeepsStockOfExistingProducts() {
+        UUID existingId = UUID.randomUUID();
+        UUID newId = UUID.randomUUID();
+        load(product(existingId, "Kalem", 1250, 10));
+        jdbcTemplate.update("UPDATE products SET stock_quantity = 7 WHERE id = ?", existingId);
+
+        load(product(existingId, "Kurşun \"HB\", yumuşak", 1500, 50), product(newId, "Silgi", 300, 5));
+
+        assertEquals("Kurşun \"HB\", yumuşak",
+                jdbcTemplate.queryForObject("SELECT name FROM products WHERE id = ?", String.class, existingId));
+        assertEquals(7, stock(existingId));
+        assertEquals(5, stock(newId));
+    }
+
+    @Test
+    void stagingTableFollowsSchemaChangesOnPooledConnection() {
+        load(product(UUID.randomUUID(), "Kalem", 1250, 10));
+        jdbcTemplate.execute("ALTER TABLE products ALTER COLUMN name TYPE VARCHAR(1000)");
+        UUID id = UUID.randomUUID();
+        String longName = "K".repeat(600);
+
+        load(product(id, longName, 1250, 10));
+
+        assertEquals(longName, jdbcTemplate.queryForObject("SELECT name FROM products WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    void secondLoadInSameTransactionRecreatesStagingTable() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        CopyProductBulkLoader loader = new CopyProductBulkLoader(jdbcTemplate);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            loader.load(List.of(product(first, "Kalem", 1250, 10)));
+            loader.load(List.of(product(second, "Silgi", 300, 5)));
+        });
+
+        assertEquals(10, stock(first));
+        assertEquals(5, stock(second));
+    }
+
+    private void load(ProductEntity... products) {
+        CopyProductBulkLoader loader = new CopyProductBulkLoader(jdbcTemplate);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> loader.load(List.of(products)));
+    }
+
+    private int stock(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, id);
+    }
+}
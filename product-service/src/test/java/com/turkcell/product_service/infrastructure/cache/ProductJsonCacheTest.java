@@ -0,0 +1,58 @@
+package com.turkcell.product_service.infrastructure.cache;
+
+import com.turkcell.product_service.infrastructure.repositories.ProductView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductJsonCacheTest {
+    private final ProductJsonCache cache = new ProductJsonCache(new ProductCacheProperties(null, null, null),
+            new SimpleMeterRegistry());
+    private final AtomicInteger serializations = new AtomicInteger();
+    private final Function<ProductView, byte[]> serializer = view -> {
+        serializations.incrementAndGet();
+        return (view.name() + ":" + view.stockQuantity()).getBytes(StandardCharsets.UTF_8);
+    };
+
+    @Test
+    void sameVersionIsSerializedOnce() {
+        ProductView view = view(UUID.randomUUID(), "Kalem", 10, 1L);
+
+        cache.get(view, serializer);
+
+        assertEquals("Kalem:10", json(cache.get(view, serializer)));
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void staleFragmentIsNeverServedForNewerView() {
+        UUID id = UUID.randomUUID();
+        ProductView stale = view(id, "Kalem", 10, 1L);
+        ProductView fresh = view(id, "Kurşun Kalem", 10, 2L);
+        ProductView reserved = view(id, "Kurşun Kalem", 7, 2L);
+
+        // Düşürmeden sonra eski okuma modeliyle gelen istek eski JSON'u geri koyar
+        cache.get(stale, serializer);
+        cache.invalidate(id);
+        cache.get(stale, serializer);
+
+        assertEquals("Kurşun Kalem:10", json(cache.get(fresh, serializer)));
+        assertEquals("Kurşun Kalem:7", json(cache.get(reserved, serializer)));
+        assertEquals("Kurşun Kalem:7", json(cache.get(reserved, serializer)));
+        assertEquals(4, serializations.get());
+    }
+
+    private static ProductView view(UUID id, String name, int stock, long contentHash) {
+        return new ProductView(id, name, "Açıklama", 1000, "TRY", stock, contentHash);
+    }
+
+    private static String json(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+package com.turkcell.product_service.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaRoutingDataSourceTest {
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesStayOnPrimary() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(Map.of("replica-0", replica), Duration.ofSeconds(5),
+                "SELECT 0");
+        monitor.checkNow();
+
+        DataSource routing = ReadReplicaConfig.routingDataSource(primary, monitor, monitor.replicas());
+
+        assertEquals("replica", serverName(routing, true));
+        assertEquals("primary", serverName(routing, false));
+        assertEquals("primary", new JdbcTemplate(routing).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        DataSource primary = database("primary-lag");
+        DataSource replica = database("replica-lag");
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(Map.of("replica-0", replica), Duration.ofSeconds(5),
+                "SELECT 30");
+        monitor.checkNow();
+
+        DataSource routing = ReadReplicaConfig.routingDataSource(primary, monitor, monitor.replicas());
+
+        assertEquals("primary-lag", serverName(routing, true));
+    }
+
+    @Test
+    void unreachableReplicaIsDroppedWithinConnectionTimeout() {
+        // Yanıt vermeyen adres; havuz açılışta bağlanmayı denemez, kontrol bağlantı süresiyle sınırlıdır
+        HikariDataSource replica = ReadReplicaConfig.createReplica("replica-0",
+                new ReadReplicaProperties.Replica("jdbc:h2:tcp://10.255.255.1/unreachable", "sa", "", 1),
+                Duration.ofMillis(500));
+        try (ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(Map.of("replica-0", replica),
+                Duration.ofSeconds(5), "SELECT 0")) {
+            long started = System.nanoTime();
+            monitor.checkNow();
+
+            assertEquals(List.of(), monitor.healthyReplicas());
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+            assertEquals(500, replica.getConnectionTimeout());
+        }
+    }
+
+    private static String serverName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,98 @@
+package com.turkcell.product_service.infrastructure.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ddl-auto ile oluşturulmuş eski şemadan (VARCHAR id, NUMERIC fiyat) Flyway
+ * migration'larının açılıştaki ayarlarla uygulandığını doğrular.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductIdUuidMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeEach
+    void createLegacySchema() throws SQLException {
+        execute("DROP SCHEMA public CASCADE", "CREATE SCHEMA public", """
+                CREATE TABLE products (
+                    id VARCHAR(255) PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    description VARCHAR(1000) NOT NULL,
+                    price_amount NUMERIC(19, 2) NOT NULL,
+                    price_currency VARCHAR(3) NOT NULL,
+                    stock_quantity INTEGER NOT NULL
+                )
+                """);
+    }
+
+    @Test
+    void legacyVarcharIdsAreConvertedToUuid() throws SQLException {
+        UUID id = UUID.randomUUID();
+        execute("INSERT INTO products VALUES ('" + id + "', 'Kalem', 'Mavi tükenmez kalem', 12.50, 'TRY', 10)");
+
+        flyway().migrate();
+
+        assertEquals("uuid", query("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_name = 'products' AND column_name = 'id'"));
+        assertEquals("1250", query("SELECT price_amount_minor FROM products WHERE id = '" + id + "'::uuid"));
+        // Yeniden çalıştırmada uygulanacak migration kalmaz
+        assertEquals(0, flyway().migrate().migrationsExecuted);
+    }
+
+    @Test
+    void invalidIdFailsMigrationWithoutChangingColumn() throws SQLException {
+        execute("INSERT INTO products VALUES ('urun-1', 'Kalem', 'Mavi tükenmez kalem', 12.50, 'TRY', 10)");
+
+        assertThrows(FlywayException.class, () -> flyway().migrate());
+
+        assertEquals("character varying", query("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_name = 'products' AND column_name = 'id'"));
+    }
+
+    private static Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration/postgresql")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+    }
+
+    private static void execute(String... statements) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static String query(String sql) throws SQLException {
+        try (Connection connection = connect();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,95 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonitoredDataSourceTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MonitoredDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:monitoring-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+        jdbcTemplate.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO items VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        // Eşik sıfır: her SQL yavaş sorgu olarak sayılır
+        dataSource = new MonitoredDataSource(target, new QueryMetrics(
+                new PersistenceMonitoringProperties(true, Duration.ZERO, 10), meterRegistry));
+    }
+
+    @Test
+    void statementsAndRowsAreRecordedInOpenScope() throws Exception {
+        QueryScope scope = QueryScope.open();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT name FROM items WHERE id > ?")) {
+            statement.setInt(1, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertInstanceOf(CountingResultSet.class, resultSet);
+                // getStatement ölçülen proxy'yi döner
+                assertSame(statement, resultSet.getStatement());
+                int read = 0;
+                while (resultSet.next()) {
+                    assertNotNull(resultSet.getString(1));
+                    read++;
+                }
+                assertEquals(2, read);
+            }
+        } finally {
+            scope.close();
+        }
+
+        assertEquals(1, scope.statements());
+        assertEquals(2, scope.rows());
+        assertEquals(1, meterRegistry.get("product.jdbc.statements").tag("operation", "select").timer().count());
+        assertEquals(1, meterRegistry.get("product.jdbc.slow-queries").counter().count());
+    }
+
+    @Test
+    void batchIsRecordedOnceWhenExecuted() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("INSERT INTO items VALUES (?, ?)")) {
+            for (int id = 10; id < 13; id++) {
+                statement.setInt(1, id);
+                statement.setString(2, "batch");
+                statement.addBatch();
+            }
+            assertEquals(3, statement.executeBatch().length);
+        }
+
+        assertEquals(1, meterRegistry.get("product.jdbc.statements").tag("operation", "insert").timer().count());
+    }
+
+    @Test
+    void unwrapReachesDriverObjects() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.isWrapperFor(JdbcConnection.class));
+            assertInstanceOf(JdbcConnection.class, connection.unwrap(JdbcConnection.class));
+
+            try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT id FROM items")) {
+                assertTrue(resultSet.isWrapperFor(org.h2.jdbc.JdbcResultSet.class));
+                assertInstanceOf(org.h2.jdbc.JdbcResultSet.class, resultSet.unwrap(org.h2.jdbc.JdbcResultSet.class));
+                assertSame(resultSet, resultSet.unwrap(ResultSet.class));
+                assertFalse(resultSet.isWrapperFor(String.class));
+            }
+        }
+    }
+}
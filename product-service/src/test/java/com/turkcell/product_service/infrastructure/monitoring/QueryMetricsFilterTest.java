@@ -0,0 +1,75 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryMetricsFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryMetrics queryMetrics = new QueryMetrics(
+            new PersistenceMonitoringProperties(true, Duration.ofSeconds(10), 10), meterRegistry);
+    private final QueryMetricsFilter filter = new QueryMetricsFilter(queryMetrics);
+
+    @Test
+    void synchronousRequestIsRecordedWhenChainReturns() throws Exception {
+        MockHttpServletRequest request = request();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> select());
+
+        assertEquals(1, requestStatements().totalAmount());
+    }
+
+    @Test
+    void streamingWorkOnAsyncThreadIsAttributedToRequest() throws Exception {
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            select();
+            req.startAsync();
+        });
+        // İstek henüz bitmedi; metrik tamamlanınca yazılır
+        assertNull(meterRegistry.find("product.request.statements").summary());
+
+        QueryScopeCallableInterceptor interceptor = new QueryScopeCallableInterceptor();
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        Callable<Object> task = () -> null;
+        Thread.ofVirtual().start(() -> {
+            interceptor.preProcess(webRequest, task);
+            try {
+                select();
+                select();
+            } finally {
+                interceptor.postProcess(webRequest, task, null);
+            }
+        }).join();
+        request.getAsyncContext().complete();
+
+        assertEquals(3, requestStatements().totalAmount());
+    }
+
+    private void select() {
+        queryMetrics.recordStatement("SELECT * FROM products WHERE id > ?", List.of(), 0, 1_000);
+    }
+
+    private DistributionSummary requestStatements() {
+        return meterRegistry.get("product.request.statements").tag("uri", "/api/v1/products/stream").summary();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/stream");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/stream");
+        return request;
+    }
+}
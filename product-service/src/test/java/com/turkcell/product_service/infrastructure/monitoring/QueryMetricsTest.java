@@ -0,0 +1,118 @@
+package com.turkcell.product_service.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryMetricsTest {
+    private static final String SELECT_BY_ID = "SELECT name FROM products WHERE id = ?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryMetrics queryMetrics = new QueryMetrics(
+            new PersistenceMonitoringProperties(true, Duration.ofSeconds(10), 3), meterRegistry);
+
+    @Test
+    void redactMasksLiteralsButKeepsIdentifiers() {
+        assertEquals("SELECT v2_price FROM products WHERE name = '?' AND price > ? AND id = ? LIMIT ?",
+                QueryMetrics.redact("SELECT v2_price FROM products WHERE name = 'O''Reilly' AND price > 10.5 "
+                        + "AND id = ? LIMIT 20"));
+        assertNull(QueryMetrics.redact(null));
+    }
+
+    @Test
+    void repeatedSelectInOneScopeIsReportedAsNPlusOne() {
+        QueryScope scope = QueryScope.open();
+        try {
+            for (int i = 0; i < 3; i++) {
+                queryMetrics.recordStatement(SELECT_BY_ID, List.of("UUID"), 0, 1_000);
+            }
+            queryMetrics.recordStatement("UPDATE products SET stock_quantity = ? WHERE id = ?", List.of(), 0, 1_000);
+        } finally {
+            scope.close();
+        }
+
+        queryMetrics.recordRepositoryCall("ProductRepository", "findAll", 1_000, false, scope);
+
+        assertEquals(1, nPlusOneCount("ProductRepository.findAll"));
+        assertEquals(4, meterRegistry.get("product.repository.statements").summary().totalAmount());
+    }
+
+    @Test
+    void selectsBelowThresholdAreNotReported() {
+        QueryScope scope = QueryScope.open();
+        try {
+            queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+            queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+            queryMetrics.recordStatement("SELECT name FROM products WHERE sku = ?", List.of(), 0, 1_000);
+        } finally {
+            scope.close();
+        }
+
+        queryMetrics.recordRequest("GET", "/api/v1/products", scope);
+
+        assertNull(meterRegistry.find("product.jdbc.n-plus-one").counter());
+    }
+
+    @Test
+    void statementsReachEveryOpenScope() {
+        QueryScope request = QueryScope.open();
+        QueryScope repository = QueryScope.open();
+        queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+        queryMetrics.recordRow();
+        repository.close();
+        queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+        request.close();
+        // Kapsam dışındaki SQL hiçbir kapsama yazılmaz
+        queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+
+        assertEquals(1, repository.statements());
+        assertEquals(1, repository.rows());
+        assertEquals(2, request.statements());
+        assertEquals(1, request.rows());
+    }
+
+    @Test
+    void scopeAttachedOnVirtualThreadsCountsEveryStatement() throws Exception {
+        QueryScope scope = QueryScope.open();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    scope.attach();
+                    try {
+                        for (int i = 0; i < 500; i++) {
+                            queryMetrics.recordStatement(SELECT_BY_ID, List.of(), 0, 1_000);
+                            queryMetrics.recordRow();
+                        }
+                    } finally {
+                        QueryScope.detach();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            scope.close();
+        }
+
+        assertEquals(4_000, scope.statements());
+        assertEquals(4_000, scope.rows());
+        assertEquals(4_000, scope.mostRepeatedSelect().getValue());
+    }
+
+    private double nPlusOneCount(String location) {
+        Counter counter = meterRegistry.get("product.jdbc.n-plus-one").tag("location", location).counter();
+        return counter.count();
+    }
+}
@@ -0,0 +1,84 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.cache.ProductCacheProperties;
+import com.turkcell.product_service.infrastructure.cache.ProductJsonCache;
+import com.turkcell.product_service.infrastructure.stock.HotStockLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductQueryAdapterTest {
+    private final UUID hotId = UUID.randomUUID();
+    private final UUID regularId = UUID.randomUUID();
+    private final JpaProductRepository jpaProductRepository = mock(JpaProductRepository.class);
+    private final HotStockLedger hotStockLedger = mock(HotStockLedger.class);
+    private final ProductQueryAdapter adapter;
+
+    ProductQueryAdapterTest() {
+        ProductCacheProperties properties = new ProductCacheProperties(null, null, null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductJsonCache jsonCache = new ProductJsonCache(properties, meterRegistry);
+        adapter = new ProductQueryAdapter(jpaProductRepository, new ProductCache(properties, meterRegistry, jsonCache),
+                jsonCache, new ObjectMapper(), hotStockLedger);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(jpaProductRepository.findViewById(hotId)).thenReturn(Optional.of(view(hotId, 10)));
+        when(jpaProductRepository.findViewById(regularId)).thenReturn(Optional.of(view(regularId, 4)));
+        when(jpaProductRepository.findViewsByIds(any()))
+                .thenReturn(Map.of(hotId, view(hotId, 10), regularId, view(regularId, 4)));
+        // Veritabanında 10 var; 3 adet bellekte düşülmüş, henüz flush edilmemiş
+        when(hotStockLedger.availableStock(hotId)).thenReturn(OptionalInt.of(7));
+        when(hotStockLedger.availableStock(regularId)).thenReturn(OptionalInt.empty());
+    }
+
+    @Test
+    void singleReadsShowHotStockFromTheLedger() {
+        assertEquals(7, adapter.findById(Product.ProductId.of(hotId)).orElseThrow().getStock().getQuantity());
+        assertEquals(4, adapter.findById(Product.ProductId.of(regularId)).orElseThrow().getStock().getQuantity());
+    }
+
+    @Test
+    void jsonAndETagFollowTheLedgerStock() {
+        ProductJsonResponse before = adapter.findJsonById(Product.ProductId.of(hotId)).orElseThrow();
+        assertTrue(new String(before.getJson(), StandardCharsets.UTF_8).contains("\"quantity\":7"));
+
+        when(hotStockLedger.availableStock(hotId)).thenReturn(OptionalInt.of(6));
+        ProductJsonResponse after = adapter.findJsonById(Product.ProductId.of(hotId)).orElseThrow();
+
+        assertTrue(new String(after.getJson(), StandardCharsets.UTF_8).contains("\"quantity\":6"));
+        assertNotEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    void batchReadShowsHotStockFromTheLedger() {
+        List<ProductResponse> products = adapter.findAllByIds(
+                List.of(Product.ProductId.of(hotId), Product.ProductId.of(regularId)));
+
+        assertEquals(List.of(7, 4), products.stream().map(product -> product.getStock().getQuantity()).toList());
+    }
+
+    private static ProductView view(UUID id, int stock) {
+        return new ProductView(id, "Flash", "Flash sale ürünü", 1000, "TRY", stock, 42L);
+    }
+}
@@ -0,0 +1,196 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.infrastructure.bulkload.ProductBulkLoaderConfig;
+import com.turkcell.product_service.infrastructure.cache.ProductCacheConfig;
+import com.turkcell.product_service.infrastructure.search.ProductNameSearchConfig;
+import com.turkcell.product_service.infrastructure.stock.HotStockConfig;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Repository sorgularının PostgreSQL'de index kullandığını EXPLAIN ile doğrular.
+ * Hibernate'in ürettiği SQL yakalanır ve EXPLAIN (GENERIC_PLAN) ile planlanır;
+ * products üzerinde Seq Scan görülürse test başarısız olur.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.turkcell.product_service.infrastructure.repositories.ProductQueryPlanTest$CapturingStatementInspector")
+@Import({ ProductRepositoryImpl.class, ProductNameSearchConfig.class, HotStockConfig.class,
+        ProductCacheConfig.class, ProductBulkLoaderConfig.class, ProductQueryPlanTest.MetricsConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductQueryPlanTest {
+    private static final int PRODUCT_COUNT = 50_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ProductInvalidationPublisher invalidationPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // Ürünlerin %2'si stokta; fiyatlar 4 para birimine ve geniş bir aralığa dağılır
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price_amount_minor, price_currency, stock_quantity, content_hash)
+                SELECT gen_random_uuid(),
+                       'Product ' || g,
+                       repeat('Katalog ürün açıklaması ', 20),
+                       (g % 10000) * 10 + 100,
+                       (ARRAY['TRY', 'USD', 'EUR', 'GBP'])[1 + g % 4],
+                       CASE WHEN g % 50 = 0 THEN 1 + g % 7 ELSE 0 END,
+                       0
+                FROM generate_series(1, ?) g
+                """, PRODUCT_COUNT);
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+        seeded = true;
+    }
+
+    @Test
+    void priceRangeUsesCurrencyPriceIndex() {
+        assertNoSequentialScan(() -> productRepository.findByPriceRange(new BigDecimal("100.00"), new BigDecimal("101.00")));
+    }
+
+    @Test
+    void inStockQueriesUsePartialIndex() {
+        assertNoSequentialScan(() -> productRepository.findInStockProducts());
+        assertNoSequentialScan(() -> productRepository.countInStockProducts());
+    }
+
+    @Test
+    void outOfStockCountUsesPartialIndex() {
+        // findOutOfStockProducts bu veri dağılımında satırların %98'ini döndüğü için Seq Scan doğru plandır
+        assertNoSequentialScan(() -> productRepository.countOutOfStockProducts());
+    }
+
+    @Test
+    void nameQueriesUseTrigramIndex() {
+        assertNoSequentialScan(() -> productRepository.findByNameContaining("Product 4242"));
+        assertNoSequentialScan(() -> productRepository.searchByName("Product 4242", 0, 20));
+    }
+
+    private void assertNoSequentialScan(Runnable query) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertFalse(selects.isEmpty(), "Sorgu yakalanamadı");
+
+        for (String sql : selects) {
+            String plan = jdbcTemplate.queryForObject(
+                    "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + toPositionalParameters(sql), String.class);
+            List<String> sequentialScans = new ArrayList<>();
+            collectSequentialScans(readTree(plan).get(0).get("Plan"), sequentialScans);
+            if (!sequentialScans.isEmpty()) {
+                fail("products üzerinde Seq Scan: " + sql + System.lineSeparator() + plan);
+            }
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && "products".equals(node.path("Relation Name").asText())) {
+            sequentialScans.add(node.toString());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, sequentialScans);
+        }
+    }
+
+    /**
+     * JDBC '?' parametrelerini EXPLAIN'in kabul ettiği $1, $2... biçimine çevirir
+     */
+    private static String toPositionalParameters(String sql) {
+        StringBuilder result = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                result.append('$').append(++index);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hibernate'in çalıştırdığı SQL'leri toplar
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.ProductSaveResult;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.infrastructure.bulkload.ProductBulkLoaderConfig;
+import com.turkcell.product_service.infrastructure.cache.ProductCacheConfig;
+import com.turkcell.product_service.infrastructure.search.ProductNameSearchConfig;
+import com.turkcell.product_service.infrastructure.stock.HotStockConfig;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:bulk-save;DB_CLOSE_DELAY=-1")
+@Import({ ProductRepositoryImpl.class, ProductNameSearchConfig.class, HotStockConfig.class,
+        ProductCacheConfig.class, ProductBulkLoaderConfig.class, ProductRepositoryImplConcurrencyTest.MetricsConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductRepositoryImplBulkSaveTest {
+    private static final String REJECTED_NAME = "Reddedilen Ürün";
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ProductInvalidationPublisher invalidationPublisher;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("ALTER TABLE products DROP CONSTRAINT IF EXISTS test_rejected_name");
+        jpaProductRepository.deleteAll();
+    }
+
+    @Test
+    void resultsReportCreatedAndUpdatedInInputOrder() {
+        Product existing = productRepository.save(product("Var Olan Ürün", 5));
+        Product renamed = Product.reconstruct(existing.getId(), "Yeni Ad", "Güncellenmiş açıklama",
+                existing.getPrice(), new Stock(8));
+        Product created = product("Yeni Ürün", 3);
+
+        List<ProductSaveResult> results = productRepository.saveAll(List.of(created, renamed));
+
+        assertEquals(List.of(ProductSaveResult.created(created.getId()), ProductSaveResult.updated(existing.getId())),
+                results);
+        Product stored = productRepository.findById(existing.getId()).orElseThrow();
+        assertEquals("Yeni Ad", stored.getName());
+        assertEquals(8, stored.getStock().getQuantity());
+        verify(invalidationPublisher).publishAll();
+    }
+
+    @Test
+    void constraintViolationFailsOnlyTheOffendingProduct() {
+        jdbcTemplate.execute("ALTER TABLE products ADD CONSTRAINT test_rejected_name CHECK (name <> '"
+                + REJECTED_NAME + "')");
+        // 500'lük ilk parça sorunsuz commit edilir; ihlal ikinci parçada
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 502; i++) {
+            products.add(product("Ürün " + i, i));
+        }
+        Product rejected = product(REJECTED_NAME, 1);
+        products.set(501, rejected);
+
+        List<ProductSaveResult> results = productRepository.saveAll(products);
+
+        assertEquals(502, results.size());
+        assertEquals(ProductSaveResult.Status.FAILED, results.get(501).getStatus());
+        assertEquals(rejected.getId(), results.get(501).getProductId());
+        assertTrue(results.subList(0, 501).stream()
+                .allMatch(result -> result.getStatus() == ProductSaveResult.Status.CREATED));
+        assertEquals(501, jpaProductRepository.count());
+        assertFalse(jpaProductRepository.existsById(rejected.getId().getValue()));
+        assertTrue(jpaProductRepository.existsById(products.get(500).getId().getValue()));
+        verify(invalidationPublisher, times(1)).publishAll();
+    }
+
+    private static Product product(String name, int stock) {
+        return Product.create(name, "Toplu kayıt testi için ürün", new Price(new BigDecimal("10.00"), Currency.TRY),
+                new Stock(stock));
+    }
+}
@@ -0,0 +1,178 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.domain.valueobjects.StockReservationResult;
+import com.turkcell.product_service.infrastructure.bulkload.ProductBulkLoaderConfig;
+import com.turkcell.product_service.infrastructure.cache.ProductCacheConfig;
+import com.turkcell.product_service.infrastructure.search.ProductNameSearchConfig;
+import com.turkcell.product_service.infrastructure.stock.HotStockConfig;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:stock;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1")
+@Import({ ProductRepositoryImpl.class, ProductNameSearchConfig.class, HotStockConfig.class,
+        ProductCacheConfig.class, ProductBulkLoaderConfig.class, ProductRepositoryImplConcurrencyTest.MetricsConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductRepositoryImplConcurrencyTest {
+    private static final int INITIAL_STOCK = 100;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @MockitoBean
+    private ProductInvalidationPublisher invalidationPublisher;
+
+    @Autowired
+    private JpaProductRepository jpaProductRepository;
+
+    @AfterEach
+    void cleanUp() {
+        jpaProductRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversellOrLoseUpdates() throws Exception {
+        Product product = productRepository.save(Product.create(
+                "Flash Sale Ürünü",
+                "Eşzamanlı sipariş testi için ürün",
+                new Price(new BigDecimal("10.00"), Currency.TRY),
+                new Stock(INITIAL_STOCK)));
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        StockReservationResult result = productRepository.reserveStock(product.getId(), 1);
+                        if (result == StockReservationResult.RESERVED) {
+                            reserved.incrementAndGet();
+                        } else {
+                            assertEquals(StockReservationResult.INSUFFICIENT_STOCK, result);
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(INITIAL_STOCK, reserved.get());
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD - INITIAL_STOCK, rejected.get());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock().getQuantity());
+    }
+
+    @Test
+    void reservationLargerThanStockLeavesStockUnchanged() {
+        Product product = productRepository.save(Product.create(
+                "Az Stoklu Ürün",
+                "Yetersiz stok testi için ürün",
+                new Price(new BigDecimal("5.00"), Currency.USD),
+                new Stock(3)));
+
+        assertEquals(StockReservationResult.INSUFFICIENT_STOCK, productRepository.reserveStock(product.getId(), 4));
+        assertEquals(3, productRepository.findById(product.getId()).orElseThrow().getStock().getQuantity());
+        assertEquals(StockReservationResult.PRODUCT_NOT_FOUND,
+                productRepository.reserveStock(Product.ProductId.generate(), 1));
+    }
+
+    @Test
+    void batchReservationAppliesEachProductIndependently() {
+        Product plenty = productRepository.save(Product.create(
+                "Bol Stoklu Ürün",
+                "Toplu düşüm testi için ürün",
+                new Price(new BigDecimal("10.00"), Currency.TRY),
+                new Stock(50)));
+        Product scarce = productRepository.save(Product.create(
+                "Az Stoklu Ürün",
+                "Toplu düşüm testi için ürün",
+                new Price(new BigDecimal("10.00"), Currency.TRY),
+                new Stock(2)));
+        Product.ProductId missing = Product.ProductId.generate();
+
+        Map<Product.ProductId, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(plenty.getId(), 30);
+        quantities.put(scarce.getId(), 3);
+        quantities.put(missing, 1);
+        Map<Product.ProductId, StockReservationResult> results = productRepository.reserveStock(quantities);
+
+        assertEquals(StockReservationResult.RESERVED, results.get(plenty.getId()));
+        assertEquals(StockReservationResult.INSUFFICIENT_STOCK, results.get(scarce.getId()));
+        assertEquals(StockReservationResult.PRODUCT_NOT_FOUND, results.get(missing));
+        assertEquals(20, productRepository.findById(plenty.getId()).orElseThrow().getStock().getQuantity());
+        assertEquals(2, productRepository.findById(scarce.getId()).orElseThrow().getStock().getQuantity());
+    }
+
+    @Test
+    void detailsUpdateDoesNotOverwriteReservedStock() {
+        Product product = productRepository.save(Product.create(
+                "Eski Ad",
+                "Güncelleme testi için ürün",
+                new Price(new BigDecimal("10.00"), Currency.TRY),
+                new Stock(10)));
+        // Güncelleme öncesi okunmuş kopya; stok sonradan düşülüyor
+        Product stale = productRepository.findById(product.getId()).orElseThrow();
+        assertEquals(StockReservationResult.RESERVED, productRepository.reserveStock(product.getId(), 3));
+
+        stale.updateProduct("Yeni Ad", "Güncellenmiş açıklama");
+        Product updated = productRepository.updateDetails(stale).orElseThrow();
+
+        assertEquals("Yeni Ad", updated.getName());
+        assertEquals(7, updated.getStock().getQuantity());
+        assertEquals(7, productRepository.findById(product.getId()).orElseThrow().getStock().getQuantity());
+        assertTrue(productRepository.updateDetails(Product.create("Yok", "Olmayan ürün",
+                new Price(BigDecimal.ONE, Currency.TRY), new Stock(1))).isEmpty());
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.turkcell.product_service.infrastructure.repositories;
+
+import com.turkcell.product_service.domain.entities.Product;
+import com.turkcell.product_service.domain.valueobjects.Currency;
+import com.turkcell.product_service.domain.valueobjects.Price;
+import com.turkcell.product_service.domain.valueobjects.Stock;
+import com.turkcell.product_service.infrastructure.bulkload.ProductBulkLoader;
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.search.ProductNameSearch;
+import com.turkcell.product_service.infrastructure.stock.HotStockLedger;
+import com.turkcell.product_service.messaging.producer.ProductInvalidationPublisher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProductRepositoryImplTest {
+    private final JpaProductRepository jpaProductRepository = mock(JpaProductRepository.class);
+    private final ProductNameSearch productNameSearch = mock(ProductNameSearch.class);
+    private final ProductRepositoryImpl repository = new ProductRepositoryImpl(jpaProductRepository,
+            mock(EntityManager.class), productNameSearch, mock(HotStockLedger.class), mock(ProductCache.class),
+            mock(ProductInvalidationPublisher.class), mock(ProductBulkLoader.class),
+            mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(jpaProductRepository.save(any(ProductEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void savedNameIsIndexedOnlyAfterCommit() {
+        Product product = product("Kurşun Kalem");
+
+        repository.save(product);
+        verify(productNameSearch, never()).index(any(), any());
+
+        commit();
+        verify(productNameSearch).index(product.getId().getValue(), "Kurşun Kalem");
+    }
+
+    @Test
+    void rolledBackWritesLeaveIndexUntouched() {
+        repository.save(product("Kurşun Kalem"));
+        repository.deleteById(Product.ProductId.generate());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(productNameSearch);
+    }
+
+    @Test
+    void deletedProductLeavesIndexAfterCommit() {
+        Product.ProductId id = Product.ProductId.generate();
+
+        repository.deleteById(id);
+        verify(productNameSearch, never()).remove(any());
+
+        commit();
+        verify(productNameSearch).remove(id.getValue());
+    }
+
+    private static Product product(String name) {
+        return Product.create(name, "Açıklama", new Price(new BigDecimal("10.00"), Currency.TRY), new Stock(5));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        complete(TransactionSynchronization.STATUS_COMMITTED, synchronizations);
+    }
+
+    private static void complete(int status) {
+        complete(status, TransactionSynchronizationManager.getSynchronizations());
+    }
+
+    private static void complete(int status, List<TransactionSynchronization> synchronizations) {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+}
@@ -0,0 +1,66 @@
+package com.turkcell.product_service.infrastructure.search;
+
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class InMemoryNgramProductNameSearchTest {
+    private final InMemoryNgramProductNameSearch search = new InMemoryNgramProductNameSearch(
+            mock(JpaProductRepository.class), mock(TransactionTemplate.class));
+
+    @Test
+    void renamedProductIsFoundOnlyByNewName() {
+        UUID id = UUID.randomUUID();
+        search.index(id, "Kırmızı Kalem");
+
+        search.index(id, "Mavi Defter");
+
+        assertEquals(List.of(), search.search("kalem", 0, 10));
+        assertEquals(List.of(id), search.search("defter", 0, 10));
+    }
+
+    @Test
+    void removedProductIsNoLongerFound() {
+        UUID id = UUID.randomUUID();
+        search.index(id, "Kurşun Kalem");
+
+        search.remove(id);
+        search.remove(id);
+
+        assertEquals(List.of(), search.search("kalem", 0, 10));
+        assertEquals(List.of(), search.search("ka", 0, 10));
+    }
+
+    @Test
+    void reindexNeverHidesProductFromConcurrentSearch() throws Exception {
+        UUID id = UUID.randomUUID();
+        search.index(id, "Kalem A");
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                search.index(id, i % 2 == 0 ? "Kalem B" : "Kalem A");
+            }
+            running.set(false);
+        });
+        int misses = 0;
+        while (running.get()) {
+            if (search.search("kalem", 0, 10).isEmpty()) {
+                misses++;
+            }
+        }
+        writer.get();
+
+        assertEquals(0, misses);
+        assertTrue(search.search("kalem a", 0, 10).contains(id));
+    }
+}
@@ -0,0 +1,234 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import com.turkcell.product_service.infrastructure.cache.ProductCache;
+import com.turkcell.product_service.infrastructure.entities.ProductEntity;
+import com.turkcell.product_service.infrastructure.repositories.JpaProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HotStockLedgerTest {
+    private final UUID productId = UUID.randomUUID();
+    private final JpaProductRepository jpaProductRepository = mock(JpaProductRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ProductCache productCache = mock(ProductCache.class);
+
+    private HotStockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        // Zamanlanmış flush testlere karışmasın diye aralık uzun tutulur
+        HotStockProperties properties = new HotStockProperties(true, List.of(productId), Duration.ofHours(1), 4);
+        when(jpaProductRepository.findAllById(List.of(productId)))
+                .thenReturn(List.of(new ProductEntity(productId, "Flash", "Flash sale ürünü", 1000, "TRY", 10)));
+        ledger = new HotStockLedger(properties, jpaProductRepository, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), productCache);
+        ledger.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.stop();
+    }
+
+    @Test
+    void committedStockWriteKeepsUnflushedReservations() {
+        assertTrue(ledger.tryDecrement(productId, 3));
+
+        writeStock(20, TransactionSynchronization.STATUS_COMMITTED);
+
+        // 20 yazıldı; bekleyen 3 adet flush'ta bu değerden düşülecek
+        assertEquals(OptionalInt.of(17), ledger.availableStock(productId));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.flush();
+        assertArrayEquals(new Object[] { 3, productId, 3 }, flushedArgs().get(0));
+        assertEquals(OptionalInt.of(17), ledger.availableStock(productId));
+        // Cache'teki ürün flush edilen stokla yeniden yüklensin
+        verify(productCache).invalidate(productId);
+    }
+
+    @Test
+    void stockWriteAfterFlushIsAppliedAsDelta() {
+        assertTrue(ledger.tryDecrement(productId, 4));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.flush();
+        assertTrue(ledger.tryDecrement(productId, 1));
+
+        // Veritabanında 6 var; 8'e çıkarılır, bekleyen 1 adet korunur
+        writeStock(8, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(OptionalInt.of(7), ledger.availableStock(productId));
+    }
+
+    @Test
+    void rolledBackStockWriteLeavesCounterUnchanged() {
+        assertTrue(ledger.tryDecrement(productId, 2));
+
+        writeStock(50, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(OptionalInt.of(8), ledger.availableStock(productId));
+    }
+
+    @Test
+    void stockWriteOutsideTransactionIsRejected() {
+        assertThrows(IllegalStateException.class, () -> ledger.beforeStockWrite(Map.of(productId, 5)));
+        // Takip edilmeyen ürünler transaction gerektirmez
+        ledger.beforeStockWrite(Map.of(UUID.randomUUID(), 5));
+    }
+
+    @Test
+    void flushWaitsUntilOpenStockWriteCompletes() throws Exception {
+        assertTrue(ledger.tryDecrement(productId, 1));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.beforeStockWrite(Map.of(productId, 30));
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(ledger::flush);
+
+        assertThrows(TimeoutException.class, () -> flush.get(200, TimeUnit.MILLISECONDS));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        flush.get(5, TimeUnit.SECONDS);
+
+        assertArrayEquals(new Object[] { 1, productId, 1 }, flushedArgs().get(0));
+        assertEquals(OptionalInt.of(29), ledger.availableStock(productId));
+    }
+
+    @Test
+    void releasedReservationIsNeverWritten() {
+        assertTrue(ledger.tryDecrement(productId, 4));
+        assertTrue(ledger.tryDecrement(productId, 1));
+
+        ledger.release(productId, 4);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.flush();
+
+        assertArrayEquals(new Object[] { 1, productId, 1 }, flushedArgs().get(0));
+        assertEquals(OptionalInt.of(9), ledger.availableStock(productId));
+    }
+
+    @Test
+    void reservationReleasedAfterFlushIsAddedBack() {
+        assertTrue(ledger.tryDecrement(productId, 4));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.flush();
+
+        ledger.release(productId, 4);
+        ledger.flush();
+
+        // Eksi fark stoğu veritabanında geri ekler
+        assertArrayEquals(new Object[] { -4, productId, -4 }, flushedBatches().get(1).get(0));
+        assertEquals(OptionalInt.of(10), ledger.availableStock(productId));
+    }
+
+    @Test
+    void failedFlushIsRetriedWithSameDelta() {
+        assertTrue(ledger.tryDecrement(productId, 2));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Veritabanına bağlanılamadı"))
+                .thenReturn(new int[] { 1 });
+
+        assertThrows(DataAccessResourceFailureException.class, ledger::flush);
+        assertTrue(ledger.tryDecrement(productId, 1));
+        ledger.flush();
+
+        List<List<Object[]>> batches = flushedBatches();
+        assertArrayEquals(new Object[] { 2, productId, 2 }, batches.get(0).get(0));
+        assertArrayEquals(new Object[] { 3, productId, 3 }, batches.get(1).get(0));
+        assertEquals(OptionalInt.of(7), ledger.availableStock(productId));
+    }
+
+    @Test
+    void unwritableDeltaResyncsCounterFromDatabase() {
+        assertTrue(ledger.tryDecrement(productId, 6));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 0 });
+        // Stok ledger dışından 4'e düşürülmüş
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(productId))).thenReturn(List.of(4));
+
+        ledger.flush();
+
+        assertEquals(OptionalInt.of(4), ledger.availableStock(productId));
+        assertTrue(ledger.tryDecrement(productId, 1));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+        ledger.flush();
+        // Yazılamayan 6 adet tekrar denenmez
+        assertArrayEquals(new Object[] { 1, productId, 1 }, flushedBatches().get(1).get(0));
+        assertEquals(OptionalInt.of(3), ledger.availableStock(productId));
+    }
+
+    @Test
+    void deletedProductIsForgottenOnFlush() {
+        assertTrue(ledger.tryDecrement(productId, 1));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 0 });
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(productId))).thenReturn(List.of());
+
+        ledger.flush();
+
+        assertFalse(ledger.isTracked(productId));
+    }
+
+    @Test
+    void decrementAfterForgetIsRejected() {
+        ledger.forget(productId);
+
+        assertFalse(ledger.tryDecrement(productId, 1));
+        assertEquals(OptionalInt.empty(), ledger.availableStock(productId));
+        ledger.flush();
+    }
+
+    private void writeStock(int quantity, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        ledger.beforeStockWrite(Map.of(productId, quantity));
+        completeTransaction(status);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+
+    private List<Object[]> flushedArgs() {
+        return flushedBatches().get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> flushedBatches() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,109 @@
+package com.turkcell.product_service.infrastructure.stock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedStockCounterTest {
+
+    @Test
+    void concurrentDecrementsNeverOversell() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(1_000, 8);
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (counter.tryDecrement(3)) {
+                            reserved.addAndGet(3);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 1000 = 333 * 3 + 1; kalan 1 adet hiçbir 3'lük düşümü karşılamaz
+        assertEquals(999, reserved.get());
+        assertEquals(1, counter.sum());
+    }
+
+    @Test
+    void decrementLargerThanAnyStripeMergesStripes() {
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+        assertTrue(counter.tryDecrement(9));
+        assertEquals(1, counter.sum());
+        assertFalse(counter.tryDecrement(2));
+        assertEquals(1, counter.sum());
+    }
+
+    @Test
+    void adjustAddsAndRemovesStockWithoutGoingNegative() {
+        StripedStockCounter counter = new StripedStockCounter(5, 3);
+
+        assertEquals(12, counter.adjust(7));
+        assertEquals(2, counter.adjust(-10));
+        assertEquals(0, counter.adjust(-5));
+        assertFalse(counter.tryDecrement(1));
+        assertEquals(Integer.MAX_VALUE, counter.adjust(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void adjustDoesNotLoseConcurrentDecrements() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(10_000, 8);
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (counter.tryDecrement(1)) {
+                            reserved.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                counter.adjust(1);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4_000, reserved.get());
+        assertEquals(10_000 + 100 - 4_000, counter.sum());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedStockCounter(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new StripedStockCounter(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedStockCounter(1, 1).add(-1));
+    }
+}
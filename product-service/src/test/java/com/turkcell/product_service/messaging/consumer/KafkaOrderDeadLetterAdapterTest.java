@@ -0,0 +1,160 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.codec.BinaryEventCodec;
+import com.turkcell.product_service.application.dtos.OrderDeadLetterResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.mock.MockConsumerFactory;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaOrderDeadLetterAdapterTest {
+    private static final String DLT = "order-topic-dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    private final OrderRetryProperties properties = new OrderRetryProperties("order-topic",
+            List.of(Duration.ofSeconds(1)), 1, null);
+    private final List<MockProducer<byte[], byte[]>> producers = new CopyOnWriteArrayList<>();
+
+    /** Consumer group'un broker'da tutulan offset'leri; consumer kapansa da korunur */
+    private final Map<TopicPartition, OffsetAndMetadata> groupOffsets = new ConcurrentHashMap<>();
+
+    /**
+     * Adapter her çağrıda consumer'ı kapatır; aynı consumer yeniden kullanılır.
+     * MockConsumer assign() sırasında commit'leri sildiği için group offset'leri ayrıca tutulur.
+     */
+    private final MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            groupOffsets.putAll(offsets);
+        }
+
+        @Override
+        public synchronized Map<TopicPartition, OffsetAndMetadata> committed(Set<TopicPartition> partitions) {
+            Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+            partitions.forEach(partition -> committed.put(partition, groupOffsets.get(partition)));
+            return committed;
+        }
+
+        @Override
+        public synchronized void close(Duration timeout) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private KafkaOrderDeadLetterAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        MockProducerFactory<byte[], byte[]> producerFactory = new MockProducerFactory<>(() -> {
+            MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(),
+                    new ByteArraySerializer());
+            producers.add(producer);
+            return producer;
+        });
+        OrderRetryPublisher publisher = new OrderRetryPublisher(producerFactory, BinaryEventCodec.standard(),
+                properties, new SimpleMeterRegistry());
+        adapter = new KafkaOrderDeadLetterAdapter(new MockConsumerFactory<>(() -> consumer), properties, publisher);
+
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, node, new Node[] { node },
+                new Node[] { node })));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+    }
+
+    @Test
+    void replayStopsAtMaxRecordsAndResumesFromCommittedOffset() {
+        consumer.updateEndOffsets(Map.of(PARTITION, 5L));
+
+        deliverOnNextPoll(5);
+        OrderDeadLetterResponse first = adapter.replay(3);
+
+        assertEquals(3, first.getReplayedCount());
+        assertEquals(2, first.getPendingCount());
+        assertEquals(3L, committedOffset());
+        assertEquals(List.of("order-0", "order-1", "order-2"), replayedValues());
+
+        deliverOnNextPoll(5);
+        OrderDeadLetterResponse second = adapter.replay(100);
+
+        assertEquals(2, second.getReplayedCount());
+        assertEquals(0, second.getPendingCount());
+        assertEquals(5L, committedOffset());
+        assertEquals(List.of("order-0", "order-1", "order-2", "order-3", "order-4"), replayedValues());
+        assertEquals(0, adapter.getStatus().getPendingCount());
+    }
+
+    @Test
+    void recordsArrivingAfterEndOffsetSnapshotAreLeftForNextReplay() {
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+
+        // Replay başladıktan sonra DLT'ye düşen 2 kayıt
+        deliverOnNextPoll(5);
+        OrderDeadLetterResponse response = adapter.replay(100);
+
+        assertEquals(3, response.getReplayedCount());
+        assertEquals(0, response.getPendingCount());
+        assertEquals(3L, committedOffset());
+        assertEquals(List.of("order-0", "order-1", "order-2"), replayedValues());
+    }
+
+    @Test
+    void replayedRecordsKeepTheirKeyAndGoToMainTopic() {
+        consumer.updateEndOffsets(Map.of(PARTITION, 1L));
+
+        deliverOnNextPoll(1);
+        adapter.replay(10);
+
+        ProducerRecord<byte[], byte[]> replayed = sent().get(0);
+        assertEquals("order-topic", replayed.topic());
+        assertEquals("product-0", new String(replayed.key(), StandardCharsets.UTF_8));
+        assertEquals(0, replayed.headers().toArray().length);
+    }
+
+    private void deliverOnNextPoll(int count) {
+        consumer.schedulePollTask(() -> IntStream.range(0, count).forEach(offset -> consumer.addRecord(
+                new ConsumerRecord<>(DLT, 0, offset, bytes("product-" + offset), bytes("order-" + offset)))));
+    }
+
+    private long committedOffset() {
+        OffsetAndMetadata offset = groupOffsets.get(PARTITION);
+        return offset == null ? 0L : offset.offset();
+    }
+
+    private List<String> replayedValues() {
+        return sent().stream().map(record -> new String(record.value(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private List<ProducerRecord<byte[], byte[]>> sent() {
+        return producers.stream().flatMap(producer -> producer.history().stream()).toList();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.OrderCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class KeyedOrderProcessorTest {
+    private static final int PRODUCTS = 20;
+    private static final int ORDERS_PER_PRODUCT = 50;
+    private static final int MAX_IN_FLIGHT = 16;
+
+    @Test
+    void keepsPerProductOrderWhileProcessingProductsInParallel() throws Exception {
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch acknowledged = new CountDownLatch(PRODUCTS * ORDERS_PER_PRODUCT);
+        List<String> productIds = IntStream.range(0, PRODUCTS).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        try (KeyedOrderProcessor processor = new KeyedOrderProcessor(event -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(ThreadLocalRandom.current().nextInt(0, 3));
+            processed.computeIfAbsent(event.productId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.quantity());
+            running.decrementAndGet();
+        }, (event, e) -> fail("Denemeler tükenmemeli"), MAX_IN_FLIGHT, 10, Duration.ofMillis(1),
+                Duration.ofMillis(10), Duration.ofSeconds(10))) {
+            // Tek consumer thread'i gibi: ürünler karışık, her ürünün kayıtları sırayla gelir
+            for (int sequence = 1; sequence <= ORDERS_PER_PRODUCT; sequence++) {
+                for (int i = 0; i < PRODUCTS; i++) {
+                    processor.submit(new OrderCreatedEvent(productIds.get(i), sequence), i % 3,
+                            acknowledged::countDown);
+                }
+            }
+            assertTrue(acknowledged.await(30, TimeUnit.SECONDS), "Tüm kayıtlar acknowledge edilmedi");
+        }
+
+        List<Integer> expectedSequence = IntStream.rangeClosed(1, ORDERS_PER_PRODUCT).boxed().toList();
+        for (String productId : productIds) {
+            assertEquals(expectedSequence, processed.get(productId), "Ürün " + productId + " için sıra bozuldu");
+        }
+        assertTrue(maxRunning.get() > 1, "Farklı ürünler paralel işlenmedi");
+        assertTrue(maxRunning.get() <= MAX_IN_FLIGHT, "Eşzamanlı kayıt sayısı sınırı aşıldı: " + maxRunning.get());
+    }
+
+    @Test
+    void failedRecordIsRetriedBeforeLaterRecordsOfSameProduct() throws Exception {
+        String productId = UUID.randomUUID().toString();
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> acknowledged = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+
+        try (KeyedOrderProcessor processor = new KeyedOrderProcessor(event -> {
+            if (event.quantity() == 1 && attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Veritabanı erişilemiyor");
+            }
+            processed.add(event.quantity());
+        }, (event, e) -> fail("Denemeler tükenmemeli"), MAX_IN_FLIGHT, 10, Duration.ofMillis(1),
+                Duration.ofMillis(10), Duration.ofSeconds(10))) {
+            for (int sequence = 1; sequence <= 3; sequence++) {
+                int current = sequence;
+                processor.submit(new OrderCreatedEvent(productId, sequence), 0, () -> {
+                    acknowledged.add(current);
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(List.of(1, 2, 3), processed);
+        assertEquals(List.of(1, 2, 3), acknowledged);
+    }
+
+    @Test
+    void recordIsHandedOffWhenAttemptsAreExhausted() throws Exception {
+        String productId = UUID.randomUUID().toString();
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> handedOff = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+
+        try (KeyedOrderProcessor processor = new KeyedOrderProcessor(event -> {
+            if (event.quantity() == 1) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Veritabanı erişilemiyor");
+            }
+            processed.add(event.quantity());
+        }, (event, e) -> handedOff.add(event.quantity()), 1, 3, Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofSeconds(10))) {
+            processor.submit(new OrderCreatedEvent(productId, 1), 0, done::countDown);
+            // Tek izin; devredilen kayıt izni bırakmazsa ikinci kayıt hiç eklenemez
+            assertTrue(processor.submit(new OrderCreatedEvent(productId, 2), 0, done::countDown));
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, processor.inFlight());
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(List.of(1), handedOff);
+        assertEquals(List.of(2), processed);
+    }
+
+    @Test
+    void failedHandOffIsRetriedAndRecordIsNotAcknowledgedMeanwhile() throws Exception {
+        AtomicInteger handOffs = new AtomicInteger();
+        CountDownLatch acknowledged = new CountDownLatch(1);
+
+        try (KeyedOrderProcessor processor = new KeyedOrderProcessor(event -> {
+            throw new IllegalStateException("Veritabanı erişilemiyor");
+        }, (event, e) -> {
+            if (handOffs.incrementAndGet() < 3) {
+                throw new IllegalStateException("Kafka erişilemiyor");
+            }
+        }, 1, 1, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(10))) {
+            processor.submit(new OrderCreatedEvent(UUID.randomUUID().toString(), 1), 0, acknowledged::countDown);
+            assertTrue(acknowledged.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, handOffs.get());
+    }
+
+    @Test
+    void submitGivesUpWhenInFlightLimitStaysFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch acknowledged = new CountDownLatch(2);
+        List<String> rejectedAcks = Collections.synchronizedList(new ArrayList<>());
+
+        try (KeyedOrderProcessor processor = new KeyedOrderProcessor(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, (event, e) -> fail("Denemeler tükenmemeli"), 1, 10, Duration.ofMillis(1), Duration.ofMillis(10),
+                Duration.ofMillis(50))) {
+            assertTrue(processor.submit(new OrderCreatedEvent(UUID.randomUUID().toString(), 1), 0,
+                    acknowledged::countDown));
+
+            long start = System.nanoTime();
+            assertFalse(processor.submit(new OrderCreatedEvent(UUID.randomUUID().toString(), 1), 0,
+                    () -> rejectedAcks.add("reddedilen kayıt acknowledge edildi")));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+            assertEquals(1, processor.inFlight());
+
+            release.countDown();
+            // Container kaydı yeniden okuduğunda yer açılmıştır
+            assertTrue(processor.submit(new OrderCreatedEvent(UUID.randomUUID().toString(), 1), 0,
+                    acknowledged::countDown));
+            assertTrue(acknowledged.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of(), rejectedAcks);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import com.turkcell.product_service.application.dtos.StockBatchReservationResponse;
+import com.turkcell.product_service.application.usecases.ReserveStockBatchUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderRetryConsumerTest {
+    private static final String FIRST_TIER = "order-topic-retry-1000";
+
+    private final OrderRetryProperties properties = new OrderRetryProperties("order-topic",
+            List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), 3, null);
+    private final OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), 2);
+    private final List<MockProducer<byte[], byte[]>> producers = new CopyOnWriteArrayList<>();
+    private final ReserveStockBatchUseCase reserveStockBatchUseCase = mock(ReserveStockBatchUseCase.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private Consumer<Message<OrderCreatedEvent>> retryConsumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockProducerFactory<byte[], byte[]> producerFactory = new MockProducerFactory<>(() -> {
+            MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(),
+                    new ByteArraySerializer());
+            producers.add(producer);
+            return producer;
+        });
+        OrderRetryPublisher publisher = new OrderRetryPublisher(producerFactory, BinaryEventCodec.standard(),
+                properties, meterRegistry);
+        retryConsumer = new OrderRetryConsumer().orderCreatedRetry(reserveStockBatchUseCase, publisher, meterRegistry);
+    }
+
+    @Test
+    void waitsUntilRecordIsDueBeforeProcessing() {
+        when(reserveStockBatchUseCase.execute(anyList())).thenReturn(new StockBatchReservationResponse(1, 1, 0));
+        long dueAt = System.currentTimeMillis() + 300;
+
+        long start = System.nanoTime();
+        retryConsumer.accept(retryMessage(1, dueAt));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMillis >= 250, "Kayıt vadesinden önce işlendi: " + elapsedMillis + " ms");
+        assertEquals(1.0, meterRegistry.get("product.orders.retry.succeeded").tag("topic", FIRST_TIER)
+                .counter().count());
+        assertEquals(List.of(), sent());
+    }
+
+    @Test
+    void overdueRecordIsProcessedWithoutWaiting() {
+        when(reserveStockBatchUseCase.execute(anyList())).thenReturn(new StockBatchReservationResponse(1, 1, 0));
+
+        long start = System.nanoTime();
+        retryConsumer.accept(retryMessage(1, System.currentTimeMillis() - 5_000));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 250);
+    }
+
+    @Test
+    void failedRetryMovesToNextTierThenToDeadLetterTopic() {
+        when(reserveStockBatchUseCase.execute(anyList())).thenThrow(new IllegalStateException("Kilit zaman aşımı"));
+
+        retryConsumer.accept(retryMessage(1, 0L));
+        retryConsumer.accept(retryMessage(2, 0L));
+
+        List<ProducerRecord<byte[], byte[]>> sent = sent();
+        assertEquals(List.of("order-topic-retry-10000", "order-topic-dlt"),
+                sent.stream().map(ProducerRecord::topic).toList());
+        assertEquals("2", header(sent.get(0), OrderRetryHeaders.ATTEMPTS));
+        assertEquals("3", header(sent.get(1), OrderRetryHeaders.ATTEMPTS));
+    }
+
+    @Test
+    void infrastructureFailureIsRetriedInPlace() {
+        when(reserveStockBatchUseCase.execute(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Veritabanına bağlanılamadı"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> retryConsumer.accept(retryMessage(1, 0L)));
+        assertEquals(List.of(), sent());
+    }
+
+    private Message<OrderCreatedEvent> retryMessage(int attempts, long dueAt) {
+        return MessageBuilder.withPayload(event)
+                .setHeader(KafkaHeaders.RECEIVED_TOPIC, FIRST_TIER)
+                .setHeader(OrderRetryHeaders.ATTEMPTS, OrderRetryHeaders.bytes(attempts))
+                .setHeader(OrderRetryHeaders.DUE_AT, OrderRetryHeaders.bytes(dueAt))
+                .build();
+    }
+
+    private List<ProducerRecord<byte[], byte[]>> sent() {
+        return producers.stream().flatMap(producer -> producer.history().stream()).toList();
+    }
+
+    private static String header(ProducerRecord<byte[], byte[]> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
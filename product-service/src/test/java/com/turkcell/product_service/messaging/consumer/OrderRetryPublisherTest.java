@@ -0,0 +1,88 @@
+package com.turkcell.product_service.messaging.consumer;
+
+import com.turkcell.events.OrderCreatedEvent;
+import com.turkcell.events.codec.BinaryEventCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OrderRetryPublisherTest {
+    private final OrderRetryProperties properties = new OrderRetryProperties("order-topic",
+            List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)), 3, null);
+    private final OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), 2);
+
+    private final List<MockProducer<byte[], byte[]>> producers = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderRetryPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // KafkaTemplate her gönderimden sonra producer'ı kapatır; her çağrıya yeni producer verilir
+        MockProducerFactory<byte[], byte[]> producerFactory = new MockProducerFactory<>(() -> {
+            MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(),
+                    new ByteArraySerializer());
+            producers.add(producer);
+            return producer;
+        });
+        publisher = new OrderRetryPublisher(producerFactory, BinaryEventCodec.standard(), properties, meterRegistry);
+    }
+
+    @Test
+    void failedEventMovesThroughRetryTiersThenToDeadLetterTopic() {
+        RuntimeException error = new IllegalStateException("Kilit zaman aşımı");
+
+        publisher.retryOrDeadLetter(event, 1, error);
+        publisher.retryOrDeadLetter(event, 2, error);
+        publisher.retryOrDeadLetter(event, 3, error);
+
+        List<ProducerRecord<byte[], byte[]>> sent = sent();
+        assertEquals(List.of("order-topic-retry-1000", "order-topic-retry-10000", "order-topic-dlt"),
+                sent.stream().map(ProducerRecord::topic).toList());
+        // Aynı ürünün retry kayıtları da aynı partition'a düşsün diye productId anahtar olarak kalır
+        sent.forEach(record -> assertArrayEquals(event.productId().getBytes(StandardCharsets.UTF_8), record.key()));
+        assertEquals(event, BinaryEventCodec.standard().decode(sent.get(0).value(), OrderCreatedEvent.class));
+        assertEquals("2", header(sent.get(1), OrderRetryHeaders.ATTEMPTS));
+        assertNotNull(header(sent.get(1), OrderRetryHeaders.DUE_AT));
+        assertNull(header(sent.get(2), OrderRetryHeaders.DUE_AT));
+        assertEquals(IllegalStateException.class.getName(), header(sent.get(2), OrderRetryHeaders.EXCEPTION));
+
+        assertEquals(1.0, meterRegistry.get("product.orders.retry.published")
+                .tag("topic", "order-topic-retry-1000").counter().count());
+        assertEquals(1.0, meterRegistry.get("product.orders.dlt.published").counter().count());
+    }
+
+    @Test
+    void fatalErrorGoesStraightToDeadLetterTopic() {
+        publisher.retryOrDeadLetter(event, 1, new IllegalArgumentException("Geçersiz ürün ID formatı"));
+
+        assertEquals(List.of("order-topic-dlt"), sent().stream().map(ProducerRecord::topic).toList());
+        assertEquals(1.0, meterRegistry.get("product.orders.dlt.published")
+                .tag("exception", "IllegalArgumentException").counter().count());
+    }
+
+    private List<ProducerRecord<byte[], byte[]>> sent() {
+        return producers.stream().flatMap(producer -> producer.history().stream()).toList();
+    }
+
+    private static String header(ProducerRecord<byte[], byte[]> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,194 @@
+package com.turkcell.product_service.web.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dtos.PriceDto;
+import com.turkcell.product_service.application.dtos.ProductJsonResponse;
+import com.turkcell.product_service.application.dtos.ProductPageResponse;
+import com.turkcell.product_service.application.dtos.ProductResponse;
+import com.turkcell.product_service.application.dtos.StockDto;
+import com.turkcell.product_service.application.ports.ProductServicePort;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductControllerTest {
+    private static final String ID = "0b7e7a52-4f6c-4c3e-9d1a-5d1f0a3c2b10";
+    private static final String BODY = "{\"id\":\"" + ID + "\",\"name\":\"Kalem\"}";
+
+    private final ProductServicePort productService = mock(ProductServicePort.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProductController(productService, new ObjectMapper()))
+            .build();
+
+    @Test
+    void productETagComesFromTheReturnedBody() throws Exception {
+        when(productService.getProductJsonById(ID))
+                .thenReturn(new ProductJsonResponse(BODY.getBytes(StandardCharsets.UTF_8), "3f9a-2a"));
+
+        mockMvc.perform(get("/api/v1/products/{id}", ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3f9a-2a\""))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        when(productService.getProductJsonById(ID))
+                .thenReturn(new ProductJsonResponse(BODY.getBytes(StandardCharsets.UTF_8), "3f9a-2a"));
+
+        mockMvc.perform(get("/api/v1/products/{id}", ID).header(HttpHeaders.IF_NONE_MATCH, "\"3f9a-2a\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void staleIfNoneMatchReturnsCurrentProduct() throws Exception {
+        when(productService.getProductJsonById(ID))
+                .thenReturn(new ProductJsonResponse(BODY.getBytes(StandardCharsets.UTF_8), "3f9a-29"));
+
+        mockMvc.perform(get("/api/v1/products/{id}", ID).header(HttpHeaders.IF_NONE_MATCH, "\"3f9a-2a\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3f9a-29\""))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void pageETagIsSentAsHeaderOnlyAndHonoursIfNoneMatch() throws Exception {
+        ProductResponse product = new ProductResponse(ID, "Kalem", "Mavi",
+                new PriceDto(new BigDecimal("10.00"), "TRY"), new StockDto(5));
+        when(productService.getProductsPage(null, 10))
+                .thenReturn(new ProductPageResponse(List.of(product), null, false, "a1b2c3"));
+
+        mockMvc.perform(get("/api/v1/products/page").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a1b2c3\""))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.etag").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/products/page").param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"a1b2c3\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void exportWritesOneProductPerLineFromTheResumeCursor() throws Exception {
+        ProductResponse first = product("1c2d3e4f-0000-4000-8000-000000000001", "Kalem");
+        ProductResponse second = product("1c2d3e4f-0000-4000-8000-000000000002", "Silgi");
+        exportReturns(ID, first, second);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/products/export").param("after", ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        // Satırlar kök değer ayırıcısı (boşluk) olmadan başlar
+        assertEquals(ndjson(first, second), result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        verify(productService).exportProducts(eq(ID), any());
+    }
+
+    @Test
+    void exportIsGzippedWhenClientAcceptsGzip() throws Exception {
+        ProductResponse first = product("1c2d3e4f-0000-4000-8000-000000000001", "Kalem");
+        exportReturns(null, first);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/products/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals(ndjson(first), new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportIsNotGzippedWhenClientRefusesGzip() throws Exception {
+        ProductResponse first = product("1c2d3e4f-0000-4000-8000-000000000001", "Kalem");
+        exportReturns(null, first);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/products/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        assertEquals(ndjson(first), result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void gzipIsAcceptedOnlyWithPositiveQuality() {
+        assertTrue(ProductController.acceptsGzip("gzip"));
+        assertTrue(ProductController.acceptsGzip("br, GZIP ; q=0.5"));
+        assertTrue(ProductController.acceptsGzip("*"));
+        assertFalse(ProductController.acceptsGzip(null));
+        assertFalse(ProductController.acceptsGzip("gzip;q=0"));
+        assertFalse(ProductController.acceptsGzip("gzip;q=0.000, *"));
+        assertFalse(ProductController.acceptsGzip("x-gzip"));
+        assertFalse(ProductController.acceptsGzip("identity, *;q=0"));
+        assertFalse(ProductController.acceptsGzip("gzip;q=abc"));
+    }
+
+    private void exportReturns(String cursor, ProductResponse... products) {
+        doAnswer(invocation -> {
+            Consumer<ProductResponse> sink = invocation.getArgument(1);
+            for (ProductResponse product : products) {
+                sink.accept(product);
+            }
+            return null;
+        }).when(productService).exportProducts(eq(cursor), any());
+    }
+
+    private static ProductResponse product(String id, String name) {
+        return new ProductResponse(id, name, "Mavi", new PriceDto(new BigDecimal("10.00"), "TRY"), new StockDto(5));
+    }
+
+    private static String ndjson(ProductResponse... products) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        StringBuilder lines = new StringBuilder();
+        for (ProductResponse product : products) {
+            lines.append(objectMapper.writeValueAsString(product)).append('\n');
+        }
+        return lines.toString();
+    }
+}